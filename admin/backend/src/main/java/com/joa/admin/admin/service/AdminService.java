@@ -46,6 +46,7 @@ public class AdminService implements UserDetailsService {
     private final ModelMapper modelMapper;
     private final PasswordEncoder encoder;
     private final JwtUtil jwtUtil;
+    private final ApiKeyInvalidationPublisher apiKeyInvalidationPublisher;
     private JavaMailSender mailSender;
 
     //회원가입
@@ -218,6 +219,7 @@ public class AdminService implements UserDetailsService {
         UUID newApiKey = UUID.randomUUID();
 
         apiRepository.updateApiKey(UUID.fromString(adminId), newApiKey);
+        apiKeyInvalidationPublisher.publish(UUID.fromString(adminId));
 
         return newApiKey.toString();
     }
@@ -233,6 +235,7 @@ public class AdminService implements UserDetailsService {
         }
 
         api.deleteSoftly();
+        apiKeyInvalidationPublisher.publish(UUID.fromString(adminId));
 
     }
 
@@ -0,0 +1,44 @@
+package com.joa.admin.admin.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyInvalidationPublisher {
+
+    // openapi 서버의 ApiKeyInvalidationListener가 구독하는 채널
+    public static final String CHANNEL = "joa:api-key:invalidate";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 재발급/삭제가 커밋된 뒤에 openapi 서버의 API Key 캐시를 비우도록 알림
+    public void publish(UUID adminId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(adminId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(adminId);
+            }
+        });
+    }
+
+    private void send(UUID adminId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, adminId.toString());
+        } catch (RuntimeException e) {
+            // 발행 실패 시에도 openapi 캐시는 TTL로 만료됨
+            log.warn("API Key 무효화 메시지 발행 실패 adminId: {}", adminId, e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.joa.openapi.account.dto;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceDto {
+
+    private String accountId;
+    private UUID bankId;
+    private UUID holderId;
+    private String holderName;
+    private Long prevBalance;   //변경 전 잔액
+    private Long balance;       //변경 후 잔액
+    private boolean applied;    //잔액 부족으로 반영되지 않은 경우 false
+}
@@ -1,9 +1,11 @@
 package com.joa.openapi.account.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.joa.openapi.account.entity.Account;
 import com.joa.openapi.account.enums.TaxType;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 @Getter
@@ -18,8 +20,10 @@ public class AccountCreateResponseDto {
     private Long balance;
     private Boolean isDormant;
     private Long transferLimit;
-    private String startDate;
-    private String endDate;
+    @JsonFormat(pattern = "MM/dd/yyyy")
+    private LocalDate startDate;
+    @JsonFormat(pattern = "MM/dd/yyyy")
+    private LocalDate endDate;
     private Integer term;
     private String depositAccount;
     private String withdrawAccount;
@@ -0,0 +1,28 @@
+package com.joa.openapi.account.dto;
+
+import com.joa.openapi.account.enums.TaxType;
+import com.joa.openapi.product.enums.PaymentType;
+import com.joa.openapi.product.enums.ProductType;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 만기 지급 계산에 필요한 계좌 + 상품 값, 상품을 조인해서 한 번에 조회 (상품이 없으면 상품 값은 null)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountMaturityDto {
+
+    private String accountId;
+    private UUID bankId;
+    private Long balance;
+    private Long amount;        //원금 (적금은 월 납입액)
+    private Integer term;
+    private TaxType taxType;
+    private Double rate;
+    private ProductType productType;
+    private PaymentType paymentType;
+}
@@ -23,5 +23,7 @@ public class AccountSearchRequestDto {
     private AccountKeywordType keywordType; // 검색키워드타입 (계좌이름별, 계좌번호별, 고객이름별, 상품이름별, 더미이름별)
     private String searchKeyword; //검색명
 
+    private Integer maturingWithinDays; //오늘부터 n일 안에 만기인 계좌만 (30이면 30일 이내 만기)
+
     private AccountSortBy sortBy = LATEST;   //정렬 (잔액적은순/많은순, 최신순/과거순, 만기가까운순/만기먼순)
 }
\ No newline at end of file
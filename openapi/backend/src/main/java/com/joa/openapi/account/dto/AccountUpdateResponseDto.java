@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -21,8 +22,10 @@ public class AccountUpdateResponseDto {
     private Long balance;
     private Boolean isDormant;
     private Long transferLimit;
-    private String startDate;
-    private String endDate;
+    @JsonFormat(pattern = "MM/dd/yyyy")
+    private LocalDate startDate;
+    @JsonFormat(pattern = "MM/dd/yyyy")
+    private LocalDate endDate;
     private Integer term;
     private String depositAccount;
     private String withdrawAccount;
@@ -10,8 +10,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 import static lombok.AccessLevel.PROTECTED;
@@ -33,8 +35,8 @@ public class Account extends BaseEntity {
     private Long transferLimit;
     private Integer paymentNum;
     private Integer nonPaymentNum;
-    private String startDate;
-    private String endDate;
+    private LocalDate startDate;
+    private LocalDate endDate;
     private Integer term;
     private String depositAccount;
     private String withdrawAccount;
@@ -42,6 +44,11 @@ public class Account extends BaseEntity {
     private UUID bankId;
     private TaxType taxType;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member holder;
@@ -0,0 +1,25 @@
+package com.joa.openapi.account.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PROTECTED;
+
+// 계좌 일련번호 발급 현황, 서버마다 AccountNumberBlockRepository로 구간을 받아 가면서 nextValue 증가
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class AccountNumberBlock {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private Long nextValue;             // 아직 어느 서버에도 나가지 않은 첫 번호
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,83 @@
+package com.joa.openapi.account.migration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * account.start_date, end_date를 MM/dd/yyyy 문자열에서 DATE로 변경 (Flyway가 빈으로 등록된 JavaMigration을 함께 실행)
+ * ALTER ... MODIFY는 테이블을 복사하는 동안 쓰기를 막기 때문에 새 DATE 컬럼을 만들어 계좌번호 순 chunk-size건씩 짧게 채운 뒤 이름만 바꿔치기
+ * 바꾸기 전 컬럼은 *_legacy로 남김, 다음 배포에서 삭제
+ * 새 DB는 ddl-auto가 처음부터 DATE로 만들기 때문에 할 일 없음
+ * FlywayConfig가 웹 서버가 요청을 받기 전에 migrate하므로 이 노드의 엔티티(LocalDate)가 변환 전 문자열 컬럼을 읽는 일은 없음
+ * 변환이 끝나기 전에 기동하는 다른 노드는 Flyway 잠금에서 기다렸다가 변환이 끝난 뒤에 요청을 받음
+ */
+@Slf4j
+@Component
+public class V5__AccountDateColumns extends BaseJavaMigration {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    // 예전 형식(MM/dd/yyyy)과 컬럼이 바뀌기 전에 엔티티가 쓴 형식(yyyy-MM-dd) 모두 변환
+    private static final String TO_DATE = "CASE WHEN %1$s LIKE '__/__/____' THEN STR_TO_DATE(%1$s, '%%m/%%d/%%Y') "
+            + "WHEN %1$s LIKE '____-__-__' THEN STR_TO_DATE(%1$s, '%%Y-%%m-%%d') END";
+    private static final String FILL = "UPDATE account SET start_date_new = " + TO_DATE.formatted("start_date")
+            + ", end_date_new = " + TO_DATE.formatted("end_date");
+    private static final String FILL_LEGACY = "UPDATE account SET start_date = " + TO_DATE.formatted("start_date_legacy")
+            + ", end_date = " + TO_DATE.formatted("end_date_legacy");
+
+    // 청크마다 커밋
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (isDate(connection)) return;
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        jdbcTemplate.execute("ALTER TABLE account ADD COLUMN start_date_new DATE NULL, ADD COLUMN end_date_new DATE NULL");
+
+        String after = "";
+        long filled = 0;
+        while (true) {
+            List<String> ids = jdbcTemplate.queryForList("SELECT id FROM account WHERE id > ? ORDER BY id LIMIT ?", String.class, after, CHUNK_SIZE);
+            if (ids.isEmpty()) break;
+
+            jdbcTemplate.update(FILL + " WHERE id >= ? AND id <= ?", ids.get(0), ids.get(ids.size() - 1));
+            filled += ids.size();
+            after = ids.get(ids.size() - 1);
+            log.info("계좌 날짜 컬럼 변환 중 {}건", filled);
+        }
+        // 채우는 동안 새로 생긴 계좌
+        jdbcTemplate.update(FILL + " WHERE end_date_new IS NULL AND end_date IS NOT NULL");
+
+        // 이름만 바꾸는 변경이라 복사 없이 바로 끝남, 바꾸기 직전에 생긴 계좌는 바꾼 뒤에 한 번 더 채움
+        jdbcTemplate.execute("ALTER TABLE account RENAME COLUMN start_date TO start_date_legacy, RENAME COLUMN end_date TO end_date_legacy, "
+                + "RENAME COLUMN start_date_new TO start_date, RENAME COLUMN end_date_new TO end_date");
+        jdbcTemplate.update(FILL_LEGACY + " WHERE end_date IS NULL AND end_date_legacy IS NOT NULL");
+
+        // V4 인덱스는 이름을 바꾼 예전 컬럼에 걸려 있으므로 새 컬럼으로 다시 만듦 (읽기, 쓰기를 막지 않음)
+        jdbcTemplate.execute("ALTER TABLE account DROP INDEX idx_account_end_date_bank_id, "
+                + "ADD INDEX idx_account_end_date_bank_id (end_date, bank_id), ALGORITHM=INPLACE, LOCK=NONE");
+        log.info("계좌 날짜 컬럼 변환 완료 {}건", filled);
+    }
+
+    private boolean isDate(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT end_date FROM account WHERE 1 = 0")) {
+            return rs.getMetaData().getColumnType(1) == Types.DATE;
+        }
+    }
+}
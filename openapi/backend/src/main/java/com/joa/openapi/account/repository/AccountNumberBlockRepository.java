@@ -0,0 +1,39 @@
+package com.joa.openapi.account.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 계좌 일련번호 블록 (AccountNumberBlock) JDBC
+@Repository
+@RequiredArgsConstructor
+public class AccountNumberBlockRepository {
+
+    private static final String INCREMENT = "UPDATE account_number_block SET next_value = next_value + ?, updated_at = ? WHERE name = ?";
+    private static final String INSERT = "INSERT INTO account_number_block (name, next_value, updated_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * [반환값, 반환값 + size) 구간을 가져감, 처음이면 initialValue부터
+     * UPDATE가 행을 잠그므로 같은 트랜잭션 안의 SELECT는 다른 서버와 겹치지 않는 값을 읽음
+     */
+    public long allocate(String name, long initialValue, int size, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        while (true) {
+            if (jdbcTemplate.update(INCREMENT, size, timestamp, name) > 0) {
+                Long next = jdbcTemplate.queryForObject("SELECT next_value FROM account_number_block WHERE name = ?", Long.class, name);
+                return next - size;
+            }
+            try {
+                jdbcTemplate.update(INSERT, name, initialValue + size, timestamp);
+                return initialValue;
+            } catch (DuplicateKeyException e) {
+                // 다른 서버가 먼저 만들었으면 UPDATE부터 다시
+            }
+        }
+    }
+}
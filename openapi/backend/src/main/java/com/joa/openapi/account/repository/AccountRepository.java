@@ -3,12 +3,18 @@ package com.joa.openapi.account.repository;
 import com.joa.openapi.account.entity.Account;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -18,11 +24,31 @@ public interface AccountRepository extends JpaRepository<Account, String>, Accou
     List<Account> findByDummyId(UUID dummyId);
     // 페이징 안된 유저의 전체 계좌
     List<Account> findByHolderId(UUID memberId);
-    List<Account> findAllByEndDate(String endDate);
+
+    // 해지되지 않은 계좌(@SQLRestriction)가 하나라도 있는지
+    boolean existsByProductId(UUID productId);
+
+    // 해지된 계좌(@SQLRestriction)까지 포함
+    @Query(value = "SELECT COUNT(*) FROM account WHERE id = :accountId", nativeQuery = true)
+    long countByIdIncludingDeleted(String accountId);
 
     @Query("SELECT bankId FROM Account WHERE id = :accountId")
     UUID getBankIdByAccountId(String accountId);
 
+    @Query("SELECT balance FROM Account WHERE id = :accountId")
+    Long getBalanceByAccountId(String accountId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT a FROM Account a WHERE a.id = :accountId")
+    Optional<Account> findByIdForUpdate(String accountId);
+
+    // 일괄 거래용, 계좌번호 순으로 잠가서 교착 상태 방지
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT a FROM Account a LEFT JOIN FETCH a.holder WHERE a.id IN :accountIds ORDER BY a.id")
+    List<Account> findAllByIdForUpdate(Collection<String> accountIds);
+
 //    @Query("SELECT a FROM Account a JOIN Bank b ON a.bankId = b.id WHERE a.holderId = :memberId AND b.adminId = :adminId")
 //    Page<Account> findByHolderIdAndBankAdminId(UUID memberId, UUID adminId, Pageable pageable);
 }
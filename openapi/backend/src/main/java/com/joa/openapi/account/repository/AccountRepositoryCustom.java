@@ -1,9 +1,14 @@
 package com.joa.openapi.account.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import com.joa.openapi.account.dto.AccountBalanceDto;
 import com.joa.openapi.account.dto.AccountGetAccountsResponseDto;
+import com.joa.openapi.account.dto.AccountMaturityDto;
 import com.joa.openapi.account.dto.AccountSearchRequestDto;
 import com.joa.openapi.account.dto.AccountSearchResponseDto;
 import org.springframework.data.domain.Page;
@@ -13,4 +18,12 @@ public interface AccountRepositoryCustom {
     Page<AccountSearchResponseDto> searchAccountCustom(List<UUID> bankIds, AccountSearchRequestDto req, Pageable pageable);
     Page<AccountGetAccountsResponseDto> searchAccountByMemberCustom(List<UUID> bankIds, UUID memberId, Pageable pageable);
 
+    // UPDATE account SET balance = balance + :delta WHERE id = :accountId AND balance >= :minBalance
+    long addBalance(String accountId, long delta, long minBalance);
+    Optional<AccountBalanceDto> findBalanceById(String accountId);
+    // 멤버 순, 계좌번호 순으로 정렬
+    List<AccountBalanceDto> findBalancesByHolderIds(Collection<UUID> holderIds);
+    // 만기 이자 지급 청크, 은행 별로 계좌번호 순 afterId 다음부터 limit개
+    List<AccountMaturityDto> findMaturingChunk(UUID bankId, LocalDate endDate, String afterId, int limit);
+
 }
@@ -1,11 +1,14 @@
 package com.joa.openapi.account.repository;
 
+import com.joa.openapi.account.dto.AccountBalanceDto;
 import com.joa.openapi.account.dto.AccountGetAccountsResponseDto;
+import com.joa.openapi.account.dto.AccountMaturityDto;
 import com.joa.openapi.account.dto.AccountSearchRequestDto;
 import com.joa.openapi.account.dto.AccountSearchResponseDto;
 import com.joa.openapi.account.entity.Account;
 import com.joa.openapi.account.enums.AccountKeywordType;
 import com.joa.openapi.account.enums.AccountSortBy;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
@@ -16,11 +19,17 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static com.joa.openapi.account.entity.QAccount.account;
+import static com.joa.openapi.member.entity.QMember.member;
+import static com.joa.openapi.product.entity.QProduct.product;
 
 @Repository
 @RequiredArgsConstructor
@@ -69,7 +78,8 @@ public class AccountRepositoryCustomImpl implements AccountRepositoryCustom{
                 .leftJoin(account.dummy)
                 .fetchJoin()
                 //account의 은행아이디로 은행을 가져와서 은행의 어드민아이디 == apiKey로 admin가져온거랑
-                .where(eqBankIds(bankIds), eqBankList(req.getBankList()), eqDormant(req.getIsDormant()), eqDummy(req.getIsDummy()), eqSearchKeyword(req.getKeywordType(), req.getSearchKeyword()))
+                .where(eqBankIds(bankIds), eqBankList(req.getBankList()), eqDormant(req.getIsDormant()), eqDummy(req.getIsDummy()), eqSearchKeyword(req.getKeywordType(), req.getSearchKeyword()),
+                        maturingWithin(req.getMaturingWithinDays()))
                 .orderBy(eqSortBy(req.getSortBy()));
 
         long total = query.fetchCount(); // 전체 계좌 수
@@ -88,6 +98,90 @@ public class AccountRepositoryCustomImpl implements AccountRepositoryCustom{
         return new PageImpl<>(res, pageable, total);
     }
 
+    @Override
+    public long addBalance(String accountId, long delta, long minBalance) {
+        // 조회 없이 한 번의 조건부 UPDATE로 반영, 잔액 부족 여부는 영향받은 행 수로 판단
+        // version도 함께 올려서 엔티티로 잔액을 바꾸는 다른 경로와 충돌 감지
+        return jpaQueryFactory
+                .update(account)
+                .set(account.balance, account.balance.add(delta))
+                .set(account.version, account.version.add(1L))
+                .set(account.updatedAt, LocalDateTime.now())
+                .where(account.id.eq(accountId), account.isDeleted.isFalse(), account.balance.goe(minBalance))
+                .execute();
+    }
+
+    @Override
+    public Optional<AccountBalanceDto> findBalanceById(String accountId) {
+        Tuple row = jpaQueryFactory
+                .select(account.bankId, account.balance, member.name)
+                .from(account)
+                .leftJoin(account.holder, member)
+                .where(account.id.eq(accountId))
+                .fetchOne();
+
+        if (row == null)
+            return Optional.empty();
+
+        return Optional.of(AccountBalanceDto.builder()
+                .accountId(accountId)
+                .bankId(row.get(account.bankId))
+                .holderName(row.get(member.name))
+                .prevBalance(row.get(account.balance))
+                .balance(row.get(account.balance))
+                .applied(false)
+                .build());
+    }
+
+    @Override
+    public List<AccountBalanceDto> findBalancesByHolderIds(Collection<UUID> holderIds) {
+        return jpaQueryFactory
+                .select(account.id, account.bankId, member.id, member.name, account.balance)
+                .from(account)
+                .join(account.holder, member)
+                .where(member.id.in(holderIds))
+                .orderBy(member.id.asc(), account.id.asc())
+                .fetch()
+                .stream()
+                .map(row -> AccountBalanceDto.builder()
+                        .accountId(row.get(account.id))
+                        .bankId(row.get(account.bankId))
+                        .holderId(row.get(member.id))
+                        .holderName(row.get(member.name))
+                        .prevBalance(row.get(account.balance))
+                        .balance(row.get(account.balance))
+                        .applied(false)
+                        .build())
+                .toList();
+    }
+
+    // 상품을 조인해서 계좌 + 상품 값만 읽음, 계좌마다 상품을 따로 조회하지 않아서 청크당 쿼리 한 번
+    @Override
+    public List<AccountMaturityDto> findMaturingChunk(UUID bankId, LocalDate endDate, String afterId, int limit) {
+        return jpaQueryFactory
+                .select(account.id, account.bankId, account.balance, account.amount, account.term, account.taxType,
+                        product.rate, product.productType, product.paymentType)
+                .from(account)
+                .leftJoin(account.product, product)
+                .where(account.bankId.eq(bankId), account.endDate.eq(endDate), account.id.gt(afterId))
+                .orderBy(account.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(row -> AccountMaturityDto.builder()
+                        .accountId(row.get(account.id))
+                        .bankId(row.get(account.bankId))
+                        .balance(row.get(account.balance))
+                        .amount(row.get(account.amount))
+                        .term(row.get(account.term))
+                        .taxType(row.get(account.taxType))
+                        .rate(row.get(product.rate))
+                        .productType(row.get(product.productType))
+                        .paymentType(row.get(product.paymentType))
+                        .build())
+                .toList();
+    }
+
     private BooleanExpression eqBankIds(List<UUID> bankIds) {
         return account.bankId.in(bankIds);
     }
@@ -143,13 +237,23 @@ public class AccountRepositoryCustomImpl implements AccountRepositoryCustom{
         return account.bankId.in(bankList);
     }
 
+    // 만기일 범위 조건, end_date 인덱스 범위 스캔
+    private BooleanExpression maturingWithin(Integer days) {
+        if (days == null || days < 0)
+            return null;
+
+        LocalDate today = LocalDate.now();
+        return account.endDate.between(today, today.plusDays(days));
+    }
+
     private OrderSpecifier<?> eqSortBy(AccountSortBy sortBy) {
         return switch (sortBy) {
             case LOWEST_BALANCE -> account.balance.asc();
             case HIGHEST_BALANCE -> account.balance.desc();
             case OLDEST -> account.createdAt.asc();
-            case NEAR_EXPIRATION -> account.endDate.asc();
-            case FURTHER_EXPIRATION -> account.endDate.desc();
+            // 만기일이 없는 계좌는 뒤로
+            case NEAR_EXPIRATION -> account.endDate.asc().nullsLast();
+            case FURTHER_EXPIRATION -> account.endDate.desc().nullsLast();
             default -> account.createdAt.desc(); // 기본 정렬 (최신순)
         };
     }
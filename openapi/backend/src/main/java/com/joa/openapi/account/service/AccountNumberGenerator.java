@@ -0,0 +1,69 @@
+package com.joa.openapi.account.service;
+
+import com.joa.openapi.account.repository.AccountNumberBlockRepository;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 계좌번호 가운데 9자리 일련번호 발급, 서버(인스턴스)끼리도 겹치지 않음
+ * DB(account_number_block)에서 blockSize개씩 구간을 받아 두고 AtomicLong으로 나눠 줌, DB 접근은 블록을 다 썼을 때만
+ * 블록은 호출한 트랜잭션과 따로 바로 커밋, 계좌 생성이 롤백돼도 받은 구간이 다른 서버에 다시 나가지 않음 (번호가 비는 건 허용)
+ * 기존 계좌 중 더미 계좌는 9자리 난수라 같은 번호가 있을 수 있으므로 DB 확인은 호출하는 쪽에서
+ */
+@Component
+public class AccountNumberGenerator {
+
+    static final String SEQUENCE = "account";
+    // 기존 시각 기반 번호(HHmmss + 3자리, 최대 235959999)보다 위에서 시작, 항상 9자리
+    static final long FIRST_SERIAL = 300_000_000L;
+    static final long LAST_SERIAL = 999_999_999L;
+
+    private final AccountNumberBlockRepository accountNumberBlockRepository;
+    private final TransactionTemplate blockTransaction;
+    private final int blockSize;
+    // 블록을 새로 받는 동안 DB 호출을 하므로 synchronized 대신 (가상 스레드에서 캐리어 스레드를 붙잡지 않음)
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private volatile Block block = new Block(new AtomicLong(), 0);
+
+    private record Block(AtomicLong next, long end) {}
+
+    public AccountNumberGenerator(AccountNumberBlockRepository accountNumberBlockRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${account.number.block-size}") int blockSize) {
+        this.accountNumberBlockRepository = accountNumberBlockRepository;
+        this.blockTransaction = new TransactionTemplate(transactionManager);
+        this.blockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    public String nextSerial() {
+        while (true) {
+            Block current = block;
+            long serial = current.next().getAndIncrement();
+            if (serial < current.end())
+                return Long.toString(serial);
+            refill(current);
+        }
+    }
+
+    // 블록을 다 쓴 스레드 중 하나만 새 블록을 받고 나머지는 기다렸다가 그 블록을 씀
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            if (block != exhausted) return;
+            long start = blockTransaction.execute(status ->
+                    accountNumberBlockRepository.allocate(SEQUENCE, FIRST_SERIAL, blockSize, LocalDateTime.now()));
+            if (start + blockSize - 1 > LAST_SERIAL)
+                throw new IllegalStateException("계좌 일련번호를 모두 사용했습니다.");
+            block = new Block(new AtomicLong(start), start + blockSize);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+}
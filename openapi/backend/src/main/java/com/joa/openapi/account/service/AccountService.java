@@ -10,7 +10,8 @@ import com.joa.openapi.bank.repository.BankRepository;
 import com.joa.openapi.common.entity.Api;
 import com.joa.openapi.common.errorcode.CommonErrorCode;
 import com.joa.openapi.common.exception.RestApiException;
-import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.util.BankAuthorityValidator;
+import com.joa.openapi.common.cache.ApiKeyCache;
 import com.joa.openapi.dummy.entity.Dummy;
 import com.joa.openapi.dummy.repository.DummyRepository;
 import com.joa.openapi.member.entity.Member;
@@ -29,8 +30,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -46,13 +45,15 @@ public class AccountService {
     private final MemberRepository memberRepository;
     private final DummyRepository dummyRepository;
     private final ProductRepository productRepository;
-    private final ApiRepository apiRepository;
+    private final ApiKeyCache apiKeyCache;
+    private final BankAuthorityValidator bankAuthorityValidator;
     private final BankRepository bankRepository;
+    private final AccountNumberGenerator accountNumberGenerator;
 
     @Transactional
     public AccountCreateResponseDto create(UUID apiKey, UUID memberId, AccountCreateRequestDto req) {
 
-        bankAuthorityValidation(apiKey, req.getBankId());
+        bankAuthorityValidator.validate(apiKey, req.getBankId());
 
         String accountId = createAccountId(memberId, req);
 
@@ -64,10 +65,8 @@ public class AccountService {
         Optional<Dummy> optionalDummy = Optional.ofNullable(req.getDummyId())
                 .map(dummyId -> dummyRepository.findById(dummyId).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT))); /* TODO: 더미 에러 코드로 변경 */
 
-        String startDateStr = LocalDate.now().format(DateTimeFormatter.ofPattern("MM/dd/yyyy"));
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd/yyyy");
-        LocalDate startDate = LocalDate.parse(startDateStr, formatter);
-        String endDateStr = startDate.plusMonths(req.getTerm()).minusDays(1).format(formatter);
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = startDate.plusMonths(req.getTerm()).minusDays(1);
 
         if (req.getPassword() == null || req.getPassword().trim().isBlank())
             throw new RestApiException(AccountErrorCode.PASSWORD_REQUIRED);
@@ -85,8 +84,8 @@ public class AccountService {
                 .transferLimit(req.getTransferLimit())
                 .paymentNum(0)
                 .nonPaymentNum(0)
-                .startDate(startDateStr)
-                .endDate(endDateStr)
+                .startDate(startDate)
+                .endDate(endDate)
                 .term(req.getTerm())
                 .depositAccount((req.getWithdrawAccount() == null) ? accountId : req.getWithdrawAccount())
                 .withdrawAccount((req.getWithdrawAccount() == null) ? accountId : req.getWithdrawAccount())
@@ -107,7 +106,7 @@ public class AccountService {
     public AccountUpdateResponseDto update(UUID apiKey, AccountUpdateRequestDto req) {
         Account account = accountRepository.findById(req.getAccountId()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
 
-        bankAuthorityValidation(apiKey, account.getBankId());
+        bankAuthorityValidator.validate(apiKey, account.getBankId());
 
         if (req.getNickname() != null)
             account.updateNickname(req.getNickname());
@@ -129,7 +128,7 @@ public class AccountService {
     public Long updateLimit(UUID apiKey, AccountUpdateRequestDto req) {
         Account account = accountRepository.findById(req.getAccountId()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
 
-        bankAuthorityValidation(apiKey, account.getBankId());
+        bankAuthorityValidator.validate(apiKey, account.getBankId());
 
         if (req.getTransferLimit() != null && req.getTransferLimit() >= 20)
             account.updateLimit(req.getTransferLimit());
@@ -143,7 +142,7 @@ public class AccountService {
     public void updatePassword(UUID apiKey, UUID memberId, AccountUpdateRequestDto req) {
         Account account = accountRepository.findById(req.getAccountId()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
 
-        bankAuthorityValidation(apiKey, account.getBankId());
+        bankAuthorityValidator.validate(apiKey, account.getBankId());
 
         if (req.getPassword() != null && !req.getPassword().trim().isBlank())
             account.updatePassword(req.getPassword());
@@ -155,7 +154,7 @@ public class AccountService {
         Account account = accountRepository.findById(req.getAccountId()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
 
 
-        bankAuthorityValidation(apiKey, account.getBankId());
+        bankAuthorityValidator.validate(apiKey, account.getBankId());
         // checkPassword(account, req.getPassword());
 
         account.deleteSoftly();
@@ -167,7 +166,7 @@ public class AccountService {
     public AccountGetBalanceResponseDto getBalance(UUID apiKey, UUID memberId, AccountGetBalanceRequestDto req) {
         Account account = accountRepository.findById(req.getAccountId()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
 
-        bankAuthorityValidation(apiKey, account.getBankId());
+        bankAuthorityValidator.validate(apiKey, account.getBankId());
 
         return AccountGetBalanceResponseDto.toDto(account);
     }
@@ -175,14 +174,14 @@ public class AccountService {
     public AccountGetDetailResponseDto getDetail(UUID apiKey, AccountGetDetailRequestDto req) {
         Account account = accountRepository.findById(req.getAccountId()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
 
-        bankAuthorityValidation(apiKey, account.getBankId());
+        bankAuthorityValidator.validate(apiKey, account.getBankId());
 
         return AccountGetDetailResponseDto.toDto(account);
     }
 
     public Page<AccountGetAccountsResponseDto> getAccounts(UUID apiKey, UUID memberId, Pageable pageable) {
         // apiKey로부터 adminId 조회
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
         List<UUID> bankIds =  bankRepository.findByAdminId(adminId, pageable).stream().map(Bank::getId).toList();
 
         return accountRepository.searchAccountByMemberCustom(bankIds, memberId, pageable);
@@ -192,19 +191,11 @@ public class AccountService {
 
 
     public Page<AccountSearchResponseDto> search(UUID apiKey, AccountSearchRequestDto req, Pageable pageable) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
-        List<UUID> bankIds =  bankRepository.findByAdminId(adminId).stream().map(Bank::getId).toList();
+        List<UUID> bankIds = apiKeyCache.getBankIdsByApiKey(apiKey);
 
         return accountRepository.searchAccountCustom(bankIds, req, pageable);
     }
 
-    public void bankAuthorityValidation(UUID apiKey, UUID bankId) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
-        Bank bank = bankRepository.findById(bankId).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
-        if (!bank.getAdminId().equals(adminId))
-            throw new RestApiException(CommonErrorCode.NO_AUTHORIZATION);
-    }
-
     public void checkPassword(Account account, String password) {
         if (!account.getPassword().equals(password))
             throw new RestApiException(AccountErrorCode.PASSWORD_MISMATCH);
@@ -212,21 +203,27 @@ public class AccountService {
 
     /**
      * 계좌번호 생성
-     * 은행 @@ + 본인 @@ + 생성날짜 @@@@@@ + 랜덤@@@ + 체크섬 @
+     * 은행 @@ + 본인 @@ + 일련번호 @@@@@@@@@ + 체크섬 @
+     * 일련번호는 AccountNumberGenerator가 DB에서 받은 블록에서 발급 (서버끼리 겹치지 않음)
+     * 9자리 난수로 만든 기존 더미 계좌와 겹치면 다시 발급 (해지된 계좌 포함)
      */
     public String createAccountId(UUID memberId, AccountCreateRequestDto req) {
+        String accountId;
+        do {
+            accountId = createAccountId(req.getBankId(), memberId, accountNumberGenerator.nextSerial());
+        } while (accountRepository.countByIdIncludingDeleted(accountId) > 0);
+        return accountId;
+    }
+
+    // 은행, 고객 아이디 4자리 + 일련번호 + 유효성검사 1자리
+    public String createAccountId(UUID bankId, UUID memberId, String serial) {
         String accountId = "";
-        int bankA = convertNum(req.getBankId().toString().charAt(14)); //은행 아이디 뒤 2자리 아스키 코드
-        int bankB = convertNum(req.getBankId().toString().charAt(15)); //은행 아이디 뒤 1자리 아스키 코드
+        int bankA = convertNum(bankId.toString().charAt(14)); //은행 아이디 뒤 2자리 아스키 코드
+        int bankB = convertNum(bankId.toString().charAt(15)); //은행 아이디 뒤 1자리 아스키 코드
         int memberA = convertNum(memberId.toString().charAt(14)); //고객 아이디 뒤 2자리 아스키 코드
         int memberB = convertNum(memberId.toString().charAt(15)); //고객 아이디 뒤 1자리 아스키 코드
         accountId = accountId + bankA + bankB + memberA + memberB;
-        System.out.println(accountId);
-        LocalTime now = LocalTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HHmmss"); //시 분 초
-        accountId += now.format(formatter);
-        int randomNum = (int)(Math.random() * 900) + 100; // 랜덤 3자리
-        accountId += randomNum;
+        accountId += serial;
         accountId += calculateCheckDigit(accountId);//유효성검사 1자리
         return accountId;
     }
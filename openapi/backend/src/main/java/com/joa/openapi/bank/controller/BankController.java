@@ -55,4 +55,10 @@ public class BankController {
         DashboardResponseDto DashboardResponseDto = bankService.getDashboardData(apiKey, bankId);
         return ResponseEntity.ok(ApiResponse.success("대시보드 데이터 불러오기 성공했습니다.", DashboardResponseDto));
     }
+
+    @PostMapping("/dashboard/{bankId}/rebuild")
+    public ResponseEntity<?> rebuildDashboardData(@RequestHeader("apiKey") UUID apiKey, @PathVariable(value = "bankId") UUID bankId) {
+        DashboardResponseDto dashboardResponseDto = bankService.rebuildDashboard(apiKey, bankId);
+        return ResponseEntity.ok(ApiResponse.success("대시보드 데이터 다시 계산에 성공했습니다.", dashboardResponseDto));
+    }
 }
\ No newline at end of file
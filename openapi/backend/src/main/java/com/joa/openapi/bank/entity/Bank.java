@@ -6,13 +6,17 @@ import com.joa.openapi.member.entity.Member;
 import com.joa.openapi.product.entity.Product;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+// 거의 모든 요청의 권한 확인에서 읽고 변경은 드묾, 2차 캐시 (변경 시 EntityCacheEvictor)
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Builder
 @AllArgsConstructor
@@ -0,0 +1,31 @@
+package com.joa.openapi.bank.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static lombok.AccessLevel.PROTECTED;
+
+// 은행 대시보드 누적값, BankAggregateService가 거래/회원 증감을 모아서 반영
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class BankAggregate {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID bankId;
+
+    @Column(nullable = false)
+    private Long transactionCount;
+    @Column(nullable = false)
+    private Long depositAmount;
+    @Column(nullable = false)
+    private Long withdrawAmount;
+    @Column(nullable = false)
+    private Long memberCount;
+    private LocalDateTime rebuiltAt;    // 원본 테이블에서 다시 계산한 시각, 없으면 아직 계산 전
+}
@@ -0,0 +1,41 @@
+package com.joa.openapi.bank.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static lombok.AccessLevel.PROTECTED;
+
+// 은행의 일별 입금/출금 합계
+@Entity
+@Getter
+@IdClass(BankDailyFlow.Key.class)
+@NoArgsConstructor(access = PROTECTED)
+public class BankDailyFlow {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID bankId;
+    @Id
+    private LocalDate flowDate;
+
+    @Column(nullable = false)
+    private Long depositAmount;
+    @Column(nullable = false)
+    private Long withdrawAmount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID bankId;
+        private LocalDate flowDate;
+    }
+}
@@ -0,0 +1,143 @@
+package com.joa.openapi.bank.repository;
+
+import static com.joa.openapi.common.util.UuidBytes.toBytes;
+
+import com.joa.openapi.transaction.dto.res.DayMoneyFlow;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 은행 대시보드 누적값 (BankAggregate, BankDailyFlow) JDBC, 증감은 upsert 한 번으로 처리
+@Repository
+@RequiredArgsConstructor
+public class BankAggregateRepository {
+
+    private static final String ADD_TOTALS = "INSERT INTO bank_aggregate "
+            + "(bank_id, transaction_count, deposit_amount, withdraw_amount, member_count) VALUES (?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE transaction_count = transaction_count + VALUES(transaction_count), "
+            + "deposit_amount = deposit_amount + VALUES(deposit_amount), withdraw_amount = withdraw_amount + VALUES(withdraw_amount), "
+            + "member_count = member_count + VALUES(member_count)";
+    private static final String ADD_DAILY_FLOW = "INSERT INTO bank_daily_flow "
+            + "(bank_id, flow_date, deposit_amount, withdraw_amount) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE deposit_amount = deposit_amount + VALUES(deposit_amount), "
+            + "withdraw_amount = withdraw_amount + VALUES(withdraw_amount)";
+    private static final String FIND_TOTALS = "SELECT transaction_count, deposit_amount, withdraw_amount, member_count, rebuilt_at "
+            + "FROM bank_aggregate WHERE bank_id = ?";
+    private static final String FIND_DAILY_FLOWS = "SELECT flow_date, deposit_amount, withdraw_amount FROM bank_daily_flow "
+            + "WHERE bank_id = ? AND flow_date BETWEEN ? AND ? AND (deposit_amount <> 0 OR withdraw_amount <> 0) ORDER BY flow_date";
+
+    // 다시 계산, 거래내역/회원 조회 조건은 엔티티의 @SQLRestriction과 같게 삭제된 행 제외, 거래는 기준 시각(cutoff) 이전에 생성된 것만
+    private static final String COUNT_TRANSACTIONS = "SELECT COUNT(*), "
+            + "COALESCE(SUM(CASE WHEN to_bank_id = ? THEN amount ELSE 0 END), 0), "
+            + "COALESCE(SUM(CASE WHEN from_bank_id = ? THEN amount ELSE 0 END), 0) "
+            + "FROM transaction WHERE is_deleted = 0 AND (from_bank_id = ? OR to_bank_id = ?) AND created_at < ?";
+    private static final String INSERT_TOTALS = "INSERT INTO bank_aggregate "
+            + "(bank_id, transaction_count, deposit_amount, withdraw_amount, member_count, rebuilt_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DAILY_FLOWS = "INSERT INTO bank_daily_flow (bank_id, flow_date, deposit_amount, withdraw_amount) "
+            + "SELECT ?, CAST(created_at AS DATE), "
+            + "COALESCE(SUM(CASE WHEN to_bank_id = ? THEN amount ELSE 0 END), 0), "
+            + "COALESCE(SUM(CASE WHEN from_bank_id = ? THEN amount ELSE 0 END), 0) "
+            + "FROM transaction WHERE is_deleted = 0 AND (from_bank_id = ? OR to_bank_id = ?) AND created_at < ? GROUP BY CAST(created_at AS DATE)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // rebuiltAt은 조회할 때만 사용
+    public record Totals(UUID bankId, long transactionCount, long depositAmount, long withdrawAmount, long memberCount,
+                         LocalDateTime rebuiltAt) {
+
+        public Totals plus(Totals other) {
+            return new Totals(bankId, transactionCount + other.transactionCount, depositAmount + other.depositAmount,
+                    withdrawAmount + other.withdrawAmount, memberCount + other.memberCount, null);
+        }
+
+        public boolean sameCounts(Totals other) {
+            return transactionCount == other.transactionCount && depositAmount == other.depositAmount
+                    && withdrawAmount == other.withdrawAmount && memberCount == other.memberCount;
+        }
+    }
+
+    public record DailyFlow(UUID bankId, LocalDate flowDate, long depositAmount, long withdrawAmount) {
+
+        public DailyFlow plus(DailyFlow other) {
+            return new DailyFlow(bankId, flowDate, depositAmount + other.depositAmount, withdrawAmount + other.withdrawAmount);
+        }
+    }
+
+    // 다른 서버의 반영과 잠금 순서가 같도록 deltas는 은행 id 순으로 정렬해서 넘김
+    public void addTotals(List<Totals> deltas) {
+        jdbcTemplate.batchUpdate(ADD_TOTALS, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Totals delta = deltas.get(i);
+                ps.setBytes(1, toBytes(delta.bankId()));
+                ps.setLong(2, delta.transactionCount());
+                ps.setLong(3, delta.depositAmount());
+                ps.setLong(4, delta.withdrawAmount());
+                ps.setLong(5, delta.memberCount());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+
+    // (은행 id, 날짜) 순으로 정렬해서 넘김
+    public void addDailyFlows(List<DailyFlow> deltas) {
+        jdbcTemplate.batchUpdate(ADD_DAILY_FLOW, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DailyFlow delta = deltas.get(i);
+                ps.setBytes(1, toBytes(delta.bankId()));
+                ps.setDate(2, Date.valueOf(delta.flowDate()));
+                ps.setLong(3, delta.depositAmount());
+                ps.setLong(4, delta.withdrawAmount());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+
+    // 행이 없으면 0, rebuiltAt null
+    public Totals findTotals(UUID bankId) {
+        return jdbcTemplate.query(FIND_TOTALS, (rs, rowNum) -> {
+            Timestamp rebuiltAt = rs.getTimestamp(5);
+            return new Totals(bankId, rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4),
+                    rebuiltAt == null ? null : rebuiltAt.toLocalDateTime());
+        }, (Object) toBytes(bankId)).stream().findFirst().orElse(new Totals(bankId, 0, 0, 0, 0, null));
+    }
+
+    public List<DayMoneyFlow> findDailyFlows(UUID bankId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(FIND_DAILY_FLOWS, (rs, rowNum) -> new DayMoneyFlow(
+                rs.getDate(1).toLocalDate().toString(), rs.getLong(2), rs.getLong(3)), toBytes(bankId), Date.valueOf(from), Date.valueOf(to));
+    }
+
+    // 은행의 누적값을 지우고 거래내역 테이블에서 cutoff 이전 거래로 다시 계산해서 저장, 회원 수는 호출하는 쪽에서 셈
+    public Totals rebuild(UUID bankId, long memberCount, LocalDateTime cutoff, LocalDateTime now) {
+        byte[] bank = toBytes(bankId);
+        Timestamp before = Timestamp.valueOf(cutoff);
+        jdbcTemplate.update("DELETE FROM bank_aggregate WHERE bank_id = ?", (Object) bank);
+        jdbcTemplate.update("DELETE FROM bank_daily_flow WHERE bank_id = ?", (Object) bank);
+
+        Totals totals = jdbcTemplate.queryForObject(COUNT_TRANSACTIONS, (rs, rowNum) -> new Totals(
+                bankId, rs.getLong(1), rs.getLong(2), rs.getLong(3), memberCount, now), bank, bank, bank, bank, before);
+
+        jdbcTemplate.update(INSERT_TOTALS, bank, totals.transactionCount(), totals.depositAmount(), totals.withdrawAmount(),
+                totals.memberCount(), Timestamp.valueOf(now));
+        jdbcTemplate.update(INSERT_DAILY_FLOWS, bank, bank, bank, bank, bank, before);
+        return totals;
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -18,4 +19,10 @@ public interface BankRepository extends JpaRepository<Bank, UUID>, BankRepositor
     Page<Bank> findByAdminId(UUID adminId, Pageable pageable);
 
     List<Bank> findByAdminId(UUID adminId);
+
+    @Query("SELECT b.id FROM Bank b WHERE b.adminId = :adminId")
+    List<UUID> findIdsByAdminId(UUID adminId);
+
+    @Query("SELECT b.adminId FROM Bank b WHERE b.id = :bankId")
+    Optional<UUID> findAdminIdById(UUID bankId);
 }
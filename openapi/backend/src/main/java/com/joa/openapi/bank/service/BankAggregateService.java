@@ -0,0 +1,269 @@
+package com.joa.openapi.bank.service;
+
+import com.joa.openapi.bank.dto.DashboardResponseDto;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankAggregateRepository;
+import com.joa.openapi.bank.repository.BankAggregateRepository.DailyFlow;
+import com.joa.openapi.bank.repository.BankAggregateRepository.Totals;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.member.repository.MemberRepository;
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.entity.Transaction;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 은행 대시보드 누적값 관리, 대시보드는 누적값만 읽음
+ * 거래/회원을 쓰는 쪽이 record*를 호출하면 커밋된 뒤 증감을 메모리에 모아두고 flush-millis마다 한 번에 반영
+ * (거래마다 같은 은행 행을 갱신하면 커밋까지 잠금이 몰림)
+ * 서버가 죽으면 반영 전 증감은 사라지므로 처음 조회할 때와 매일 reconcile-cron에 원본 테이블에서 다시 계산해서 바로잡음
+ * 거래 증감은 거래 생성 시각(초)별로 모아둬서 다시 계산할 때 기준 시각 이전 거래는 원본, 이후 거래는 모아둔 증감으로 나눠서 셈
+ */
+@Slf4j
+@Service
+public class BankAggregateService {
+
+    private final BankAggregateRepository bankAggregateRepository;
+    private final BankRepository bankRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate writeTransaction;
+    private final Map<Delta, Delta> pendingDeltas = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> pendingMembers = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public BankAggregateService(BankAggregateRepository bankAggregateRepository,
+                                BankRepository bankRepository,
+                                MemberRepository memberRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.bankAggregateRepository = bankAggregateRepository;
+        this.bankRepository = bankRepository;
+        this.memberRepository = memberRepository;
+        // 대시보드 조회(읽기 전용 트랜잭션) 중에도 다시 계산할 수 있으므로 별도 트랜잭션
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 거래 한 건의 은행 별 증감
+    private record Flow(UUID fromBankId, UUID toBankId, long amount, LocalDateTime createdAt) {}
+
+    // 은행, 거래 생성 시각(초) 별로 모아둔 거래 증감, 입출금액이 곧 그날의 일별 합계
+    private record Delta(UUID bankId, LocalDateTime createdAt, long transactionCount, long depositAmount, long withdrawAmount) {
+
+        Delta plus(Delta other) {
+            return new Delta(bankId, createdAt, transactionCount + other.transactionCount,
+                    depositAmount + other.depositAmount, withdrawAmount + other.withdrawAmount);
+        }
+    }
+
+    public void recordTransaction(Transaction transaction) {
+        record(List.of(flow(transaction)), 1);
+    }
+
+    // 삭제하거나 수정하기 전 상태로 호출
+    public void cancelTransaction(Transaction transaction) {
+        record(List.of(flow(transaction)), -1);
+    }
+
+    public void recordTransactions(Collection<TransactionResponseDto> transactions) {
+        record(transactions.stream()
+                .map(transaction -> new Flow(transaction.getFromBankId(), transaction.getToBankId(),
+                        Objects.requireNonNullElse(transaction.getAmount(), 0L), second(transaction.getCreatedAt())))
+                .toList(), 1);
+    }
+
+    public void recordMembers(UUID bankId, long count) {
+        if (bankId == null || count == 0) return;
+        afterCommit(Map.of(), Map.of(bankId, count));
+    }
+
+    // 아직 계산한 적 없는 은행이면 먼저 다시 계산
+    public DashboardResponseDto getDashboard(UUID bankId) {
+        Totals totals = bankAggregateRepository.findTotals(bankId);
+        if (totals.rebuiltAt() == null) {
+            totals = rebuild(bankId);
+        }
+        LocalDate today = LocalDate.now();
+        return DashboardResponseDto.builder()
+                .totalTransactionCnt(totals.transactionCount())
+                .totalMemberCnt(totals.memberCount())
+                .totalWithdrawAmount(totals.withdrawAmount())
+                .totalDepositAmount(totals.depositAmount())
+                .totalTransactionList(bankAggregateRepository.findDailyFlows(bankId, today.minusWeeks(1), today))
+                .build();
+    }
+
+    /**
+     * 원본 테이블에서 다시 계산, 다시 계산하고 모아둔 증감을 정리할 때까지 flushLock을 잡아서 반영이 끼어들지 않게 함
+     * 지금의 다음 초(cutoff) 이전에 생성된 거래만 다시 계산하고, 모아둔 이 은행의 증감 중 cutoff 이전 거래(커밋됐으므로 다시 계산한 값에 들어감)는 버림
+     * cutoff 이후 거래는 다시 계산한 값에 없으므로 모아둔 증감을 남겨서 다음 반영 때 더함
+     * 회원 수는 생성 시각으로 나눌 수 없어서 전체를 다시 세고 모아둔 회원 증감을 버림
+     * cutoff 이전에 생성됐지만 다시 계산한 뒤 버리기 직전에 커밋된 거래는 빠질 수 있음, 다음 재계산 때 바로잡음
+     */
+    public Totals rebuild(UUID bankId) {
+        flushLock.lock();
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+            Totals after = writeTransaction.execute(status -> {
+                Totals before = bankAggregateRepository.findTotals(bankId);
+                Totals rebuilt = bankAggregateRepository.rebuild(bankId, memberRepository.countByBankId(bankId), cutoff, LocalDateTime.now());
+                if (before.rebuiltAt() != null && !before.sameCounts(rebuilt))
+                    log.warn("은행 대시보드 누적값 보정 bankId: {}, before: {}, after: {}", bankId, before, rebuilt);
+                return rebuilt;
+            });
+            pendingDeltas.keySet().removeIf(key -> key.bankId().equals(bankId) && key.createdAt().isBefore(cutoff));
+            pendingMembers.remove(bankId);
+            return after;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(cron = "${bank.aggregate.reconcile-cron}")
+    public void reconcileAll() {
+        List<UUID> bankIds = bankRepository.findAll().stream().map(Bank::getId).toList();
+        for (UUID bankId : bankIds) {
+            try {
+                rebuild(bankId);
+            } catch (Exception e) {
+                log.error("은행 대시보드 누적값 재계산 실패 bankId: {}", bankId, e);
+            }
+        }
+        log.info("은행 대시보드 누적값 재계산 완료 {}개 은행", bankIds.size());
+    }
+
+    // 동시에 한 번만 실행, 반영하는 동안 DB를 기다리므로 synchronized 대신 (가상 스레드에서 캐리어 스레드를 붙잡지 않음)
+    @Scheduled(fixedDelayString = "${bank.aggregate.flush-millis}")
+    @PreDestroy
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 모아둔 증감을 은행 별 합계, (은행, 날짜) 별 합계로 합쳐서 은행 id, 날짜 순으로 반영, 실패하면 다시 모아두고 다음에 재시도
+    private void flushPending() {
+        List<Delta> deltas = drain(pendingDeltas);
+        Map<UUID, Long> members = new HashMap<>();
+        for (UUID bankId : pendingMembers.keySet()) {
+            Long count = pendingMembers.remove(bankId);
+            if (count != null) members.put(bankId, count);
+        }
+        if (deltas.isEmpty() && members.isEmpty()) return;
+
+        Map<UUID, Totals> totalsByBank = new HashMap<>();
+        Map<DailyFlow, DailyFlow> dailyFlowsByDay = new HashMap<>();
+        for (Delta delta : deltas) {
+            totalsByBank.merge(delta.bankId(), new Totals(delta.bankId(), delta.transactionCount(), delta.depositAmount(), delta.withdrawAmount(), 0, null),
+                    Totals::plus);
+            DailyFlow flow = new DailyFlow(delta.bankId(), delta.createdAt().toLocalDate(), delta.depositAmount(), delta.withdrawAmount());
+            dailyFlowsByDay.merge(key(flow), flow, DailyFlow::plus);
+        }
+        members.forEach((bankId, count) -> totalsByBank.merge(bankId, new Totals(bankId, 0, 0, 0, count, null), Totals::plus));
+
+        List<Totals> totals = new ArrayList<>(totalsByBank.values());
+        List<DailyFlow> dailyFlows = new ArrayList<>(dailyFlowsByDay.values());
+        totals.sort(Comparator.comparing(Totals::bankId));
+        dailyFlows.sort(Comparator.comparing(DailyFlow::bankId).thenComparing(DailyFlow::flowDate));
+        try {
+            writeTransaction.executeWithoutResult(status -> {
+                bankAggregateRepository.addTotals(totals);
+                bankAggregateRepository.addDailyFlows(dailyFlows);
+            });
+        } catch (RuntimeException e) {
+            log.error("은행 대시보드 누적값 반영 실패, 다음에 재시도 totals: {}, dailyFlows: {}", totals.size(), dailyFlows.size(), e);
+            deltas.forEach(delta -> pendingDeltas.merge(key(delta), delta, Delta::plus));
+            members.forEach((bankId, count) -> pendingMembers.merge(bankId, count, Long::sum));
+        }
+    }
+
+    // 거래 전체를 은행 별로 합쳐서 커밋 후 한 번에 모아둠
+    private void record(Collection<Flow> flows, int sign) {
+        Map<Delta, Delta> deltas = new HashMap<>();
+        for (Flow flow : flows) {
+            long amount = sign * flow.amount();
+            if (flow.fromBankId() != null) {
+                Delta withdraw = new Delta(flow.fromBankId(), flow.createdAt(), sign, 0, amount);
+                deltas.merge(key(withdraw), withdraw, Delta::plus);
+            }
+            if (flow.toBankId() != null) {
+                // 같은 은행 안의 이체는 한 건
+                long count = flow.toBankId().equals(flow.fromBankId()) ? 0 : sign;
+                Delta deposit = new Delta(flow.toBankId(), flow.createdAt(), count, amount, 0);
+                deltas.merge(key(deposit), deposit, Delta::plus);
+            }
+        }
+        if (!deltas.isEmpty()) afterCommit(deltas, Map.of());
+    }
+
+    // 롤백된 거래는 세지 않도록 커밋된 뒤에 모아둠, 트랜잭션 밖이면 바로
+    private void afterCommit(Map<Delta, Delta> deltas, Map<UUID, Long> members) {
+        Runnable pend = () -> {
+            deltas.forEach((key, delta) -> pendingDeltas.merge(key, delta, Delta::plus));
+            members.forEach((bankId, count) -> pendingMembers.merge(bankId, count, Long::sum));
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pend.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pend.run();
+            }
+        });
+    }
+
+    // 키마다 remove로 꺼내서 꺼내는 중에 들어온 증감도 잃지 않음
+    private static <K, V> List<V> drain(Map<K, V> pending) {
+        List<V> drained = new ArrayList<>(pending.size());
+        for (K key : pending.keySet()) {
+            V value = pending.remove(key);
+            if (value != null) drained.add(value);
+        }
+        return drained;
+    }
+
+    // 일별 합계의 키 (은행 id, 날짜)
+    private static DailyFlow key(DailyFlow flow) {
+        return new DailyFlow(flow.bankId(), flow.flowDate(), 0, 0);
+    }
+
+    // 모아둔 거래 증감의 키 (은행 id, 생성 시각)
+    private static Delta key(Delta delta) {
+        return new Delta(delta.bankId(), delta.createdAt(), 0, 0, 0);
+    }
+
+    private Flow flow(Transaction transaction) {
+        return new Flow(transaction.getFromBankId(), transaction.getToBankId(),
+                Objects.requireNonNullElse(transaction.getAmount(), 0L), second(transaction.getCreatedAt()));
+    }
+
+    // 초 단위로 모음, 재계산 기준 시각(cutoff)도 초 단위
+    private LocalDateTime second(LocalDateTime createdAt) {
+        return (createdAt == null ? LocalDateTime.now() : createdAt).truncatedTo(ChronoUnit.SECONDS);
+    }
+}
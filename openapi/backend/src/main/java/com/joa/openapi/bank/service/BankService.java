@@ -9,13 +9,12 @@ import com.joa.openapi.bank.repository.BankRepository;
 import com.joa.openapi.common.entity.Api;
 import com.joa.openapi.common.errorcode.CommonErrorCode;
 import com.joa.openapi.common.exception.RestApiException;
-import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.cache.ApiKeyCache;
+import com.joa.openapi.common.cache.EntityCacheEvictor;
 import com.joa.openapi.common.util.AuthCheckUtil;
-import com.joa.openapi.member.repository.MemberRepository;
+import com.joa.openapi.common.util.BankAuthorityValidator;
 import com.joa.openapi.product.dto.req.ProductCreateRequestDto;
 import com.joa.openapi.product.service.ProductService;
-import com.joa.openapi.transaction.dto.res.DayMoneyFlow;
-import com.joa.openapi.transaction.repository.TransactionRepository;
 import com.querydsl.core.Tuple;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -41,15 +40,16 @@ import static com.joa.openapi.product.enums.ProductType.ORDINARY_DEPOSIT;
 public class BankService {
 
     private final AuthCheckUtil authCheckUtil;
-    private final ApiRepository apiRepository;
+    private final ApiKeyCache apiKeyCache;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final BankAuthorityValidator bankAuthorityValidator;
     private final BankRepository bankRepository;
     private final ProductService productService;
-    private final TransactionRepository transactionRepository;
-    private final MemberRepository memberRepository;
+    private final BankAggregateService bankAggregateService;
 
     @Transactional
     public BankResponseDto create(BankRequestDto req, UUID apiKey) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
         String bankName;
         Bank bank = Bank.builder()
                 .adminId(adminId)
@@ -58,6 +58,7 @@ public class BankService {
                 .uri(req.getUri())
                 .build();
         Bank saved = bankRepository.save(bank);
+        apiKeyCache.evictBankIds(adminId);
         bankName = bank.getName();
         ProductCreateRequestDto dto = ProductCreateRequestDto.builder()
                 .name(bankName + " 보통 예금")
@@ -76,33 +77,37 @@ public class BankService {
 
     @Transactional
     public BankResponseDto update(BankRequestDto req, UUID apiKey, UUID bankId) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
         Bank bank = bankRepository.findById(bankId).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
         AuthoriaztionBank(bank.getAdminId(), adminId);
         bank.update(req);
         bankRepository.save(bank);
+        entityCacheEvictor.evictBank(bankId);
 
         return BankResponseDto.toDto(bank);
     }
 
     @Transactional
     public BankResponseDto delete(UUID apiKey, UUID bankId) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
         Bank bank = bankRepository.findById(bankId).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
         AuthoriaztionBank(bank.getAdminId(), adminId);
         bank.deleteSoftly();
+        apiKeyCache.evictBankIds(adminId);
+        bankAuthorityValidator.evict(bankId);
+        entityCacheEvictor.evictBank(bankId);
 
         return BankResponseDto.toDto(bank);
     }
 
     public Page<BankResponseDto> searchAll(UUID apiKey, String name, Pageable pageable) {
         if (name == null) name = "";
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
         return bankRepository.findByAdminIdAndNameContaining(adminId, name, pageable);
     }
 
     public BankResponseDto searchBank(UUID apiKey, UUID bankId) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
         Bank bank = bankRepository.findById(bankId).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
         AuthoriaztionBank(bank.getAdminId(), adminId);
 
@@ -110,21 +115,20 @@ public class BankService {
     }
 
     public DashboardResponseDto getDashboardData(UUID apiKey, UUID bankId) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
         Bank bank = bankRepository.findById(bankId).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
         AuthoriaztionBank(bank.getAdminId(), adminId);
-        Long totalTransactionCnt = transactionRepository.searchBanksTotalTransactionCustom(bankId);
-        Long totalMemberCnt = (long) memberRepository.findByBankId(bankId).size();
-        Long totalWithdrawAmount = transactionRepository.searchBanksTotalWithdrawCustom(bankId);
-        Long totalDepositAmout = transactionRepository.searchBanksTotalDepositCustom(bankId);
-        List<DayMoneyFlow> weekTransactionList = transactionRepository.searchBanksWeekTransactionCustom(bankId);
-        return DashboardResponseDto.builder()
-                .totalTransactionCnt(totalTransactionCnt)
-                .totalMemberCnt(totalMemberCnt)
-                .totalWithdrawAmount(totalWithdrawAmount)
-                .totalDepositAmount(totalDepositAmout)
-                .totalTransactionList(weekTransactionList)
-                .build();
+        // 거래/회원을 쓸 때 누적해 둔 값만 읽음 (BankAggregateService)
+        return bankAggregateService.getDashboard(bankId);
+    }
+
+    // 누적값을 원본 테이블에서 다시 계산
+    public DashboardResponseDto rebuildDashboard(UUID apiKey, UUID bankId) {
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
+        Bank bank = bankRepository.findById(bankId).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
+        AuthoriaztionBank(bank.getAdminId(), adminId);
+        bankAggregateService.rebuild(bankId);
+        return bankAggregateService.getDashboard(bankId);
     }
 
     // 관리자 아이디가 만든 은행인지
@@ -0,0 +1,44 @@
+package com.joa.openapi.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.joa.openapi.account.errorcode.AccountErrorCode;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.common.exception.RestApiException;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * accountId -> 계좌의 은행 id, 예금주 이름을 프로세스 내에 캐싱
+ * 입출금, 이체마다 권한 확인과 응답을 위해 계좌를 다시 읽지 않도록 (잔액 변경은 조건부 UPDATE 한 번 + 잔액만 조회)
+ * 계좌의 은행은 바뀌지 않고, 예금주 이름(기본 입금자명)은 TTL 안에 반영
+ */
+@Component
+public class AccountOwnerCache {
+
+    private final AccountRepository accountRepository;
+    private final Cache<Object, Object> accountOwners;
+
+    public record AccountOwner(UUID bankId, String holderName) {
+    }
+
+    public AccountOwnerCache(AccountRepository accountRepository, CacheManager cacheManager) {
+        this.accountRepository = accountRepository;
+        this.accountOwners = ((CaffeineCache) cacheManager.getCache(CacheNames.ACCOUNT_OWNER)).getNativeCache();
+    }
+
+    public AccountOwner get(String accountId) {
+        if (accountId == null)
+            throw new RestApiException(AccountErrorCode.NO_ACCOUNT);
+
+        // 존재하지 않는(해지된) 계좌는 캐싱하지 않음 (null 반환 시 저장 안 됨)
+        Object owner = accountOwners.get(accountId, key -> accountRepository.findBalanceById(accountId)
+                .map(account -> new AccountOwner(account.getBankId(), account.getHolderName()))
+                .orElse(null));
+        if (owner == null)
+            throw new RestApiException(AccountErrorCode.NO_ACCOUNT);
+        return (AccountOwner) owner;
+    }
+}
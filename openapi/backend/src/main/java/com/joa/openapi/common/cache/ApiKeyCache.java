@@ -0,0 +1,75 @@
+package com.joa.openapi.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.errorcode.CommonErrorCode;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.common.repository.ApiRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * apiKey -> adminId, adminId -> 소유 bankId 목록을 프로세스 내에 캐싱
+ * admin 서버에서 API Key 재발급/삭제 시 Redis 채널로 무효화 메시지를 받음 (ApiKeyInvalidationListener)
+ */
+@Slf4j
+@Component
+public class ApiKeyCache {
+
+    private final ApiRepository apiRepository;
+    private final BankRepository bankRepository;
+    private final Cache<Object, Object> adminIdByApiKey;
+    private final Cache<Object, Object> bankIdsByAdminId;
+
+    public ApiKeyCache(ApiRepository apiRepository, BankRepository bankRepository, CacheManager cacheManager) {
+        this.apiRepository = apiRepository;
+        this.bankRepository = bankRepository;
+        this.adminIdByApiKey = nativeCache(cacheManager, CacheNames.API_KEY);
+        this.bankIdsByAdminId = nativeCache(cacheManager, CacheNames.BANK_IDS);
+    }
+
+    public Optional<UUID> findAdminId(UUID apiKey) {
+        if (apiKey == null)
+            return Optional.empty();
+
+        // 존재하지 않는 키는 캐싱하지 않음 (null 반환 시 저장 안 됨)
+        Object adminId = adminIdByApiKey.get(apiKey, key -> apiRepository.findByApiKey(apiKey).map(Api::getAdminId).orElse(null));
+        return Optional.ofNullable((UUID) adminId);
+    }
+
+    public UUID getAdminId(UUID apiKey) {
+        return findAdminId(apiKey).orElseThrow(() -> new RestApiException(CommonErrorCode.WRONG_APIKEY));
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<UUID> getBankIds(UUID adminId) {
+        return (List<UUID>) bankIdsByAdminId.get(adminId, key -> List.copyOf(bankRepository.findIdsByAdminId(adminId)));
+    }
+
+    public List<UUID> getBankIdsByApiKey(UUID apiKey) {
+        return getBankIds(getAdminId(apiKey));
+    }
+
+    // API Key 재발급/삭제 시 해당 관리자의 모든 항목 제거
+    public void evictAdmin(UUID adminId) {
+        adminIdByApiKey.asMap().values().removeIf(adminId::equals);
+        bankIdsByAdminId.invalidate(adminId);
+        log.info("API Key 캐시 무효화 adminId: {}", adminId);
+    }
+
+    // 은행 생성/삭제 시 소유 은행 목록만 제거
+    public void evictBankIds(UUID adminId) {
+        bankIdsByAdminId.invalidate(adminId);
+    }
+
+    private static Cache<Object, Object> nativeCache(CacheManager cacheManager, String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+}
@@ -0,0 +1,31 @@
+package com.joa.openapi.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyInvalidationListener implements MessageListener {
+
+    // admin 서버의 ApiKeyInvalidationPublisher와 같은 채널
+    public static final String CHANNEL = "joa:api-key:invalidate";
+
+    private final ApiKeyCache apiKeyCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            apiKeyCache.evictAdmin(UUID.fromString(body.trim()));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 API Key 무효화 메시지: {}", body);
+        }
+    }
+}
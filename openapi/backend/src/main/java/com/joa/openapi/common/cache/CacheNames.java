@@ -0,0 +1,13 @@
+package com.joa.openapi.common.cache;
+
+public final class CacheNames {
+
+    public static final String API_KEY = "apiKey";      // apiKey -> adminId
+    public static final String BANK_IDS = "bankIds";    // adminId -> 소유 bankId 목록
+    public static final String BANK_OWNER = "bankOwner"; // bankId -> 은행 소유 adminId
+    public static final String PRODUCT_RATE = "productRate"; // productId -> 상품 이율, 종류 (ProductRateCache)
+    public static final String ACCOUNT_OWNER = "accountOwner"; // accountId -> 은행 id, 예금주 이름 (AccountOwnerCache)
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,118 @@
+package com.joa.openapi.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Hibernate 2차 캐시 저장소, 영역(엔티티)마다 Caffeine 캐시 하나 (크기 제한 + TTL)
+ * 서버마다 따로 가지므로 바꾸면 EntityCacheEvictor가 커밋 후 이 서버에서 제거하고 Redis로 다른 서버에도 알림, 알림이 빠지면 TTL 안에 반영
+ * 영역별 hit/miss는 /actuator/entitycache (EntityCacheEndpoint)
+ */
+public class CaffeineRegionFactory extends RegionFactoryTemplate {
+
+    public static final String TTL = "hibernate.cache.caffeine.ttl";
+    public static final String MAX_SIZE = "hibernate.cache.caffeine.max-size";
+
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    private static final long DEFAULT_MAX_SIZE = 10_000;
+
+    private final Map<String, Cache<Object, Object>> caches = new ConcurrentHashMap<>();
+    private Duration ttl = DEFAULT_TTL;
+    private long maxSize = DEFAULT_MAX_SIZE;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        Object ttlValue = configValues.get(TTL);
+        if (ttlValue != null) ttl = DurationStyle.detectAndParse(ttlValue.toString());
+        Object maxSizeValue = configValues.get(MAX_SIZE);
+        if (maxSizeValue != null) maxSize = Long.parseLong(maxSizeValue.toString());
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        caches.values().forEach(Cache::invalidateAll);
+        caches.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext) {
+        return new CaffeineStorageAccess(cache(regionConfig.getRegionName(), true));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(cache(regionName, true));
+    }
+
+    // 테이블 갱신 시각은 만료되면 쿼리 캐시가 오래된 결과를 돌려줄 수 있으므로 TTL 없음
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(cache(regionName, false));
+    }
+
+    // 영역 이름 -> 통계
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
+    }
+
+    public long size(String regionName) {
+        Cache<Object, Object> cache = caches.get(regionName);
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    private Cache<Object, Object> cache(String regionName, boolean expire) {
+        return caches.computeIfAbsent(regionName, name -> {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maxSize).recordStats();
+            return (expire ? builder.expireAfterWrite(ttl) : builder).build();
+        });
+    }
+
+    private record CaffeineStorageAccess(Cache<Object, Object> cache) implements DomainDataStorageAccess {
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return cache.getIfPresent(key);
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            cache.put(key, value);
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return cache.asMap().containsKey(key);
+        }
+
+        @Override
+        public void evictData() {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void release() {
+            cache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.joa.openapi.common.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// 2차 캐시 영역별 통계 (GET /actuator/entitycache)
+@Component
+@Endpoint(id = "entitycache")
+@RequiredArgsConstructor
+public class EntityCacheEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public record RegionStats(long size, long hitCount, long missCount, double hitRate, long evictionCount) {}
+
+    @ReadOperation
+    public Map<String, RegionStats> regions() {
+        Map<String, RegionStats> regions = new LinkedHashMap<>();
+        if (!(entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory() instanceof CaffeineRegionFactory regionFactory))
+            return regions;
+
+        regionFactory.stats().forEach((name, stats) -> regions.put(name, toRegionStats(regionFactory, name, stats)));
+        return regions;
+    }
+
+    private RegionStats toRegionStats(CaffeineRegionFactory regionFactory, String name, CacheStats stats) {
+        return new RegionStats(regionFactory.size(name), stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+    }
+}
@@ -0,0 +1,79 @@
+package com.joa.openapi.common.cache;
+
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.product.entity.Product;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 2차 캐시(CaffeineRegionFactory)의 은행, 상품 항목 제거
+ * 2차 캐시에서 읽을 때는 @SQLRestriction(is_deleted = 0)이 적용되지 않으므로 soft delete한 행은 반드시 제거해야 함
+ * 커밋 전에 지우면 커밋 전 값을 다른 요청이 다시 넣을 수 있어서 커밋된 뒤에 제거, 트랜잭션 밖이면 바로
+ * 2차 캐시는 서버마다 따로 가지므로 이 서버에서 지우고 EntityCacheInvalidationListener.CHANNEL로 다른 서버에도 알림
+ */
+@Slf4j
+@Component
+public class EntityCacheEvictor {
+
+    private static final String BANK = "bank";
+    private static final String PRODUCT = "product";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean publish;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory,
+                              StringRedisTemplate redisTemplate,
+                              @Value("${cache.entity.invalidation.enabled:true}") boolean publish) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisTemplate = redisTemplate;
+        this.publish = publish;
+    }
+
+    public void evictBank(UUID bankId) {
+        afterCommit(BANK, bankId);
+    }
+
+    public void evictProduct(UUID productId) {
+        afterCommit(PRODUCT, productId);
+    }
+
+    // 다른 서버에서 받은 무효화, 다시 발행하지 않음
+    public void evictLocally(String region, UUID id) {
+        switch (region) {
+            case BANK -> entityManagerFactory.getCache().evict(Bank.class, id);
+            case PRODUCT -> entityManagerFactory.getCache().evict(Product.class, id);
+            default -> throw new IllegalArgumentException(region);
+        }
+    }
+
+    private void afterCommit(String region, UUID id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(region, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(region, id);
+            }
+        });
+    }
+
+    private void evict(String region, UUID id) {
+        evictLocally(region, id);
+        if (!publish) return;
+        try {
+            redisTemplate.convertAndSend(EntityCacheInvalidationListener.CHANNEL, region + ":" + id);
+        } catch (RuntimeException e) {
+            // 발행 실패 시에도 다른 서버의 캐시는 TTL로 만료됨
+            log.warn("2차 캐시 무효화 메시지 발행 실패 {}: {}", region, id, e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.joa.openapi.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCacheInvalidationListener implements MessageListener {
+
+    // 다른 openapi 서버의 EntityCacheEvictor가 발행하는 채널, 메시지는 "<영역>:<id>" (bank:..., product:...)
+    public static final String CHANNEL = "joa:entity-cache:invalidate";
+
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            if (separator < 0) throw new IllegalArgumentException(body);
+            entityCacheEvictor.evictLocally(body.substring(0, separator), UUID.fromString(body.substring(separator + 1).trim()));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 2차 캐시 무효화 메시지: {}", body);
+        }
+    }
+}
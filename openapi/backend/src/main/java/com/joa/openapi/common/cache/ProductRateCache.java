@@ -0,0 +1,57 @@
+package com.joa.openapi.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.product.entity.Product;
+import com.joa.openapi.product.enums.PaymentType;
+import com.joa.openapi.product.enums.ProductType;
+import com.joa.openapi.product.errorcode.ProductErrorCode;
+import com.joa.openapi.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * productId -> 이자 계산에 필요한 상품 값을 프로세스 내에 캐싱
+ * 이자 시뮬레이션(POST /v1/product/interest)이 금액, 기간을 바꿀 때마다 상품을 다시 조회하지 않도록
+ * 상품 종료/삭제 시 ProductService에서 제거
+ */
+@Slf4j
+@Component
+public class ProductRateCache {
+
+    private final ProductRepository productRepository;
+    private final Cache<Object, Object> productRates;
+
+    // 엔티티 대신 변경되지 않는 값만 보관
+    public record ProductRate(UUID productId, String productName, ProductType productType, PaymentType paymentType, Double rate) {
+
+        static ProductRate of(Product product) {
+            return new ProductRate(product.getId(), product.getName(), product.getProductType(), product.getPaymentType(), product.getRate());
+        }
+    }
+
+    public ProductRateCache(ProductRepository productRepository, CacheManager cacheManager) {
+        this.productRepository = productRepository;
+        this.productRates = ((CaffeineCache) cacheManager.getCache(CacheNames.PRODUCT_RATE)).getNativeCache();
+    }
+
+    public ProductRate get(UUID productId) {
+        if (productId == null)
+            throw new RestApiException(ProductErrorCode.NO_PRODUCT);
+
+        // 존재하지 않는 상품은 캐싱하지 않음 (null 반환 시 저장 안 됨)
+        Object rate = productRates.get(productId, key -> productRepository.findById(productId).map(ProductRate::of).orElse(null));
+        if (rate == null)
+            throw new RestApiException(ProductErrorCode.NO_PRODUCT);
+        return (ProductRate) rate;
+    }
+
+    public void evict(UUID productId) {
+        productRates.invalidate(productId);
+        log.info("상품 이율 캐시 무효화 productId: {}", productId);
+    }
+}
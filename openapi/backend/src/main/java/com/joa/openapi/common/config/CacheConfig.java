@@ -0,0 +1,70 @@
+package com.joa.openapi.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.joa.openapi.common.cache.CacheNames;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Value("${cache.api-key.ttl}")
+    private Duration apiKeyTtl;
+
+    @Value("${cache.api-key.max-size}")
+    private long apiKeyMaxSize;
+
+    @Value("${cache.bank-ids.ttl}")
+    private Duration bankIdsTtl;
+
+    @Value("${cache.bank-ids.max-size}")
+    private long bankIdsMaxSize;
+
+    @Value("${cache.bank-owner.ttl}")
+    private Duration bankOwnerTtl;
+
+    @Value("${cache.bank-owner.max-size}")
+    private long bankOwnerMaxSize;
+
+    @Value("${cache.product-rate.ttl}")
+    private Duration productRateTtl;
+
+    @Value("${cache.product-rate.max-size}")
+    private long productRateMaxSize;
+
+    @Value("${cache.account-owner.ttl}")
+    private Duration accountOwnerTtl;
+
+    @Value("${cache.account-owner.max-size}")
+    private long accountOwnerMaxSize;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        // 아래에 등록한 캐시 외에는 동적으로 만들지 않음
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(CacheNames.API_KEY, caffeine(apiKeyTtl, apiKeyMaxSize).build());
+        cacheManager.registerCustomCache(CacheNames.BANK_IDS, caffeine(bankIdsTtl, bankIdsMaxSize).build());
+        cacheManager.registerCustomCache(CacheNames.BANK_OWNER, caffeine(bankOwnerTtl, bankOwnerMaxSize).build());
+        cacheManager.registerCustomCache(CacheNames.PRODUCT_RATE, caffeine(productRateTtl, productRateMaxSize).build());
+        cacheManager.registerCustomCache(CacheNames.ACCOUNT_OWNER, caffeine(accountOwnerTtl, accountOwnerMaxSize).build());
+        return cacheManager;
+    }
+
+    // 크기 제한 + TTL 만료, hit/miss 통계는 actuator(cache.gets)로 노출
+    private Caffeine<Object, Object> caffeine(Duration ttl, long maxSize) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats();
+    }
+}
@@ -0,0 +1,75 @@
+package com.joa.openapi.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${dummy.job.pool-size}")
+    private int dummyJobPoolSize;
+
+    @Value("${dummy.job.queue-capacity}")
+    private int dummyJobQueueCapacity;
+
+    @Value("${dummy.job.await-termination-seconds}")
+    private int dummyJobAwaitTerminationSeconds;
+
+    @Value("${interest.job.partitions}")
+    private int interestJobPartitions;
+
+    @Value("${transaction.one-won.write.pool-size}")
+    private int oneWonWritePoolSize;
+
+    @Value("${transaction.one-won.write.queue-capacity}")
+    private int oneWonWriteQueueCapacity;
+
+    @Value("${transaction.one-won.write.await-termination-seconds}")
+    private int oneWonWriteAwaitTerminationSeconds;
+
+    // 더미 대량 생성 작업용, 동시에 pool-size개만 실행하고 queue-capacity를 넘으면 거절 (DB 커넥션을 다 잡아먹지 않게)
+    // 종료할 때 실행 중인 작업을 await-termination-seconds까지 기다림, 그 뒤에 끊긴 작업은 DummyJobRunner heartbeat가 정리
+    @Bean
+    public ThreadPoolTaskExecutor dummyJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dummyJobPoolSize);
+        executor.setMaxPoolSize(dummyJobPoolSize);
+        executor.setQueueCapacity(dummyJobQueueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(dummyJobAwaitTerminationSeconds);
+        executor.setThreadNamePrefix("dummy-job-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 만기 이자 지급 파티션(은행) 병렬 처리용, 동시에 partitions개 은행까지
+    @Bean
+    public ThreadPoolTaskExecutor interestJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(interestJobPartitions);
+        executor.setMaxPoolSize(interestJobPartitions);
+        executor.setThreadNamePrefix("interest-job-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 1원 인증 입금 반영용 (OneWonDepositWriter), 큐가 가득 차면 요청한 스레드에서 바로 반영해서 입금이 빠지지 않게
+    // 종료할 때도 큐에 남은 입금을 await-termination-seconds까지 반영하고 끝냄
+    @Bean
+    public ThreadPoolTaskExecutor oneWonExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(oneWonWritePoolSize);
+        executor.setMaxPoolSize(oneWonWritePoolSize);
+        executor.setQueueCapacity(oneWonWriteQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(oneWonWriteAwaitTerminationSeconds);
+        executor.setThreadNamePrefix("one-won-");
+        executor.initialize();
+        return executor;
+    }
+}
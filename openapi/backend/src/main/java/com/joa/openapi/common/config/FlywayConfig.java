@@ -0,0 +1,26 @@
+package com.joa.openapi.common.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+@Configuration
+public class FlywayConfig {
+
+    // 기본 동작(JPA 초기화 전에 migrate)은 건너뜀, 테이블은 ddl-auto가 만들기 때문에 새 DB에서는 인덱스를 걸 테이블이 아직 없음
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {};
+    }
+
+    // ddl-auto가 끝난 직후 빈 초기화 단계에서 migrate, 웹 서버는 모든 빈 초기화가 끝난 뒤에 요청을 받기 시작하므로 migrate 중에는 요청이 들어오지 않음
+    // 실패하면 예외가 그대로 올라가서 기동 실패
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public InitializingBean flywayMigration(Flyway flyway) {
+        return flyway::migrate;
+    }
+}
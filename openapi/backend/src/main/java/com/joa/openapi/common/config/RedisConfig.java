@@ -0,0 +1,36 @@
+package com.joa.openapi.common.config;
+
+import com.joa.openapi.common.cache.ApiKeyInvalidationListener;
+import com.joa.openapi.common.cache.EntityCacheInvalidationListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    // admin 서버가 발행하는 API Key 무효화 메시지 구독
+    @Bean
+    @ConditionalOnProperty(name = "cache.api-key.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       ApiKeyInvalidationListener apiKeyInvalidationListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(apiKeyInvalidationListener, new ChannelTopic(ApiKeyInvalidationListener.CHANNEL));
+        return container;
+    }
+
+    // 다른 openapi 서버가 발행하는 2차 캐시(은행, 상품) 무효화 메시지 구독
+    @Bean
+    @ConditionalOnProperty(name = "cache.entity.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer entityCacheListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                      EntityCacheInvalidationListener entityCacheInvalidationListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(entityCacheInvalidationListener, new ChannelTopic(EntityCacheInvalidationListener.CHANNEL));
+        return container;
+    }
+}
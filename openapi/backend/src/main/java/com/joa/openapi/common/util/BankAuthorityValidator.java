@@ -0,0 +1,82 @@
+package com.joa.openapi.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.joa.openapi.bank.errorcode.BankErrorCode;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.cache.ApiKeyCache;
+import com.joa.openapi.common.cache.CacheNames;
+import com.joa.openapi.common.errorcode.CommonErrorCode;
+import com.joa.openapi.common.exception.RestApiException;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * apiKey가 해당 은행을 소유한 관리자의 키인지 확인
+ * adminId는 ApiKeyCache, 은행 소유자는 bank PK 조회 1번 + 짧은 TTL 캐시, 같은 요청 안에서는 결과를 재사용
+ */
+@Component
+public class BankAuthorityValidator {
+
+    private static final String VERIFIED_ATTRIBUTE = BankAuthorityValidator.class.getName() + ".verified";
+
+    private final ApiKeyCache apiKeyCache;
+    private final BankRepository bankRepository;
+    private final Cache<Object, Object> ownerByBankId;
+
+    public BankAuthorityValidator(ApiKeyCache apiKeyCache, BankRepository bankRepository, CacheManager cacheManager) {
+        this.apiKeyCache = apiKeyCache;
+        this.bankRepository = bankRepository;
+        this.ownerByBankId = ((CaffeineCache) cacheManager.getCache(CacheNames.BANK_OWNER)).getNativeCache();
+    }
+
+    public void validate(UUID apiKey, UUID bankId) {
+        Set<String> verified = verifiedInRequest();
+        String key = apiKey + ":" + bankId;
+        if (verified != null && verified.contains(key))
+            return;
+
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
+        if (!adminId.equals(getOwnerId(bankId)))
+            throw new RestApiException(CommonErrorCode.NO_AUTHORIZATION);
+
+        if (verified != null)
+            verified.add(key);
+    }
+
+    public UUID getOwnerId(UUID bankId) {
+        if (bankId == null)
+            throw new RestApiException(BankErrorCode.NO_BANK);
+
+        Object ownerId = ownerByBankId.get(bankId, key -> bankRepository.findAdminIdById(bankId).orElse(null));
+        if (ownerId == null)
+            throw new RestApiException(BankErrorCode.NO_BANK);
+        return (UUID) ownerId;
+    }
+
+    // 은행 삭제 시 호출
+    public void evict(UUID bankId) {
+        ownerByBankId.invalidate(bankId);
+    }
+
+    // HTTP 요청 밖(스케줄러 등)에서는 요청 단위 메모를 쓰지 않음
+    @SuppressWarnings("unchecked")
+    private Set<String> verifiedInRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null)
+            return null;
+
+        Set<String> verified = (Set<String>) attributes.getAttribute(VERIFIED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (verified == null) {
+            verified = new HashSet<>();
+            attributes.setAttribute(VERIFIED_ATTRIBUTE, verified, RequestAttributes.SCOPE_REQUEST);
+        }
+        return verified;
+    }
+}
@@ -0,0 +1,27 @@
+package com.joa.openapi.common.util;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+// JDBC로 BINARY(16) 컬럼에 직접 쓸 때 사용, Hibernate의 UUID 저장 방식과 동일 (상위 8바이트, 하위 8바이트)
+public final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        if (uuid == null)
+            return null;
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID toUuid(byte[] bytes) {
+        if (bytes == null)
+            return null;
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -2,6 +2,7 @@ package com.joa.openapi.dummy.controller;
 
 import com.joa.openapi.common.response.ApiResponse;
 import com.joa.openapi.dummy.dto.*;
+import com.joa.openapi.dummy.service.DummyMacroService;
 import com.joa.openapi.dummy.service.DummyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,23 +22,60 @@ import java.util.UUID;
 public class DummyController {
 
     private final DummyService dummyService;
+    private final DummyMacroService dummyMacroService;
 
     @PostMapping("/member")
     public ResponseEntity<?> createMember(@RequestHeader("apiKey") UUID apiKey, @RequestBody DummyMemberRequestDto req) {
         DummyResponseDto dummyResponseDto = dummyService.createMember(apiKey, req);
-        return ResponseEntity.ok(ApiResponse.success("멤버 더미데이터 생성 성공했습니다.", dummyResponseDto));
+        return ResponseEntity.accepted().body(ApiResponse.success("멤버 더미데이터 생성 작업을 등록했습니다.", dummyResponseDto));
     }
 
     @PostMapping("/account")
     public ResponseEntity<?> createAccount(@RequestHeader("apiKey") UUID apiKey, @RequestBody DummyAccountRequestDto req) {
         DummyResponseDto dummyResponseDto = dummyService.createAccount(apiKey, req);
-        return ResponseEntity.ok(ApiResponse.success("계좌 더미데이터 생성 성공했습니다.", dummyResponseDto));
+        return ResponseEntity.accepted().body(ApiResponse.success("계좌 더미데이터 생성 작업을 등록했습니다.", dummyResponseDto));
     }
 
     @PostMapping("/transaction")
     public ResponseEntity<?> createTransaction(@RequestHeader("apiKey") UUID apiKey, @RequestBody DummyTransactionRequestDto req) {
         DummyResponseDto dummyResponseDto = dummyService.createTransaction(apiKey, req);
-        return ResponseEntity.ok(ApiResponse.success("거래내역 더미데이터 생성 성공했습니다.", dummyResponseDto));
+        return ResponseEntity.accepted().body(ApiResponse.success("거래내역 더미데이터 생성 작업을 등록했습니다.", dummyResponseDto));
+    }
+
+    @GetMapping("/jobs/{dummyId}")
+    public ResponseEntity<?> searchJob(@RequestHeader("apiKey") UUID apiKey, @PathVariable(value = "dummyId") UUID dummyId) {
+        DummyJobResponseDto dummyJobResponseDto = dummyService.searchJob(apiKey, dummyId);
+        return ResponseEntity.ok(ApiResponse.success("더미데이터 생성 작업 조회 성공했습니다.", dummyJobResponseDto));
+    }
+
+    @PostMapping("/jobs/{dummyId}/cancel")
+    public ResponseEntity<?> cancelJob(@RequestHeader("apiKey") UUID apiKey, @PathVariable(value = "dummyId") UUID dummyId) {
+        DummyJobResponseDto dummyJobResponseDto = dummyService.cancelJob(apiKey, dummyId);
+        return ResponseEntity.ok(ApiResponse.success("더미데이터 생성 작업 취소 성공했습니다.", dummyJobResponseDto));
+    }
+
+    @GetMapping("/macros")
+    public ResponseEntity<?> searchMacros(@RequestHeader("apiKey") UUID apiKey) {
+        List<DummyMacroResponseDto> dummyMacroResponseDtoList = dummyMacroService.searchAll(apiKey);
+        return ResponseEntity.ok(ApiResponse.success("더미데이터 매크로 조회 성공했습니다.", dummyMacroResponseDtoList));
+    }
+
+    @PostMapping("/macros/{macroId}/pause")
+    public ResponseEntity<?> pauseMacro(@RequestHeader("apiKey") UUID apiKey, @PathVariable(value = "macroId") UUID macroId) {
+        DummyMacroResponseDto dummyMacroResponseDto = dummyMacroService.pause(apiKey, macroId);
+        return ResponseEntity.ok(ApiResponse.success("더미데이터 매크로 일시정지 성공했습니다.", dummyMacroResponseDto));
+    }
+
+    @PostMapping("/macros/{macroId}/resume")
+    public ResponseEntity<?> resumeMacro(@RequestHeader("apiKey") UUID apiKey, @PathVariable(value = "macroId") UUID macroId) {
+        DummyMacroResponseDto dummyMacroResponseDto = dummyMacroService.resume(apiKey, macroId);
+        return ResponseEntity.ok(ApiResponse.success("더미데이터 매크로 재시작 성공했습니다.", dummyMacroResponseDto));
+    }
+
+    @DeleteMapping("/macros/{macroId}")
+    public ResponseEntity<?> deleteMacro(@RequestHeader("apiKey") UUID apiKey, @PathVariable(value = "macroId") UUID macroId) {
+        DummyMacroResponseDto dummyMacroResponseDto = dummyMacroService.delete(apiKey, macroId);
+        return ResponseEntity.ok(ApiResponse.success("더미데이터 매크로 삭제 성공했습니다.", dummyMacroResponseDto));
     }
 
     @DeleteMapping("/{dummyId}")
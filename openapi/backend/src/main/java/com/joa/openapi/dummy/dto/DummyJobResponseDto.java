@@ -0,0 +1,61 @@
+package com.joa.openapi.dummy.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.joa.openapi.dummy.entity.Dummy;
+import com.joa.openapi.dummy.enums.DummyStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DummyJobResponseDto {
+
+    private UUID dummyId;
+    private String name;
+    private DummyStatus status;
+    private Integer targetCount;
+    private Integer generatedCount;
+    private Double rowsPerSecond;
+    private Long etaSeconds;    // 실행 중일 때만, 지금까지의 처리량 기준
+    private String failReason;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startedAt;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime finishedAt;
+
+    public static DummyJobResponseDto toDto(Dummy dummy, LocalDateTime now) {
+        int target = dummy.getTargetCount() == null ? 0 : dummy.getTargetCount();
+        int generated = dummy.getGeneratedCount() == null ? 0 : dummy.getGeneratedCount();
+
+        Double rowsPerSecond = null;
+        Long etaSeconds = null;
+        if (dummy.getStartedAt() != null) {
+            LocalDateTime end = dummy.getFinishedAt() == null ? now : dummy.getFinishedAt();
+            double seconds = Math.max(Duration.between(dummy.getStartedAt(), end).toMillis(), 1) / 1000.0;
+            rowsPerSecond = Math.round(generated / seconds * 10) / 10.0;
+            if (dummy.getStatus() == DummyStatus.RUNNING && generated > 0)
+                etaSeconds = (long) Math.ceil((target - generated) * seconds / generated);
+        }
+
+        return DummyJobResponseDto.builder()
+                .dummyId(dummy.getId())
+                .name(dummy.getName())
+                .status(dummy.getStatus())
+                .targetCount(target)
+                .generatedCount(generated)
+                .rowsPerSecond(rowsPerSecond)
+                .etaSeconds(etaSeconds)
+                .failReason(dummy.getFailReason())
+                .startedAt(dummy.getStartedAt())
+                .finishedAt(dummy.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.joa.openapi.dummy.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.joa.openapi.dummy.entity.DummyMacro;
+import com.joa.openapi.dummy.enums.RepeatTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DummyMacroResponseDto {
+
+    private UUID macroId;
+    private UUID dummyId;
+    private UUID bankId;
+    private RepeatTime term;
+    private Integer count;
+    private List<UUID> users;
+    private Boolean isPaused;
+    private Long runCount;
+    private Long failCount;
+    private String lastFailReason;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime lastRunAt;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime createdAt;
+
+    public static DummyMacroResponseDto toDto(DummyMacro macro) {
+        return DummyMacroResponseDto.builder()
+                .macroId(macro.getId())
+                .dummyId(macro.getDummy().getId())
+                .bankId(macro.getBankId())
+                .term(macro.getTerm())
+                .count(macro.getCount())
+                .users(List.copyOf(macro.getUsers()))
+                .isPaused(macro.getIsPaused())
+                .runCount(macro.getRunCount())
+                .failCount(macro.getFailCount())
+                .lastFailReason(macro.getLastFailReason())
+                .lastRunAt(macro.getLastRunAt())
+                .createdAt(macro.getCreatedAt())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.joa.openapi.dummy.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.joa.openapi.dummy.entity.Dummy;
+import com.joa.openapi.dummy.enums.DummyStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,6 +23,8 @@ public class DummyResponseDto {
     private Integer memberCount;
     private Integer accountCount;
     private Integer transactionCount;
+    private Integer generatedCount;
+    private DummyStatus status;
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
     private LocalDateTime createdAt;
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
@@ -35,6 +38,8 @@ public class DummyResponseDto {
                 .memberCount(dummy.getMemberCount())
                 .accountCount(dummy.getAccountCount())
                 .transactionCount(dummy.getTransactionCount())
+                .generatedCount(dummy.getGeneratedCount())
+                .status(dummy.getStatus())
                 .createdAt(dummy.getCreatedAt())
                 .updatedAt(dummy.getUpdatedAt())
                 .build();
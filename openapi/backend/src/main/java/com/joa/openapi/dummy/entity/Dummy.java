@@ -2,12 +2,14 @@ package com.joa.openapi.dummy.entity;
 
 import com.joa.openapi.account.entity.Account;
 import com.joa.openapi.common.entity.BaseEntity;
+import com.joa.openapi.dummy.enums.DummyStatus;
 import com.joa.openapi.member.entity.Member;
 import com.joa.openapi.transaction.entity.Transaction;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -29,6 +31,12 @@ public class Dummy extends BaseEntity {
     private Integer accountCount;
     private Integer transactionCount;
     private UUID adminId;
+    private Integer generatedCount; //대량 생성 시 커밋된 수, 진행률 확인용
+    @Enumerated(EnumType.STRING)
+    private DummyStatus status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String failReason;
 
     @OneToMany(mappedBy = "dummy")
     private List<Member> memberList = new ArrayList<>();
@@ -40,4 +48,13 @@ public class Dummy extends BaseEntity {
     private List<Account> accountList = new ArrayList<>();
 
     public void updateName(String name) { this.name = name; }
+
+    public void updateGeneratedCount(Integer generatedCount) { this.generatedCount = generatedCount; }
+
+    // 생성 목표 수, 멤버/계좌/거래내역 중 하나만 값이 있음
+    public Integer getTargetCount() {
+        if (memberCount != null) return memberCount;
+        if (accountCount != null) return accountCount;
+        return transactionCount;
+    }
 }
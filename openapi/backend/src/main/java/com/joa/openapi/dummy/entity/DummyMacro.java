@@ -0,0 +1,55 @@
+package com.joa.openapi.dummy.entity;
+
+import com.joa.openapi.common.entity.BaseEntity;
+import com.joa.openapi.dummy.enums.RepeatTime;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// 주기적으로 거래내역 더미를 만드는 매크로, 실행마다 같은 더미에 거래내역이 쌓임
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@SQLRestriction("is_deleted = 0")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DummyMacro extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+    private UUID adminId;
+    private UUID bankId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "dummy_id")
+    private Dummy dummy;
+
+    @Enumerated(EnumType.STRING)
+    private RepeatTime term;
+    private Integer count;  // 실행 한 번에 만드는 거래내역 수
+
+    @Builder.Default
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "dummy_macro_member", joinColumns = @JoinColumn(name = "macro_id"))
+    @Column(name = "member_id", columnDefinition = "BINARY(16)")
+    private List<UUID> users = new ArrayList<>();
+
+    private Boolean isPaused;
+
+    @ColumnDefault("0")
+    private Long runCount;
+    @ColumnDefault("0")
+    private Long failCount;
+    private LocalDateTime lastRunAt;
+    private String lastFailReason;
+
+    public void updateIsPaused(Boolean isPaused) { this.isPaused = isPaused; }
+}
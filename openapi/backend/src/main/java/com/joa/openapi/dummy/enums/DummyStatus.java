@@ -0,0 +1,5 @@
+package com.joa.openapi.dummy.enums;
+
+public enum DummyStatus {
+    QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED;
+}
@@ -1,5 +1,16 @@
 package com.joa.openapi.dummy.enums;
 
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
 public enum RepeatTime {
-    MINUTE, HOUR, DAY;
+    MINUTE("0 * * * * *", Duration.ofMinutes(1)),
+    HOUR("0 0 * * * *", Duration.ofHours(1)),
+    DAY("0 0 0 * * *", Duration.ofDays(1));
+
+    private final String cron;
+    private final Duration interval;
 }
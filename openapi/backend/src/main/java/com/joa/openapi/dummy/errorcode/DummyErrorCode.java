@@ -10,7 +10,14 @@ import org.springframework.http.HttpStatus;
 public enum DummyErrorCode implements ErrorCode {
 
     NO_DUMMY(HttpStatus.BAD_REQUEST, "해당하는 더미가 없습니다."),
-    NO_SELECT_MEMBER(HttpStatus.BAD_REQUEST, "선택한 유저가 없습니다.");
+    NO_SELECT_MEMBER(HttpStatus.BAD_REQUEST, "선택한 유저가 없습니다."),
+    NO_DUMMY_ACCOUNT(HttpStatus.BAD_REQUEST, "선택한 유저에게 계좌가 없습니다."),
+    JOB_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "대기 중인 더미 생성 작업이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    JOB_NOT_RUNNING(HttpStatus.BAD_REQUEST, "대기 중이거나 실행 중인 더미 생성 작업이 아닙니다."),
+    JOB_ABANDONED(HttpStatus.INTERNAL_SERVER_ERROR, "서버가 종료되어 더미 생성 작업이 중단되었습니다."),
+    NO_MACRO(HttpStatus.BAD_REQUEST, "해당하는 매크로가 없습니다."),
+    TOO_MANY_MACRO(HttpStatus.BAD_REQUEST, "더 이상 매크로를 등록할 수 없습니다."),
+    MACRO_COUNT_TOO_LARGE(HttpStatus.BAD_REQUEST, "매크로 한 번에 만들 수 있는 거래내역 수를 넘었습니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -0,0 +1,168 @@
+package com.joa.openapi.dummy.repository;
+
+import static com.joa.openapi.common.util.UuidBytes.toBytes;
+
+import com.joa.openapi.dummy.enums.DummyStatus;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 더미 대량 생성용 JDBC batch, 엔티티를 거치지 않고 청크 단위로 INSERT
+@Repository
+@RequiredArgsConstructor
+public class DummyBulkRepository {
+
+    private static final String INSERT_MEMBER = "INSERT INTO member "
+            + "(id, name, bank_id, dummy_id, created_at, updated_at, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ACCOUNT = "INSERT INTO account "
+            + "(id, name, balance, password, is_dormant, transfer_limit, payment_num, non_payment_num, start_date, end_date, term, "
+            + "deposit_account, withdraw_account, amount, bank_id, version, member_id, dummy_id, product_id, created_at, updated_at, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public record MemberRow(UUID id, String name) {}
+
+    public record AccountRow(String id, String name, UUID memberId) {}
+
+    // 모든 계좌에 공통인 값 (더미 계좌는 같은 은행, 같은 상품, 같은 기간으로 생성)
+    public record AccountTemplate(UUID bankId, UUID productId, UUID dummyId, Long balance, String password,
+                                  Long transferLimit, Integer term, LocalDate startDate, LocalDate endDate) {}
+
+    public void insertMembers(List<MemberRow> members, UUID bankId, UUID dummyId, LocalDateTime now) {
+        byte[] bank = toBytes(bankId);
+        byte[] dummy = toBytes(dummyId);
+        Timestamp timestamp = Timestamp.valueOf(now);
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_MEMBER, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                MemberRow member = members.get(i);
+                ps.setBytes(1, toBytes(member.id()));
+                ps.setString(2, member.name());
+                ps.setBytes(3, bank);
+                ps.setBytes(4, dummy);
+                ps.setTimestamp(5, timestamp);
+                ps.setTimestamp(6, timestamp);
+                ps.setBoolean(7, false);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return members.size();
+            }
+        });
+    }
+
+    public void insertAccounts(List<AccountRow> accounts, AccountTemplate template, LocalDateTime now) {
+        byte[] bank = toBytes(template.bankId());
+        byte[] product = toBytes(template.productId());
+        byte[] dummy = toBytes(template.dummyId());
+        Timestamp timestamp = Timestamp.valueOf(now);
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_ACCOUNT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AccountRow account = accounts.get(i);
+                ps.setString(1, account.id());
+                ps.setString(2, account.name());
+                ps.setLong(3, template.balance());
+                ps.setString(4, template.password());
+                ps.setBoolean(5, false);
+                ps.setLong(6, template.transferLimit());
+                ps.setInt(7, 0);
+                ps.setInt(8, 0);
+                ps.setDate(9, Date.valueOf(template.startDate()));
+                ps.setDate(10, Date.valueOf(template.endDate()));
+                ps.setInt(11, template.term());
+                ps.setString(12, account.id());
+                ps.setString(13, account.id());
+                ps.setLong(14, 0L);
+                ps.setBytes(15, bank);
+                ps.setLong(16, 0L);
+                ps.setBytes(17, toBytes(account.memberId()));
+                ps.setBytes(18, dummy);
+                ps.setBytes(19, product);
+                ps.setTimestamp(20, timestamp);
+                ps.setTimestamp(21, timestamp);
+                ps.setBoolean(22, false);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return accounts.size();
+            }
+        });
+    }
+
+    // 삭제된 계좌도 기본키는 차지하므로 @SQLRestriction 없이 확인
+    public List<String> findExistingAccountIds(Collection<String> accountIds) {
+        return namedParameterJdbcTemplate.queryForList("SELECT id FROM account WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", accountIds), String.class);
+    }
+
+    // 청크 INSERT와 같은 트랜잭션에서 더해서 커밋된 수와 항상 일치
+    public void addGeneratedCount(UUID dummyId, int count, LocalDateTime now) {
+        namedParameterJdbcTemplate.getJdbcTemplate().update("UPDATE dummy SET generated_count = generated_count + ?, updated_at = ? WHERE id = ?",
+                count, Timestamp.valueOf(now), toBytes(dummyId));
+    }
+
+    // 매크로는 실행할 때마다 목표 수도 같이 늘어남
+    public void addTransactionCount(UUID dummyId, int count) {
+        namedParameterJdbcTemplate.getJdbcTemplate().update("UPDATE dummy SET transaction_count = transaction_count + ? WHERE id = ?",
+                count, toBytes(dummyId));
+    }
+
+    // 대기 중인 작업만 실행 상태로, 시작 전에 취소됐으면 0
+    public int startJob(UUID dummyId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return namedParameterJdbcTemplate.getJdbcTemplate().update("UPDATE dummy SET status = ?, started_at = ?, updated_at = ? WHERE id = ? AND status = ?",
+                DummyStatus.RUNNING.name(), timestamp, timestamp, toBytes(dummyId), DummyStatus.QUEUED.name());
+    }
+
+    // 완료/실패/취소 중 먼저 도착한 상태만 반영 (취소된 작업이 완료로 덮어써지지 않게)
+    public int finishJob(UUID dummyId, DummyStatus status, String failReason, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return namedParameterJdbcTemplate.getJdbcTemplate().update("UPDATE dummy SET status = ?, fail_reason = ?, finished_at = ?, updated_at = ? "
+                        + "WHERE id = ? AND status IN (?, ?)",
+                status.name(), failReason, timestamp, timestamp, toBytes(dummyId), DummyStatus.QUEUED.name(), DummyStatus.RUNNING.name());
+    }
+
+    // 이 서버가 들고 있는 대기, 실행 중 작업의 heartbeat
+    public void touchJobs(Collection<UUID> dummyIds, LocalDateTime now) {
+        if (dummyIds.isEmpty()) return;
+        namedParameterJdbcTemplate.update("UPDATE dummy SET updated_at = :now WHERE id IN (:ids) AND status IN (:active)",
+                new MapSqlParameterSource("now", Timestamp.valueOf(now))
+                        .addValue("ids", dummyIds.stream().map(dummyId -> toBytes(dummyId)).toList())
+                        .addValue("active", List.of(DummyStatus.QUEUED.name(), DummyStatus.RUNNING.name())));
+    }
+
+    // heartbeat가 staleBefore 이전에 멈춘 대기, 실행 중 작업(작업을 들고 있던 서버가 종료됨)을 실패로, 바꾼 수
+    // 매크로 더미는 DummyJobRunner를 거치지 않고 매크로가 삭제될 때까지 RUNNING이므로 제외
+    public int failAbandonedJobs(String failReason, LocalDateTime staleBefore, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return namedParameterJdbcTemplate.getJdbcTemplate().update("UPDATE dummy SET status = ?, fail_reason = ?, finished_at = ?, updated_at = ? "
+                        + "WHERE status IN (?, ?) AND updated_at < ? "
+                        + "AND NOT EXISTS (SELECT 1 FROM dummy_macro m WHERE m.dummy_id = dummy.id AND m.is_deleted = 0)",
+                DummyStatus.FAILED.name(), failReason, timestamp, timestamp, DummyStatus.QUEUED.name(), DummyStatus.RUNNING.name(),
+                Timestamp.valueOf(staleBefore));
+    }
+
+    // 취소됐거나 삭제된 더미면 true
+    public boolean isCancelled(UUID dummyId) {
+        Integer alive = namedParameterJdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT COUNT(*) FROM dummy WHERE id = ? AND is_deleted = 0 AND (status IS NULL OR status <> ?)",
+                Integer.class, toBytes(dummyId), DummyStatus.CANCELLED.name());
+        return alive == null || alive == 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.joa.openapi.dummy.repository;
+
+import com.joa.openapi.dummy.entity.DummyMacro;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DummyMacroRepository extends JpaRepository<DummyMacro, UUID> {
+
+    List<DummyMacro> findAllByAdminId(UUID adminId);
+
+    List<DummyMacro> findAllByIsPausedFalse();
+
+    long countByAdminId(UUID adminId);
+
+    // 이번 주기 실행권 획득, 서버가 여러 대거나 이전 실행이 밀려도 주기마다 한 번만 실행
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DummyMacro m SET m.lastRunAt = :now WHERE m.id = :id AND m.isPaused = false AND m.isDeleted = false "
+            + "AND (m.lastRunAt IS NULL OR m.lastRunAt <= :before)")
+    int claimRun(@Param("id") UUID id, @Param("now") LocalDateTime now, @Param("before") LocalDateTime before);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DummyMacro m SET m.runCount = m.runCount + 1 WHERE m.id = :id")
+    void increaseRunCount(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DummyMacro m SET m.failCount = m.failCount + 1, m.lastFailReason = :reason WHERE m.id = :id")
+    void increaseFailCount(@Param("id") UUID id, @Param("reason") String reason);
+}
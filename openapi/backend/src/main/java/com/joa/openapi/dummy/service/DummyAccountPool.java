@@ -0,0 +1,61 @@
+package com.joa.openapi.dummy.service;
+
+import com.joa.openapi.account.dto.AccountBalanceDto;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 거래내역 더미 생성용 계좌 인덱스, 선택한 멤버들의 계좌를 한 번만 읽어서 배열로 보관
+ * 멤버 m의 계좌는 accountIds[memberStart[m]] ~ accountIds[memberStart[m + 1] - 1]
+ * 잔액은 생성하면서 balances에 바로 반영하므로 한 작업(스레드)에서만 사용
+ */
+final class DummyAccountPool {
+
+    final String[] accountIds;
+    final UUID[] bankIds;
+    final long[] balances;
+    final String[] memberNames;
+    private final int[] memberStart;
+
+    // accounts는 멤버 순으로 정렬되어 있어야 함 (AccountRepositoryCustom.findBalancesByHolderIds)
+    DummyAccountPool(List<AccountBalanceDto> accounts) {
+        int size = accounts.size();
+        accountIds = new String[size];
+        bankIds = new UUID[size];
+        balances = new long[size];
+
+        int members = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || !accounts.get(i).getHolderId().equals(accounts.get(i - 1).getHolderId())) members++;
+        }
+        memberNames = new String[members];
+        memberStart = new int[members + 1];
+
+        int member = -1;
+        for (int i = 0; i < size; i++) {
+            AccountBalanceDto account = accounts.get(i);
+            if (i == 0 || !account.getHolderId().equals(accounts.get(i - 1).getHolderId())) {
+                member++;
+                memberStart[member] = i;
+                memberNames[member] = account.getHolderName();
+            }
+            accountIds[i] = account.getAccountId();
+            bankIds[i] = account.getBankId();
+            balances[i] = account.getBalance();
+        }
+        memberStart[members] = size;
+    }
+
+    int size() {
+        return accountIds.length;
+    }
+
+    int memberCount() {
+        return memberNames.length;
+    }
+
+    int randomAccount(int member, ThreadLocalRandom random) {
+        return memberStart[member] + random.nextInt(memberStart[member + 1] - memberStart[member]);
+    }
+}
@@ -0,0 +1,177 @@
+package com.joa.openapi.dummy.service;
+
+import com.joa.openapi.account.service.AccountNumberGenerator;
+import com.joa.openapi.account.service.AccountService;
+import com.joa.openapi.bank.service.BankAggregateService;
+import com.joa.openapi.dummy.entity.Dummy;
+import com.joa.openapi.dummy.repository.DummyBulkRepository;
+import com.joa.openapi.dummy.repository.DummyBulkRepository.AccountRow;
+import com.joa.openapi.dummy.repository.DummyBulkRepository.AccountTemplate;
+import com.joa.openapi.dummy.repository.DummyBulkRepository.MemberRow;
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.repository.TransactionBulkRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 더미 멤버/계좌 대량 생성
+ * 은행, 상품, 관리자 검증은 호출하는 쪽에서 한 번만 하고, 여기서는 메모리에서 행을 만들어
+ * chunkSize 단위로 JDBC batch INSERT 후 커밋 (청크마다 Dummy.generatedCount 증가)
+ * 작업 상태(대기/실행/완료)는 DummyJobRunner가 관리
+ */
+@Slf4j
+@Component
+public class DummyBulkGenerator {
+
+    private static final long INITIAL_DEPOSIT = 100000L;   // 계좌 별 기본금 10만원
+    private static final int TERM = 12;
+    private static final long TRANSFER_LIMIT = 100L;
+
+    private final DummyBulkRepository dummyBulkRepository;
+    private final TransactionBulkRepository transactionBulkRepository;
+    private final AccountService accountService;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final BankAggregateService bankAggregateService;
+    private final NeyhuingName neyhuingName;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    public DummyBulkGenerator(DummyBulkRepository dummyBulkRepository,
+                              TransactionBulkRepository transactionBulkRepository,
+                              AccountService accountService,
+                              AccountNumberGenerator accountNumberGenerator,
+                              BankAggregateService bankAggregateService,
+                              NeyhuingName neyhuingName,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${dummy.bulk.chunk-size}") int chunkSize) {
+        this.dummyBulkRepository = dummyBulkRepository;
+        this.transactionBulkRepository = transactionBulkRepository;
+        this.accountService = accountService;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.bankAggregateService = bankAggregateService;
+        this.neyhuingName = neyhuingName;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    // 멤버 count명과 멤버 별 기본 입출금 계좌 생성
+    public int generateMembers(Dummy dummy, UUID bankId, UUID productId, int count) {
+        return generate(dummy, bankId, productId, count, null);
+    }
+
+    // 선택한 멤버들에게 계좌 count개를 무작위로 생성
+    public int generateAccounts(Dummy dummy, UUID bankId, UUID productId, List<UUID> memberIds, int count) {
+        return generate(dummy, bankId, productId, count, memberIds);
+    }
+
+    private int generate(Dummy dummy, UUID bankId, UUID productId, int count, List<UUID> memberIds) {
+        LocalDate today = LocalDate.now();
+        AccountTemplate template = new AccountTemplate(bankId, productId, dummy.getId(), INITIAL_DEPOSIT, "dummy", TRANSFER_LIMIT, TERM,
+                today, today.plusMonths(TERM).minusDays(1));
+        return runInChunks(dummy.getId(), count, size -> writeChunk(dummy.getId(), template, size, memberIds));
+    }
+
+    /**
+     * count개를 chunkSize 단위로 나눠 청크마다 새 트랜잭션에서 writer 실행 후 generatedCount 증가
+     * 청크 사이마다 작업 상태를 확인해서 취소(또는 삭제)된 더미는 거기서 멈춤, 이미 커밋된 청크는 남김
+     */
+    public int runInChunks(UUID dummyId, int count, IntConsumer writer) {
+        long start = System.nanoTime();
+
+        int generated = 0;
+        while (generated < count) {
+            if (dummyBulkRepository.isCancelled(dummyId)) {
+                log.info("더미 생성 중단 dummyId: {}, {}/{}", dummyId, generated, count);
+                break;
+            }
+
+            int size = Math.min(chunkSize, count - generated);
+            chunkTransaction.executeWithoutResult(tx -> {
+                writer.accept(size);
+                dummyBulkRepository.addGeneratedCount(dummyId, size, LocalDateTime.now());
+            });
+            generated += size;
+
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            log.info("더미 생성 진행 dummyId: {}, {}/{} ({} rows/s)", dummyId, generated, count, (long) (generated / seconds));
+        }
+        return generated;
+    }
+
+    private void writeChunk(UUID dummyId, AccountTemplate template, int size, List<UUID> memberIds) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<MemberRow> members = new ArrayList<>(memberIds == null ? size : 0);
+        List<AccountRow> accounts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UUID memberId;
+            if (memberIds == null) {
+                memberId = UUID.randomUUID();
+                members.add(new MemberRow(memberId, neyhuingName.makeNeyhuing(3)));
+            } else {
+                memberId = memberIds.get(random.nextInt(memberIds.size()));
+            }
+            accounts.add(new AccountRow(newAccountId(template.bankId(), memberId), neyhuingName.makeNeyhuing(4), memberId));
+        }
+        resolveCollisions(accounts, template.bankId());
+
+        List<TransactionResponseDto> deposits = new ArrayList<>(size);
+        for (AccountRow account : accounts) {
+            deposits.add(TransactionResponseDto.builder()
+                    .transactionId(UUID.randomUUID())
+                    .amount(INITIAL_DEPOSIT)
+                    .depositorName("입금")
+                    .toAccount(account.id())
+                    .toBankId(template.bankId())
+                    .dummyId(dummyId)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        if (!members.isEmpty()) {
+            dummyBulkRepository.insertMembers(members, template.bankId(), dummyId, now);
+            bankAggregateService.recordMembers(template.bankId(), members.size());
+        }
+        dummyBulkRepository.insertAccounts(accounts, template, now);
+        transactionBulkRepository.insertAll(deposits);
+        bankAggregateService.recordTransactions(deposits);
+    }
+
+    // 일련번호는 AccountNumberGenerator가 발급하므로 이번 실행, 다른 서버에서 만든 번호와 겹치지 않음
+    private String newAccountId(UUID bankId, UUID memberId) {
+        return accountService.createAccountId(bankId, memberId, accountNumberGenerator.nextSerial());
+    }
+
+    // 예전에 9자리 난수로 만든 계좌번호와 겹치면 다시 발급, 청크당 조회 1번
+    private void resolveCollisions(List<AccountRow> accounts, UUID bankId) {
+        List<String> existing = dummyBulkRepository.findExistingAccountIds(accounts.stream().map(AccountRow::id).toList());
+        while (!existing.isEmpty()) {
+            Set<String> collided = new HashSet<>(existing);
+            List<String> reissued = new ArrayList<>();
+            for (int i = 0; i < accounts.size(); i++) {
+                AccountRow account = accounts.get(i);
+                if (!collided.contains(account.id())) continue;
+                AccountRow replaced = new AccountRow(newAccountId(bankId, account.memberId()), account.name(), account.memberId());
+                accounts.set(i, replaced);
+                reissued.add(replaced.id());
+            }
+            existing = dummyBulkRepository.findExistingAccountIds(reissued);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.joa.openapi.dummy.service;
+
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.dummy.enums.DummyStatus;
+import com.joa.openapi.dummy.errorcode.DummyErrorCode;
+import com.joa.openapi.dummy.repository.DummyBulkRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 더미 생성 작업을 백그라운드로 실행하고 Dummy.status에 상태 기록
+ * QUEUED -> RUNNING -> COMPLETED | FAILED, QUEUED/RUNNING 중에는 CANCELLED로 취소 가능
+ * 상태 전이는 조건부 UPDATE라 취소와 완료가 겹쳐도 먼저 반영된 쪽이 남음
+ * 이 서버가 들고 있는 작업은 heartbeat-millis마다 updated_at을 갱신하고, lease 동안 갱신되지 않은 작업은
+ * 서버가 중간에 종료된 것으로 보고 어느 서버에서든 FAILED로 정리 (서버 시작 직후에도 한 번)
+ */
+@Slf4j
+@Component
+public class DummyJobRunner {
+
+    private static final int MAX_FAIL_REASON_LENGTH = 255;
+
+    private final DummyBulkRepository dummyBulkRepository;
+    private final ThreadPoolTaskExecutor dummyJobExecutor;
+    private final Duration lease;
+    // 이 서버의 큐에 있거나 실행 중인 작업
+    private final Set<UUID> activeJobs = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopping;
+
+    public DummyJobRunner(DummyBulkRepository dummyBulkRepository,
+                          @Qualifier("dummyJobExecutor") ThreadPoolTaskExecutor dummyJobExecutor,
+                          @Value("${dummy.job.lease}") Duration lease) {
+        this.dummyBulkRepository = dummyBulkRepository;
+        this.dummyJobExecutor = dummyJobExecutor;
+        this.lease = lease;
+    }
+
+    // QUEUED 상태로 저장된 더미의 생성 작업 등록, 큐가 가득 차면 실패 처리 후 예외
+    public void submit(UUID dummyId, Runnable job) {
+        activeJobs.add(dummyId);
+        try {
+            dummyJobExecutor.execute(() -> run(dummyId, job));
+        } catch (TaskRejectedException e) {
+            activeJobs.remove(dummyId);
+            dummyBulkRepository.finishJob(dummyId, DummyStatus.FAILED, DummyErrorCode.JOB_QUEUE_FULL.getMessage(), LocalDateTime.now());
+            throw new RestApiException(DummyErrorCode.JOB_QUEUE_FULL);
+        }
+    }
+
+    // 들고 있는 작업의 heartbeat, 다른 서버가 종료되면서 남긴 작업 정리
+    @Scheduled(fixedDelayString = "${dummy.job.heartbeat-millis}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        dummyBulkRepository.touchJobs(List.copyOf(activeJobs), now);
+        int abandoned = dummyBulkRepository.failAbandonedJobs(DummyErrorCode.JOB_ABANDONED.getMessage(), now.minus(lease), now);
+        if (abandoned > 0) log.warn("서버 종료로 중단된 더미 생성 작업 {}건 실패 처리", abandoned);
+    }
+
+    // 종료 중에는 큐에 남은 작업을 시작하지 않고, 실행 중인 작업은 await-termination-seconds까지 기다림
+    // 작업에 쓰는 빈(DataSource 등)보다 먼저 정리되므로 여기서 기다림
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+        dummyJobExecutor.shutdown();
+    }
+
+    public boolean cancel(UUID dummyId) {
+        return dummyBulkRepository.finishJob(dummyId, DummyStatus.CANCELLED, null, LocalDateTime.now()) > 0;
+    }
+
+    private void run(UUID dummyId, Runnable job) {
+        try {
+            if (stopping) {
+                dummyBulkRepository.finishJob(dummyId, DummyStatus.FAILED, DummyErrorCode.JOB_ABANDONED.getMessage(), LocalDateTime.now());
+                return;
+            }
+            // 대기 중에 취소됨
+            if (dummyBulkRepository.startJob(dummyId, LocalDateTime.now()) == 0) return;
+
+            try {
+                job.run();
+                dummyBulkRepository.finishJob(dummyId, DummyStatus.COMPLETED, null, LocalDateTime.now());
+            } catch (Exception e) {
+                log.error("더미 생성 실패 dummyId: {}", dummyId, e);
+                String reason = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+                if (reason.length() > MAX_FAIL_REASON_LENGTH) reason = reason.substring(0, MAX_FAIL_REASON_LENGTH);
+                dummyBulkRepository.finishJob(dummyId, DummyStatus.FAILED, reason, LocalDateTime.now());
+            }
+        } finally {
+            activeJobs.remove(dummyId);
+        }
+    }
+}
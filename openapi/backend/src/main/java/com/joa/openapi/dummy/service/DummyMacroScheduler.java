@@ -0,0 +1,50 @@
+package com.joa.openapi.dummy.service;
+
+import com.joa.openapi.dummy.enums.RepeatTime;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매크로 별로 cron 작업을 등록/해제하는 스케줄러
+ * @Scheduled 작업(이자 지급 등)과 스레드를 나눠 쓰지 않도록 전용 풀 사용, pool-size개까지 동시에 실행
+ */
+@Component
+public class DummyMacroScheduler {
+
+    private final ThreadPoolTaskScheduler taskScheduler;
+    private final Map<UUID, ScheduledFuture<?>> scheduled = new ConcurrentHashMap<>();
+
+    public DummyMacroScheduler(@Value("${dummy.macro.pool-size}") int poolSize, MeterRegistry meterRegistry) {
+        this.taskScheduler = new ThreadPoolTaskScheduler();
+        this.taskScheduler.setPoolSize(poolSize);
+        this.taskScheduler.setThreadNamePrefix("dummy-macro-");
+        this.taskScheduler.initialize();
+        Gauge.builder("dummy.macro.scheduled", scheduled, Map::size).register(meterRegistry);
+    }
+
+    // 이미 등록된 매크로면 기존 작업을 교체
+    public void schedule(UUID macroId, RepeatTime term, Runnable task) {
+        ScheduledFuture<?> previous = scheduled.put(macroId, taskScheduler.schedule(task, new CronTrigger(term.getCron())));
+        if (previous != null) previous.cancel(false);
+    }
+
+    // 실행 중인 회차는 끝까지 진행
+    public void cancel(UUID macroId) {
+        ScheduledFuture<?> future = scheduled.remove(macroId);
+        if (future != null) future.cancel(false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        taskScheduler.shutdown();
+    }
+}
@@ -0,0 +1,242 @@
+package com.joa.openapi.dummy.service;
+
+import com.joa.openapi.common.cache.ApiKeyCache;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.errorcode.CommonErrorCode;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.util.BankAuthorityValidator;
+import com.joa.openapi.dummy.dto.DummyMacroResponseDto;
+import com.joa.openapi.dummy.dto.DummyResponseDto;
+import com.joa.openapi.dummy.dto.DummyTransactionRequestDto;
+import com.joa.openapi.dummy.entity.Dummy;
+import com.joa.openapi.dummy.entity.DummyMacro;
+import com.joa.openapi.dummy.enums.DummyStatus;
+import com.joa.openapi.dummy.errorcode.DummyErrorCode;
+import com.joa.openapi.dummy.repository.DummyBulkRepository;
+import com.joa.openapi.dummy.repository.DummyMacroRepository;
+import com.joa.openapi.dummy.repository.DummyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 관리자 별 거래내역 매크로 등록/일시정지/삭제와 주기 실행
+ * 매크로는 DB에 저장하고 서버 시작 시 다시 스케줄링, 실행마다 매크로의 더미에 거래내역이 쌓임
+ * 관리자 당 매크로 수, 회차 당 생성 수, 동시에 실행되는 회차 수를 제한
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class DummyMacroService {
+
+    private static final int MAX_FAIL_REASON_LENGTH = 255;
+
+    private final DummyMacroRepository dummyMacroRepository;
+    private final DummyRepository dummyRepository;
+    private final DummyBulkRepository dummyBulkRepository;
+    private final DummyBulkGenerator dummyBulkGenerator;
+    private final DummyTransactionGenerator dummyTransactionGenerator;
+    private final DummyMacroScheduler dummyMacroScheduler;
+    private final ApiRepository apiRepository;
+    private final ApiKeyCache apiKeyCache;
+    private final BankAuthorityValidator bankAuthorityValidator;
+    private final MeterRegistry meterRegistry;
+    private final int maxPerAdmin;
+    private final int maxCountPerRun;
+    private final int maxConcurrentPerAdmin;
+    private final Map<UUID, Semaphore> runningByAdmin = new ConcurrentHashMap<>();
+
+    public DummyMacroService(DummyMacroRepository dummyMacroRepository,
+                             DummyRepository dummyRepository,
+                             DummyBulkRepository dummyBulkRepository,
+                             DummyBulkGenerator dummyBulkGenerator,
+                             DummyTransactionGenerator dummyTransactionGenerator,
+                             DummyMacroScheduler dummyMacroScheduler,
+                             ApiRepository apiRepository,
+                             ApiKeyCache apiKeyCache,
+                             BankAuthorityValidator bankAuthorityValidator,
+                             MeterRegistry meterRegistry,
+                             @Value("${dummy.macro.max-per-admin}") int maxPerAdmin,
+                             @Value("${dummy.macro.max-count-per-run}") int maxCountPerRun,
+                             @Value("${dummy.macro.max-concurrent-per-admin}") int maxConcurrentPerAdmin) {
+        this.dummyMacroRepository = dummyMacroRepository;
+        this.dummyRepository = dummyRepository;
+        this.dummyBulkRepository = dummyBulkRepository;
+        this.dummyBulkGenerator = dummyBulkGenerator;
+        this.dummyTransactionGenerator = dummyTransactionGenerator;
+        this.dummyMacroScheduler = dummyMacroScheduler;
+        this.apiRepository = apiRepository;
+        this.apiKeyCache = apiKeyCache;
+        this.bankAuthorityValidator = bankAuthorityValidator;
+        this.meterRegistry = meterRegistry;
+        this.maxPerAdmin = maxPerAdmin;
+        this.maxCountPerRun = maxCountPerRun;
+        this.maxConcurrentPerAdmin = maxConcurrentPerAdmin;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleAll() {
+        List<DummyMacro> macros = dummyMacroRepository.findAllByIsPausedFalse();
+        for (DummyMacro macro : macros) {
+            schedule(macro);
+        }
+        log.info("더미 매크로 {}개 스케줄링", macros.size());
+    }
+
+    @Transactional
+    public DummyResponseDto create(UUID apiKey, DummyTransactionRequestDto req) {
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
+        if (req.getBankId() != null) bankAuthorityValidator.validate(apiKey, req.getBankId());
+        if (req.getUsers() == null || req.getUsers().isEmpty())
+            throw new RestApiException(DummyErrorCode.NO_SELECT_MEMBER);
+        int count = req.getCount() == null ? 1 : req.getCount();
+        if (count < 1 || count > maxCountPerRun)
+            throw new RestApiException(DummyErrorCode.MACRO_COUNT_TOO_LARGE);
+        if (dummyMacroRepository.countByAdminId(adminId) >= maxPerAdmin)
+            throw new RestApiException(DummyErrorCode.TOO_MANY_MACRO);
+
+        String name = req.getName() == null ? "거래내역" + count + "개 반복 만들기" : req.getName();
+        Dummy dummy = Dummy.builder()
+                .name(name)
+                .transactionCount(0)
+                .adminId(adminId)
+                .generatedCount(0)
+                .status(DummyStatus.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build();
+        dummyRepository.save(dummy);
+
+        DummyMacro macro = DummyMacro.builder()
+                .adminId(adminId)
+                .bankId(req.getBankId())
+                .dummy(dummy)
+                .term(req.getTerm())
+                .count(count)
+                .users(List.copyOf(req.getUsers()))
+                .isPaused(false)
+                .runCount(0L)
+                .failCount(0L)
+                .build();
+        dummyMacroRepository.save(macro);
+
+        // 커밋 전에 첫 회차가 돌아도 claimRun에서 걸러짐
+        schedule(macro);
+        return DummyResponseDto.toDto(dummy);
+    }
+
+    public List<DummyMacroResponseDto> searchAll(UUID apiKey) {
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
+        return dummyMacroRepository.findAllByAdminId(adminId).stream().map(DummyMacroResponseDto::toDto).toList();
+    }
+
+    @Transactional
+    public DummyMacroResponseDto pause(UUID apiKey, UUID macroId) {
+        DummyMacro macro = getOwnedMacro(apiKey, macroId);
+        macro.updateIsPaused(true);
+        dummyMacroScheduler.cancel(macroId);
+        return DummyMacroResponseDto.toDto(macro);
+    }
+
+    @Transactional
+    public DummyMacroResponseDto resume(UUID apiKey, UUID macroId) {
+        DummyMacro macro = getOwnedMacro(apiKey, macroId);
+        macro.updateIsPaused(false);
+        schedule(macro);
+        return DummyMacroResponseDto.toDto(macro);
+    }
+
+    // 매크로만 지우고 지금까지 만든 거래내역은 남김 (지우려면 DELETE /v1/dummy/{dummyId})
+    @Transactional
+    public DummyMacroResponseDto delete(UUID apiKey, UUID macroId) {
+        DummyMacro macro = getOwnedMacro(apiKey, macroId);
+        macro.deleteSoftly();
+        dummyMacroScheduler.cancel(macroId);
+        dummyBulkRepository.finishJob(macro.getDummy().getId(), DummyStatus.COMPLETED, null, LocalDateTime.now());
+        return DummyMacroResponseDto.toDto(macro);
+    }
+
+    private void schedule(DummyMacro macro) {
+        UUID macroId = macro.getId();
+        dummyMacroScheduler.schedule(macroId, macro.getTerm(), () -> run(macroId));
+    }
+
+    // 매크로 한 회차 실행, 스케줄러 스레드에서 호출 (청크마다 커밋하므로 감싸는 트랜잭션 없음)
+    void run(UUID macroId) {
+        DummyMacro macro = dummyMacroRepository.findById(macroId).orElse(null);
+        if (macro == null || macro.getIsPaused()) {
+            dummyMacroScheduler.cancel(macroId);
+            return;
+        }
+        UUID dummyId = macro.getDummy().getId();
+        // 더미를 삭제하거나 작업을 취소했으면 매크로도 정리
+        if (dummyBulkRepository.isCancelled(dummyId)) {
+            macro.deleteSoftly();
+            dummyMacroRepository.save(macro);
+            dummyMacroScheduler.cancel(macroId);
+            return;
+        }
+
+        Semaphore running = runningByAdmin.computeIfAbsent(macro.getAdminId(), id -> new Semaphore(maxConcurrentPerAdmin));
+        if (!running.tryAcquire()) {
+            count("skipped");
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (dummyMacroRepository.claimRun(macroId, now, now.minus(macro.getTerm().getInterval().dividedBy(2))) == 0) {
+                count("skipped");
+                return;
+            }
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                Api api = apiRepository.findByAdminId(macro.getAdminId());
+                if (api == null) throw new RestApiException(CommonErrorCode.NO_AUTHORIZATION);
+                // 회차마다 계좌를 다시 읽어서 그 사이 바뀐 잔액, 새 계좌 반영
+                DummyAccountPool pool = dummyTransactionGenerator.loadPool(api.getApiKey(), macro.getUsers());
+                dummyBulkGenerator.runInChunks(dummyId, macro.getCount(), size -> {
+                    dummyTransactionGenerator.generate(pool, dummyId, size);
+                    dummyBulkRepository.addTransactionCount(dummyId, size);
+                });
+                dummyMacroRepository.increaseRunCount(macroId);
+                count("success");
+            } catch (Exception e) {
+                log.warn("더미 매크로 실행 실패 macroId: {}", macroId, e);
+                String reason = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+                if (reason.length() > MAX_FAIL_REASON_LENGTH) reason = reason.substring(0, MAX_FAIL_REASON_LENGTH);
+                dummyMacroRepository.increaseFailCount(macroId, reason);
+                count("failure");
+            } finally {
+                sample.stop(meterRegistry.timer("dummy.macro.run.duration"));
+            }
+        } finally {
+            running.release();
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("dummy.macro.runs", "result", result).increment();
+    }
+
+    private DummyMacro getOwnedMacro(UUID apiKey, UUID macroId) {
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
+        DummyMacro macro = dummyMacroRepository.findById(macroId).orElseThrow(() -> new RestApiException(DummyErrorCode.NO_MACRO));
+        if (!macro.getAdminId().equals(adminId)) {
+            throw new RestApiException(CommonErrorCode.NO_AUTHORIZATION);
+        }
+        return macro;
+    }
+}
@@ -1,28 +1,24 @@
 package com.joa.openapi.dummy.service;
 
-import com.joa.openapi.account.dto.AccountCreateRequestDto;
 import com.joa.openapi.account.dto.AccountDeleteRequestDto;
 import com.joa.openapi.account.entity.Account;
 import com.joa.openapi.account.repository.AccountRepository;
 import com.joa.openapi.account.service.AccountService;
-import com.joa.openapi.bank.entity.Bank;
-import com.joa.openapi.bank.errorcode.BankErrorCode;
-import com.joa.openapi.bank.repository.BankRepository;
 import com.joa.openapi.common.errorcode.CommonErrorCode;
 import com.joa.openapi.common.exception.RestApiException;
-import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.cache.ApiKeyCache;
+import com.joa.openapi.common.util.BankAuthorityValidator;
 import com.joa.openapi.dummy.dto.*;
 import com.joa.openapi.dummy.entity.Dummy;
+import com.joa.openapi.dummy.enums.DummyStatus;
 import com.joa.openapi.dummy.errorcode.DummyErrorCode;
 import com.joa.openapi.dummy.repository.DummyRepository;
 import com.joa.openapi.member.entity.Member;
 import com.joa.openapi.member.errorcode.MemberErrorCode;
 import com.joa.openapi.member.repository.MemberRepository;
 import com.joa.openapi.member.service.MemberService;
-import com.joa.openapi.member.dto.MemberJoinRequestDto;
 import com.joa.openapi.product.repository.ProductRepository;
 import com.joa.openapi.transaction.dto.req.TransactionDeleteRequestDto;
-import com.joa.openapi.transaction.dto.req.TransactionRequestDto;
 import com.joa.openapi.transaction.entity.Transaction;
 import com.joa.openapi.transaction.repository.TransactionRepository;
 import com.joa.openapi.transaction.service.TransactionService;
@@ -30,13 +26,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -48,230 +46,106 @@ public class DummyService {
     private final DummyRepository dummyRepository;
     private final MemberService memberService;
     private final MemberRepository memberRepository;
-    private final BankRepository bankRepository;
     private final AccountService accountService;
     private final AccountRepository accountRepository;
     private final TransactionService transactionService;
     private final TransactionRepository transactionRepository;
     private final ProductRepository productRepository;
-    private final ApiRepository apiRepository;
+    private final ApiKeyCache apiKeyCache;
     private final NeyhuingName neyhuingName;
-
-    public String name;
-    public DummyTransactionRequestDto req;
-    public UUID apiKey;
-
-    @Transactional
+    private final DummyBulkGenerator dummyBulkGenerator;
+    private final DummyJobRunner dummyJobRunner;
+    private final DummyTransactionGenerator dummyTransactionGenerator;
+    private final DummyMacroService dummyMacroService;
+    private final BankAuthorityValidator bankAuthorityValidator;
+
+    // 백그라운드 작업으로 등록하고 바로 반환, 진행 상황은 GET /v1/dummy/jobs/{dummyId}
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DummyResponseDto createMember(UUID apiKey, DummyMemberRequestDto req) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
-        name = req.getName() == null ? "멤버" + req.getCount() + "명 만들기" : req.getName();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
+        bankAuthorityValidator.validate(apiKey, req.getBankId());
+        UUID productId = productRepository.searchBankFirstProductCustom(adminId, req.getBankId());
+        String name = req.getName() == null ? "멤버" + req.getCount() + "명 만들기" : req.getName();
         Dummy dummy = Dummy.builder()
                 .name(name)
                 .memberCount(req.getCount())
                 .adminId(adminId)
+                .generatedCount(0)
+                .status(DummyStatus.QUEUED)
                 .build();
 
         dummyRepository.save(dummy);
 
-        for (int i = 0; i < req.getCount(); i++) {
-            // 더미 멤버 생성
-            MemberJoinRequestDto MJRdto = MemberJoinRequestDto.builder()
-                    .name(makeName(3))
-                    .bankId(req.getBankId())
-                    .build();
-            UUID memberId = UUID.fromString(memberService.addMember(MJRdto, dummy.getId()).getId());
-            // 더미 멤버 별 기본 입출금 계좌 생성
-            Bank bank = bankRepository.findById(req.getBankId()).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
-            UUID productId = productRepository.searchBankFirstProductCustom(adminId, req.getBankId());
-            AccountCreateRequestDto ACRdto = AccountCreateRequestDto.builder()
-                    .nickname(makeName(4))
-                    .password("dummy")
-                    .withdrawAccount(null)
-                    .dummyId(dummy.getId())
-                    .productId(productId)
-                    .bankId(req.getBankId())
-                    .build();
-            String accountId = accountService.create(apiKey, memberId, ACRdto).getAccountId();
-            // 계좌 별 기본금 10만원 입금
-            TransactionRequestDto TRdto = TransactionRequestDto.builder()
-                    .amount(100000L)
-                    .toAccount(accountId)
-                    .password("dummy")
-                    .dummyId(dummy.getId())
-                    .build();
-            transactionService.deposit(apiKey, TRdto);
-        }
+        // 더미 멤버, 멤버 별 기본 입출금 계좌, 계좌 별 기본금 10만원 입금
+        dummyJobRunner.submit(dummy.getId(), () -> dummyBulkGenerator.generateMembers(dummy, req.getBankId(), productId, req.getCount()));
 
         return DummyResponseDto.toDto(dummy);
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DummyResponseDto createAccount(UUID apiKey, DummyAccountRequestDto req) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
-        name = req.getName() == null ? "계좌" + req.getCount() + "개 만들기" : req.getName();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
+        bankAuthorityValidator.validate(apiKey, req.getBankId());
+        UUID productId = productRepository.searchBankFirstProductCustom(adminId, req.getBankId());
+        if (req.getUsers() == null || req.getUsers().isEmpty())
+            throw new RestApiException(DummyErrorCode.NO_SELECT_MEMBER);
+        Set<UUID> users = new HashSet<>(req.getUsers());
+        if (memberRepository.countByIdIn(users) != users.size())
+            throw new RestApiException(MemberErrorCode.NO_MEMBER);
+
+        String name = req.getName() == null ? "계좌" + req.getCount() + "개 만들기" : req.getName();
         Dummy dummy = Dummy.builder()
                 .name(name)
                 .accountCount(req.getCount())
                 .adminId(adminId)
+                .generatedCount(0)
+                .status(DummyStatus.QUEUED)
                 .build();
         dummyRepository.save(dummy);
 
-        Bank bank = bankRepository.findById(req.getBankId()).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
-        UUID productId = productRepository.searchBankFirstProductCustom(adminId, req.getBankId());
-        int userCount = req.getUsers().size();
-        Random random = new Random();
-        for (int i = 0; i < req.getCount(); i++) {
-            int randomMember = random.nextInt(userCount);
-            AccountCreateRequestDto dto = AccountCreateRequestDto.builder()
-                    .nickname(makeName(4))
-                    .password("dummy")
-                    .withdrawAccount(null)
-                    .dummyId(dummy.getId())
-                    .productId(productId)
-                    .bankId(req.getBankId())
-                    .build();
-            String accountId = accountService.create(apiKey, req.getUsers().get(randomMember), dto).getAccountId();
-            // 계좌 별 기본금 10만원 입금
-            TransactionRequestDto TRdto = TransactionRequestDto.builder()
-                    .amount(100000L)
-                    .toAccount(accountId)
-                    .password("dummy")
-                    .dummyId(dummy.getId())
-                    .build();
-            transactionService.deposit(apiKey, TRdto);
-        }
+        // 선택한 멤버들에게 무작위로 계좌 생성 후 계좌 별 기본금 10만원 입금
+        dummyJobRunner.submit(dummy.getId(), () -> dummyBulkGenerator.generateAccounts(dummy, req.getBankId(), productId, req.getUsers(), req.getCount()));
 
         return DummyResponseDto.toDto(dummy);
     }
 
-    @Transactional
+    // 더미가 커밋된 뒤에 작업이 시작되도록 트랜잭션 없이 실행, 주기를 정하면 매크로로 등록
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DummyResponseDto createTransaction(UUID apiKey, DummyTransactionRequestDto req) {
-        this.apiKey = apiKey;
         if (req.getTerm() == null) {
-            return immediateCreate(apiKey, req);
-        } else {
-            this.req = req;
-            return switch (req.getTerm()) {
-                case MINUTE -> makroCreateMinute();
-                case HOUR -> makroCreateHour();
-                case DAY -> makroCreateDay();
-            };
+            return submitTransactions(apiKey, req);
         }
+        return dummyMacroService.create(apiKey, req);
     }
 
-    @Transactional
-    public DummyResponseDto immediateCreate(UUID apiKey, DummyTransactionRequestDto req) {
-        int cnt = req.getCount();
-        if (req.getTerm() != null) cnt = 1;
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
-        name = req.getName() == null ? "거래내역" + cnt + "개 만들기" : req.getName();
+    private DummyResponseDto submitTransactions(UUID apiKey, DummyTransactionRequestDto req) {
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
+        // 거래내역 생성 시 유저를 선택하지 않았을 때
+        if (req.getUsers() == null || req.getUsers().isEmpty())
+            throw new RestApiException(DummyErrorCode.NO_SELECT_MEMBER);
+        // 계좌와 권한은 등록할 때 한 번만 확인
+        DummyAccountPool pool = dummyTransactionGenerator.loadPool(apiKey, req.getUsers());
+
+        String name = req.getName() == null ? "거래내역" + req.getCount() + "개 만들기" : req.getName();
         Dummy dummy = Dummy.builder()
                 .name(name)
-                .transactionCount(cnt)
+                .transactionCount(req.getCount())
                 .adminId(adminId)
+                .generatedCount(0)
+                .status(DummyStatus.QUEUED)
                 .build();
         dummyRepository.save(dummy);
 
-        int userCount = req.getUsers().size();
-        // 거래내역 생성 시 유저를 선택하지 않았을 때
-        if (userCount == 0) {
-            throw new RestApiException(DummyErrorCode.NO_SELECT_MEMBER);
-        }
-        Random random = new Random();
-        for (int i = 0; i < cnt; i++) {
-            // 입금 할지, 출금 할지, 송금 할지
-            int type;
-            // 선택한 유저가 1명이하면 입/출금 거래내역만 생성
-            if (userCount == 1) {
-                type = random.nextInt(2);
-            } else {
-                type = random.nextInt(3);
-            }
-            // 대상 멤버 번호
-            int fromMemberNum = random.nextInt(userCount);
-            // 대상 멤버
-            Member fromMember = memberRepository.findById(req.getUsers().get(fromMemberNum)).orElseThrow(() -> new RestApiException(MemberErrorCode.NO_MEMBER));
-            // 대상 멤버의 계좌들
-            List<Account> accountListFrom = accountRepository.findByHolderId(fromMember.getId());
-            // 대상 멤버의 랜덤 계좌
-            int fromAccountNum = random.nextInt(accountListFrom.size());
-            Account accountFrom = accountListFrom.get(fromAccountNum);
-            // 그 계좌의 잔액
-            Long amount = (long) Math.floor(accountFrom.getBalance() * Math.random());
-            TransactionRequestDto dto = TransactionRequestDto.builder().build();
-            switch (type) {
-                // 입금
-                case 0 :
-                    dto = TransactionRequestDto.builder()
-                            .amount(random.nextLong(1000000))
-                            .depositorName(fromMember.getName())
-                            .toAccount(accountFrom.getId())
-                            .password("dummy")
-                            .dummyId(dummy.getId())
-                            .build();
-                    transactionService.deposit(apiKey, dto);
-                    break;
-                // 출금
-                case 1 :
-                    dto = TransactionRequestDto.builder()
-                            .amount(amount)
-                            .depositorName(fromMember.getName())
-                            .fromAccount(accountFrom.getId())
-                            .password("dummy")
-                            .dummyId(dummy.getId())
-                            .build();
-                    transactionService.withdraw(apiKey, dto);
-                    break;
-                // 송금
-                case 2 :
-                    int toMemberNum = -1;
-                    while (toMemberNum == -1 || fromMemberNum == toMemberNum) {
-                        toMemberNum = random.nextInt(userCount);
-                    }
-                    Member toMember = memberRepository.findById(req.getUsers().get(toMemberNum)).orElseThrow(() -> new RestApiException(MemberErrorCode.NO_MEMBER));
-                    List<Account> accountListTo = accountRepository.findByHolderId(toMember.getId());
-                    int toAccountNum = random.nextInt(accountListTo.size());
-                    Account accountTo = accountListTo.get(toAccountNum);
-                    dto = TransactionRequestDto.builder()
-                            .amount(amount)
-                            .depositorName(fromMember.getName())
-                            .toAccount(accountTo.getId())
-                            .fromAccount(accountFrom.getId())
-                            .password("dummy")
-                            .dummyId(dummy.getId())
-                            .build();
-                    transactionService.send(apiKey, dto);
-                    break;
-            }
-        }
+        // 청크마다 커밋하므로 취소해도 이미 만든 거래내역은 남음
+        dummyJobRunner.submit(dummy.getId(), () -> dummyBulkGenerator.runInChunks(dummy.getId(), req.getCount(),
+                size -> dummyTransactionGenerator.generate(pool, dummy.getId(), size)));
 
         return DummyResponseDto.toDto(dummy);
     }
 
-    @Transactional
-    @Scheduled(cron = "0 * * * * *")
-    public DummyResponseDto makroCreateMinute() {
-        if (req == null) return null;
-        return immediateCreate(apiKey, req);
-    }
-
-    @Transactional
-    @Scheduled(cron = "0 0 * * * *")
-    public DummyResponseDto makroCreateHour() {
-        if (req == null) return null;
-        return immediateCreate(apiKey, req);
-    }
-
-    @Transactional
-    @Scheduled(cron = "0 0 0 * * *")
-    public DummyResponseDto makroCreateDay() {
-        if (req == null) return null;
-        return immediateCreate(apiKey, req);
-    }
-
     @Transactional
     public DummyResponseDto deleteDummy(UUID apiKey, UUID dummyId) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
         AuthoriaztionDummy(dummyId, adminId);
         Dummy dummy = dummyRepository.findById(dummyId).orElseThrow(() -> new RestApiException(DummyErrorCode.NO_DUMMY));
         if (dummy.getMemberCount() != null) {
@@ -301,7 +175,7 @@ public class DummyService {
 
     @Transactional
     public List<DummyResponseDto> deleteAllDummy(UUID apiKey) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
         List<Dummy> dummyList = dummyRepository.findAllByAdminId(adminId);
         List<DummyResponseDto> dummyResponseDtoList = new ArrayList<>();
         for (Dummy dummy: dummyList) {
@@ -312,7 +186,7 @@ public class DummyService {
 
     @Transactional
     public DummyResponseDto update(UUID apiKey, UUID dummyId, DummyUpdateRequestDto req) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
         AuthoriaztionDummy(dummyId, adminId);
         Dummy dummy = dummyRepository.findById(dummyId).orElseThrow(() -> new RestApiException(DummyErrorCode.NO_DUMMY));
         if (req.getName() != null) dummy.updateName(req.getName());
@@ -320,14 +194,32 @@ public class DummyService {
     }
 
     public DummyResponseDto search(UUID apiKey, UUID dummyId) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
         AuthoriaztionDummy(dummyId, adminId);
         Dummy dummy = dummyRepository.findById(dummyId).orElseThrow(() -> new RestApiException(DummyErrorCode.NO_DUMMY));
         return DummyResponseDto.toDto(dummy);
     }
 
+    public DummyJobResponseDto searchJob(UUID apiKey, UUID dummyId) {
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
+        AuthoriaztionDummy(dummyId, adminId);
+        Dummy dummy = dummyRepository.findById(dummyId).orElseThrow(() -> new RestApiException(DummyErrorCode.NO_DUMMY));
+        return DummyJobResponseDto.toDto(dummy, LocalDateTime.now());
+    }
+
+    // 실행 중인 작업은 다음 청크 시작 전에 멈춤, 이미 커밋된 청크는 남음 (지우려면 DELETE /v1/dummy/{dummyId})
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DummyJobResponseDto cancelJob(UUID apiKey, UUID dummyId) {
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
+        AuthoriaztionDummy(dummyId, adminId);
+        if (!dummyJobRunner.cancel(dummyId))
+            throw new RestApiException(DummyErrorCode.JOB_NOT_RUNNING);
+        Dummy dummy = dummyRepository.findById(dummyId).orElseThrow(() -> new RestApiException(DummyErrorCode.NO_DUMMY));
+        return DummyJobResponseDto.toDto(dummy, LocalDateTime.now());
+    }
+
     public Page<DummyResponseDto> searchAll(DummySearchRequestDto req, UUID apiKey, Pageable pageable) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
+        UUID adminId = apiKeyCache.getAdminId(apiKey);
         log.info("검색어: {}", req.getSearchKeyWord());
 //        List<Dummy> dummyList = dummyRepository.findAllByAdminId(adminId);
 //        List<DummyResponseDto> dummyResponseDtoList = new ArrayList<>();
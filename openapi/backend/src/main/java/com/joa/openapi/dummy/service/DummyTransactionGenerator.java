@@ -0,0 +1,121 @@
+package com.joa.openapi.dummy.service;
+
+import com.joa.openapi.account.dto.AccountBalanceDto;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.service.BankAggregateService;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.common.util.BankAuthorityValidator;
+import com.joa.openapi.dummy.errorcode.DummyErrorCode;
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
+import com.joa.openapi.transaction.repository.TransactionBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 거래내역 더미 생성, 일회성 작업(DummyService)과 매크로(DummyMacroService)가 같이 사용
+ * 계좌는 작업 시작 시 한 번만 읽고(loadPool) 청크마다 메모리에서 입금/출금/송금을 만든 뒤
+ * 거래내역 INSERT와 계좌별로 합산한 잔액 UPDATE를 batch로 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class DummyTransactionGenerator {
+
+    private static final long MAX_DEPOSIT = 1000000L;
+
+    private final AccountRepository accountRepository;
+    private final TransactionBulkRepository transactionBulkRepository;
+    private final BankAuthorityValidator bankAuthorityValidator;
+    private final BankAggregateService bankAggregateService;
+
+    // 선택한 멤버들의 계좌 로드, 계좌가 있는 멤버만 포함
+    public DummyAccountPool loadPool(UUID apiKey, List<UUID> users) {
+        List<AccountBalanceDto> accounts = accountRepository.findBalancesByHolderIds(users);
+        if (accounts.isEmpty())
+            throw new RestApiException(DummyErrorCode.NO_DUMMY_ACCOUNT);
+        accounts.stream().map(AccountBalanceDto::getBankId).distinct().forEach(bankId -> bankAuthorityValidator.validate(apiKey, bankId));
+        return new DummyAccountPool(accounts);
+    }
+
+    // 무작위 거래내역 size건 생성, 호출하는 쪽 트랜잭션 안에서 실행
+    public void generate(DummyAccountPool pool, UUID dummyId, int size) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime now = LocalDateTime.now();
+        long[] deltas = new long[pool.size()];
+        List<TransactionResponseDto> transactions = new ArrayList<>(size);
+
+        int memberCount = pool.memberCount();
+        for (int i = 0; i < size; i++) {
+            // 입금 할지, 출금 할지, 송금 할지, 계좌가 있는 멤버가 1명이면 입/출금만
+            int type = memberCount == 1 ? random.nextInt(2) : random.nextInt(3);
+            int fromMember = random.nextInt(memberCount);
+            int from = pool.randomAccount(fromMember, random);
+            long amount = (long) Math.floor(pool.balances[from] * random.nextDouble());
+            String depositorName = pool.memberNames[fromMember];
+
+            switch (type) {
+                // 입금
+                case 0 -> {
+                    amount = random.nextLong(MAX_DEPOSIT);
+                    apply(pool, deltas, from, amount);
+                    transactions.add(row(pool, amount, depositorName, -1, from, dummyId, now));
+                }
+                // 출금
+                case 1 -> {
+                    apply(pool, deltas, from, -amount);
+                    transactions.add(row(pool, amount, depositorName, from, -1, dummyId, now));
+                }
+                // 송금
+                default -> {
+                    int toMember = random.nextInt(memberCount - 1);
+                    if (toMember >= fromMember) toMember++;
+                    int to = pool.randomAccount(toMember, random);
+                    apply(pool, deltas, from, -amount);
+                    apply(pool, deltas, to, amount);
+                    transactions.add(row(pool, amount, depositorName, from, to, dummyId, now));
+                }
+            }
+        }
+
+        // 계좌번호 순으로 반영해서 다른 UPDATE와 잠금 순서를 맞춤
+        Map<String, Long> changed = new TreeMap<>();
+        for (int i = 0; i < deltas.length; i++) {
+            if (deltas[i] != 0) changed.put(pool.accountIds[i], deltas[i]);
+        }
+        transactionBulkRepository.insertAll(transactions);
+        bankAggregateService.recordTransactions(transactions);
+        // 작업 중 다른 거래로 잔액이 줄었으면 이번 청크 롤백
+        for (int updated : transactionBulkRepository.addBalancesIfSufficient(changed, now)) {
+            if (updated == 0) throw new RestApiException(TransactionErrorCode.NO_BALANCE);
+        }
+    }
+
+    private void apply(DummyAccountPool pool, long[] deltas, int account, long delta) {
+        pool.balances[account] += delta;
+        deltas[account] += delta;
+    }
+
+    // from, to는 pool 인덱스, 없으면 -1
+    private TransactionResponseDto row(DummyAccountPool pool, long amount, String depositorName, int from, int to, UUID dummyId, LocalDateTime now) {
+        return TransactionResponseDto.builder()
+                .transactionId(UUID.randomUUID())
+                .amount(amount)
+                .depositorName(depositorName)
+                .fromAccount(from < 0 ? null : pool.accountIds[from])
+                .fromBankId(from < 0 ? null : pool.bankIds[from])
+                .toAccount(to < 0 ? null : pool.accountIds[to])
+                .toBankId(to < 0 ? null : pool.bankIds[to])
+                .dummyId(dummyId)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,12 +14,19 @@ import java.util.UUID;
 @Repository
 public interface MemberRepository extends JpaRepository<Member, UUID>, MemberRepositoryCustom {
 
-    Member findByEmail(String email);
-    Member findByPhone(String phone);
+    // 중복 확인, 회원 엔티티를 읽지 않고 있는지만 확인
+    boolean existsByEmail(String email);
+    boolean existsByPhone(String phone);
     List<Member> findByDummy(Dummy dummy);
     List<Member> findByDummyId(UUID dummyId);
-    List<Member> findByBankId(UUID bankId);
+    long countByBankId(UUID bankId);
+    long countByIdIn(Collection<UUID> ids);
 
-    @Query(value = "SELECT * FROM member WHERE bank_id = :bankId and email = :email", nativeQuery = true)
-    Member findByBankIdAndEmail(UUID bankId, String email);
+    // 탈퇴한 회원의 이메일도 포함해서 확인 (native)
+    @Query(value = "SELECT 1 FROM member WHERE bank_id = :bankId and email = :email LIMIT 1", nativeQuery = true)
+    Optional<Integer> findAnyByBankIdAndEmail(UUID bankId, String email);
+
+    default boolean existsByBankIdAndEmail(UUID bankId, String email) {
+        return findAnyByBankIdAndEmail(bankId, email).isPresent();
+    }
 }
@@ -5,10 +5,11 @@ import com.joa.openapi.account.dto.AccountSearchResponseDto;
 import com.joa.openapi.bank.entity.Bank;
 import com.joa.openapi.bank.errorcode.BankErrorCode;
 import com.joa.openapi.bank.repository.BankRepository;
-import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.bank.service.BankAggregateService;
 import com.joa.openapi.common.errorcode.CommonErrorCode;
 import com.joa.openapi.common.exception.RestApiException;
-import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.util.BankAuthorityValidator;
+import com.joa.openapi.common.cache.ApiKeyCache;
 import com.joa.openapi.dummy.entity.Dummy;
 import com.joa.openapi.dummy.errorcode.DummyErrorCode;
 import com.joa.openapi.dummy.repository.DummyRepository;
@@ -39,7 +40,9 @@ public class MemberService {
     private final BankRepository bankRepository;
     private final DummyRepository dummyRepository;
     private final ModelMapper modelMapper;
-    private final ApiRepository apiRepository;
+    private final ApiKeyCache apiKeyCache;
+    private final BankAuthorityValidator bankAuthorityValidator;
+    private final BankAggregateService bankAggregateService;
 
     //회원가입
     @Transactional
@@ -48,11 +51,11 @@ public class MemberService {
         Bank bank = bankRepository.findById(request.getBankId()).orElseThrow(()->new RestApiException(BankErrorCode.NO_BANK));
 
         // 이메일이 이미 사용 중인지 확인
-        if (memberRepository.findByBankIdAndEmail(bank.getId(), request.getEmail()) != null) {
+        if (memberRepository.existsByBankIdAndEmail(bank.getId(), request.getEmail())) {
             throw new RestApiException(MemberErrorCode.EMAIL_CONFLICT);
         }
 
-        bankAuthorityValidation(apiKey, bank.getId());
+        bankAuthorityValidator.validate(apiKey, bank.getId());
         Member member = Member.builder()
                 .name(request.getName())
                 .password(request.getPassword())
@@ -62,6 +65,7 @@ public class MemberService {
                 .build();
 
         memberRepository.save(member);
+        bankAggregateService.recordMembers(bank.getId(), 1);
         return MemberIdResponseDto.toDto(member);
     }
 
@@ -80,16 +84,16 @@ public class MemberService {
                 .build();
 
         memberRepository.save(member);
+        bankAggregateService.recordMembers(bank.getId(), 1);
         return MemberIdResponseDto.toDto(member);
     }
 
     //이메일 중복 검증
     @Transactional
     public void confirmEmail(UUID apiKey, String email, UUID bankId) {
-        Api api = apiRepository.findByApiKey(apiKey).orElseThrow(()->new RestApiException(CommonErrorCode.NO_AUTHORIZATION));
+        apiKeyCache.findAdminId(apiKey).orElseThrow(()->new RestApiException(CommonErrorCode.NO_AUTHORIZATION));
         // 은행에 이미 존재하는 이메일인지 확인
-        Member member = memberRepository.findByBankIdAndEmail(bankId, email);
-        if(member!= null && member.getBank().getId().equals(bankId)) {
+        if (memberRepository.existsByBankIdAndEmail(bankId, email)) {
             throw new RestApiException(MemberErrorCode.EMAIL_CONFLICT);
         }
     }
@@ -97,17 +101,15 @@ public class MemberService {
     //전화번호 중복 검증
     @Transactional
     public void confirmPhone(UUID apiKey, String phone) {
-        Api api = apiRepository.findByApiKey(apiKey).orElseThrow(()->new RestApiException(CommonErrorCode.NO_AUTHORIZATION));
-        System.out.println(api.getAdminId());
-        Member member = memberRepository.findByPhone(phone);
-        if (member!=null) throw new RestApiException(MemberErrorCode.PHONE_CONFLICT);
+        apiKeyCache.findAdminId(apiKey).orElseThrow(()->new RestApiException(CommonErrorCode.NO_AUTHORIZATION));
+        if (memberRepository.existsByPhone(phone)) throw new RestApiException(MemberErrorCode.PHONE_CONFLICT);
     }
 
     //회원정보 조회
     @Transactional(readOnly = true)
     public MemberInfoResponseDto getInfo(UUID apiKey, UUID memberId) {
         Member member = memberRepository.findById(memberId).orElseThrow(()->new RestApiException(MemberErrorCode.NO_MEMBER));
-        bankAuthorityValidation(apiKey, member.getBank().getId());
+        bankAuthorityValidator.validate(apiKey, member.getBank().getId());
         MemberInfoResponseDto response = modelMapper.map(member, MemberInfoResponseDto.class);
         return response;
     }
@@ -116,18 +118,16 @@ public class MemberService {
     @Transactional
     public MemberInfoResponseDto update(UUID apiKey, UUID memberId, MemberUpdateRequestDto request) {
         Member member = memberRepository.findById(memberId).orElseThrow(()->new RestApiException(MemberErrorCode.NO_MEMBER));
-        bankAuthorityValidation(apiKey, member.getBank().getId());
+        bankAuthorityValidator.validate(apiKey, member.getBank().getId());
         if (!request.getName().equals("")) member.updateName(request.getName());
         if (!request.getPassword().equals("")) member.updatePassword(request.getPassword());
 //        if (request.getPassword()!=null) member.updatePassword(encoder.encode(request.getPassword()));
         if (!request.getEmail().equals("")) {
-            Member foundByEmail = memberRepository.findByEmail(request.getEmail());
-            if (foundByEmail!=null) throw new RestApiException(MemberErrorCode.EMAIL_CONFLICT);
+            if (memberRepository.existsByEmail(request.getEmail())) throw new RestApiException(MemberErrorCode.EMAIL_CONFLICT);
             member.updateEmail(request.getEmail());
         }
         if (!request.getPhone().equals("")) {
-            Member foundByPhone = memberRepository.findByPhone(request.getPhone());
-            if (foundByPhone!=null) throw new RestApiException(MemberErrorCode.PHONE_CONFLICT);
+            if (memberRepository.existsByPhone(request.getPhone())) throw new RestApiException(MemberErrorCode.PHONE_CONFLICT);
             member.updatePhone(request.getPhone());
         }
         Member updatedMember = memberRepository.save(member);
@@ -139,24 +139,18 @@ public class MemberService {
     @Transactional
     public MemberIdResponseDto delete(UUID apiKey, UUID memberId) {
         Member member = memberRepository.findById(memberId).orElseThrow(()->new RestApiException(MemberErrorCode.NO_MEMBER));
-        bankAuthorityValidation(apiKey, member.getBank().getId());
+        bankAuthorityValidator.validate(apiKey, member.getBank().getId());
         member.deleteSoftly();
+        bankAggregateService.recordMembers(member.getBank().getId(), -1);
         MemberIdResponseDto response = new MemberIdResponseDto(member.getId().toString(),
                 member.getCreatedAt(), member.getUpdatedAt());
         return response;
     }
 
     public Page<MemberSearchResponseDto> search(UUID apiKey, MemberSearchRequestDto req, Pageable pageable) {
-        Api api = apiRepository.findByApiKey(apiKey)
+        UUID adminId = apiKeyCache.findAdminId(apiKey)
                 .orElseThrow(() -> new RestApiException(CommonErrorCode.NO_AUTHORIZATION));
-        return memberRepository.searchMemberCustom(api.getAdminId(), req, pageable);
-    }
-
-    public void bankAuthorityValidation(UUID apiKey, UUID bankId) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
-        Bank bank = bankRepository.findById(bankId).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
-        if (!bank.getAdminId().equals(adminId))
-            throw new RestApiException(CommonErrorCode.NO_AUTHORIZATION);
+        return memberRepository.searchMemberCustom(adminId, req, pageable);
     }
 
 }
@@ -2,10 +2,12 @@ package com.joa.openapi.product.controller;
 
 import com.joa.openapi.common.response.ApiResponse;
 import com.joa.openapi.product.dto.req.ProductCreateRequestDto;
+import com.joa.openapi.product.dto.req.ProductRateBulkRequestDto;
 import com.joa.openapi.product.dto.req.ProductRateRequestDto;
 import com.joa.openapi.product.dto.req.ProductSearchRequestDto;
 import com.joa.openapi.product.dto.res.ProductCreateResponseDto;
 import com.joa.openapi.product.dto.res.ProductDetailResponseDto;
+import com.joa.openapi.product.dto.res.ProductRateBulkResponseDto;
 import com.joa.openapi.product.dto.res.ProductRateResponseDto;
 import com.joa.openapi.product.dto.res.ProductSearchResponseDto;
 import com.joa.openapi.product.dto.res.ProductUpdateIsDoneResponseDto;
@@ -91,4 +93,10 @@ public class ProductController {
         ProductRateResponseDto rate = depositAccountService.calculateRate(apiKey, req);
         return ResponseEntity.ok(ApiResponse.success("만기 이자율 조회에 성공했습니다.", rate));
     }
+
+    @PostMapping("/interest/bulk")
+    public ResponseEntity<?> calculateInterests(@RequestHeader("apiKey") UUID apiKey, @RequestBody ProductRateBulkRequestDto req) {
+        ProductRateBulkResponseDto rates = depositAccountService.calculateRates(apiKey, req);
+        return ResponseEntity.ok(ApiResponse.success("만기 이자율 일괄 조회에 성공했습니다.", rates));
+    }
 }
\ No newline at end of file
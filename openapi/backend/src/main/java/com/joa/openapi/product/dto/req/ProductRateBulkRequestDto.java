@@ -0,0 +1,19 @@
+package com.joa.openapi.product.dto.req;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductRateBulkRequestDto {
+
+    private UUID productId;
+    private List<ProductRatePointDto> points;   //금액, 기간, 과세 여부 조합 (슬라이더 구간 전체)
+}
@@ -0,0 +1,18 @@
+package com.joa.openapi.product.dto.req;
+
+import com.joa.openapi.account.enums.TaxType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductRatePointDto {
+
+    private Long amount;    //원금 (적금은 월 납입액)
+    private Integer term;   //개월수
+    private TaxType taxType;
+}
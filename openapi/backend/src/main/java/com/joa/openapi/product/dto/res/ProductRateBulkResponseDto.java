@@ -0,0 +1,37 @@
+package com.joa.openapi.product.dto.res;
+
+import com.joa.openapi.common.cache.ProductRateCache.ProductRate;
+import com.joa.openapi.product.enums.PaymentType;
+import com.joa.openapi.product.enums.ProductType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductRateBulkResponseDto {
+
+    private UUID productId;
+    private String productName;
+    private ProductType productType; // 예금, 적금
+    private PaymentType paymentType; // 지급방식 - 단리, 복리
+    private Double rate;
+    private List<ProductRateQuoteDto> quotes; // 요청한 조건 순서대로
+
+    public static ProductRateBulkResponseDto toDto(ProductRate product, List<ProductRateQuoteDto> quotes) {
+        return ProductRateBulkResponseDto.builder()
+                .productId(product.productId())
+                .productName(product.productName())
+                .productType(product.productType())
+                .paymentType(product.paymentType())
+                .rate(product.rate())
+                .quotes(quotes)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.joa.openapi.product.dto.res;
+
+import com.joa.openapi.account.enums.TaxType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductRateQuoteDto {
+
+    private Long amount;
+    private Integer term;
+    private TaxType taxType;
+    private Long totalAmount; //원금
+    private Long interest; //이자액
+    private Long taxInterest; //세금
+    private Long calculatedInterest;  //원금 + 이자액(과세 처리)
+}
@@ -1,7 +1,6 @@
 package com.joa.openapi.product.dto.res;
 
-import com.joa.openapi.account.entity.Account;
-import com.joa.openapi.product.entity.Product;
+import com.joa.openapi.common.cache.ProductRateCache.ProductRate;
 import com.joa.openapi.product.enums.PaymentType;
 import com.joa.openapi.product.enums.ProductType;
 import lombok.AllArgsConstructor;
@@ -27,17 +26,17 @@ public class ProductRateResponseDto {
     private Long taxInterest; //세금
     private Long calculatedInterest;  //원금 + 이자액(과세 처리)
 
-    public static ProductRateResponseDto toDto(Product product, Long totalAmount, Long interest, Long taxInterest, Long calculatedInterest) {
+    public static ProductRateResponseDto toDto(ProductRate product, ProductRateQuoteDto quote) {
         return ProductRateResponseDto.builder()
-                .productId(product.getId())
-                .productName(product.getName())
-                .productType(product.getProductType())
-                .paymentType(product.getPaymentType())
-                .rate(product.getRate())
-                .totalAmount(totalAmount)
-                .interest(interest)
-                .taxInterest(taxInterest)
-                .calculatedInterest(calculatedInterest)
+                .productId(product.productId())
+                .productName(product.productName())
+                .productType(product.productType())
+                .paymentType(product.paymentType())
+                .rate(product.rate())
+                .totalAmount(quote.getTotalAmount())
+                .interest(quote.getInterest())
+                .taxInterest(quote.getTaxInterest())
+                .calculatedInterest(quote.getCalculatedInterest())
                 .build();
     }
 }
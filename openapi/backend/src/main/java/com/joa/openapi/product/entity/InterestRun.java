@@ -0,0 +1,46 @@
+package com.joa.openapi.product.entity;
+
+import com.joa.openapi.product.enums.InterestRunStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static lombok.AccessLevel.PROTECTED;
+
+// 만기 이자 지급 실행 기록, 날짜와 은행(파티션) 별로 한 행, InterestRunRepository가 청크마다 체크포인트 갱신
+@Entity
+@Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_interest_run_run_date_bank_id", columnNames = {"run_date", "bank_id"}))
+@NoArgsConstructor(access = PROTECTED)
+public class InterestRun {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(nullable = false)
+    private LocalDate runDate;
+    @Column(nullable = false, columnDefinition = "BINARY(16)")
+    private UUID bankId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private InterestRunStatus status;
+
+    private String lastAccountId;       // 체크포인트, 이 계좌번호까지 지급 완료 (계좌번호 순으로 처리)
+    @Column(nullable = false)
+    private Long processedCount;
+    @Column(nullable = false)
+    private Long failedCount;           // 계산할 수 없어서 건너뛴 계좌
+    @Column(nullable = false)
+    private Long paidAmount;
+    private Long rowsPerSecond;         // 마지막 실행의 처리 속도
+    private String failReason;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime updatedAt;
+}
@@ -10,6 +10,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.util.ArrayList;
@@ -18,7 +20,9 @@ import java.util.UUID;
 
 import static lombok.AccessLevel.PROTECTED;
 
+// 거의 모든 요청의 권한 확인에서 읽고 변경은 드묾, 2차 캐시 (변경 시 EntityCacheEvictor)
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Builder
 @AllArgsConstructor
@@ -0,0 +1,5 @@
+package com.joa.openapi.product.enums;
+
+public enum InterestRunStatus {
+    RUNNING, COMPLETED, FAILED
+}
@@ -11,7 +11,9 @@ public enum ProductErrorCode implements ErrorCode {
 
     NO_PRODUCT(HttpStatus.UNAUTHORIZED, "해당 상품이 존재하지 않습니다."),
     ALREADY_DONE(HttpStatus.UNAUTHORIZED, "해당 상품은 이미 종료되었습니다."),
-    CANT_DONE(HttpStatus.UNAUTHORIZED, "해당 상품에 계좌가 연결되어 있어 종료할 수 없습니다.");
+    CANT_DONE(HttpStatus.UNAUTHORIZED, "해당 상품에 계좌가 연결되어 있어 종료할 수 없습니다."),
+    INVALID_QUOTE(HttpStatus.BAD_REQUEST, "이자 계산 조건이 올바르지 않습니다."),
+    TOO_MANY_QUOTES(HttpStatus.BAD_REQUEST, "한 번에 계산할 수 있는 조건 수를 초과했습니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
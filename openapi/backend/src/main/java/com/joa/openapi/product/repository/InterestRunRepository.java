@@ -0,0 +1,107 @@
+package com.joa.openapi.product.repository;
+
+import static com.joa.openapi.common.util.UuidBytes.toBytes;
+import static com.joa.openapi.common.util.UuidBytes.toUuid;
+
+import com.joa.openapi.common.util.UuidBytes;
+import com.joa.openapi.product.enums.InterestRunStatus;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 만기 이자 지급 실행 기록 (InterestRun) JDBC, 상태 전이와 체크포인트는 조건부 UPDATE
+@Repository
+@RequiredArgsConstructor
+public class InterestRunRepository {
+
+    private static final String COLUMNS = "id, run_date, bank_id, status, last_account_id, processed_count, failed_count, paid_amount, started_at";
+    private static final String INSERT_RUN = "INSERT INTO interest_run "
+            + "(id, run_date, bank_id, status, processed_count, failed_count, paid_amount, started_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, 0, 0, 0, ?, ?)";
+    // 앞 청크의 체크포인트가 그대로이고 이 실행(started_at)이 아직 lease를 갖고 있을 때만 갱신, 아니면 0건이라 청크 전체를 롤백
+    // updated_at이 lease의 heartbeat
+    private static final String CHECKPOINT = "UPDATE interest_run SET last_account_id = ?, processed_count = processed_count + ?, "
+            + "failed_count = failed_count + ?, paid_amount = paid_amount + ?, updated_at = ? "
+            + "WHERE id = ? AND status = ? AND started_at = ? AND COALESCE(last_account_id, '') = ?";
+    // 다시 가져갈 수 있는 실행, 실패했거나 RUNNING인데 heartbeat가 lease 시간 넘게 멈춘 실행 (서버가 중간에 죽음)
+    private static final String RECLAIMABLE = "(status = ? OR (status = ? AND updated_at < ?))";
+    private static final String FIND_MATURING_BANK_IDS = "SELECT DISTINCT bank_id FROM account "
+            + "WHERE end_date = ? AND is_deleted = 0 AND bank_id IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // startedAt은 실행마다 달라서 lease를 가진 실행인지 구분하는 데 씀
+    public record Run(UUID id, LocalDate runDate, UUID bankId, InterestRunStatus status, String lastAccountId,
+                      long processedCount, long failedCount, long paidAmount, LocalDateTime startedAt) {}
+
+    // 청크 하나에서 반영한 결과
+    public record Progress(String lastAccountId, long processedCount, long failedCount, long paidAmount) {}
+
+    public Optional<Run> find(LocalDate runDate, UUID bankId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM interest_run WHERE run_date = ? AND bank_id = ?",
+                this::toRun, Date.valueOf(runDate), toBytes(bankId)).stream().findFirst();
+    }
+
+    // 다시 가져갈 수 있는 실행, heartbeat가 leaseExpiredBefore보다 오래된 RUNNING과 FAILED
+    public List<Run> findReclaimable(LocalDateTime leaseExpiredBefore) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM interest_run WHERE " + RECLAIMABLE + " ORDER BY run_date, bank_id",
+                this::toRun, InterestRunStatus.FAILED.name(), InterestRunStatus.RUNNING.name(), Timestamp.valueOf(leaseExpiredBefore));
+    }
+
+    // 날짜, 은행 별로 한 번만 생성, 이미 있으면 false
+    public boolean create(UUID id, LocalDate runDate, UUID bankId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        try {
+            jdbcTemplate.update(INSERT_RUN, toBytes(id), Date.valueOf(runDate), toBytes(bankId), InterestRunStatus.RUNNING.name(), timestamp, timestamp);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // 다시 가져갈 수 있는 실행이면 now를 started_at으로 새 lease를 잡음, 다른 서버가 먼저 가져갔으면 false
+    public boolean restart(UUID id, LocalDateTime leaseExpiredBefore, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update("UPDATE interest_run SET status = ?, fail_reason = NULL, started_at = ?, finished_at = NULL, updated_at = ? "
+                        + "WHERE id = ? AND " + RECLAIMABLE,
+                InterestRunStatus.RUNNING.name(), timestamp, timestamp, toBytes(id),
+                InterestRunStatus.FAILED.name(), InterestRunStatus.RUNNING.name(), Timestamp.valueOf(leaseExpiredBefore)) > 0;
+    }
+
+    public boolean checkpoint(UUID id, LocalDateTime startedAt, String previousAccountId, Progress progress, LocalDateTime now) {
+        return jdbcTemplate.update(CHECKPOINT, progress.lastAccountId(), progress.processedCount(), progress.failedCount(), progress.paidAmount(),
+                Timestamp.valueOf(now), toBytes(id), InterestRunStatus.RUNNING.name(), Timestamp.valueOf(startedAt),
+                previousAccountId == null ? "" : previousAccountId) > 0;
+    }
+
+    // lease를 가진 실행(RUNNING, started_at)일 때만 종료, lease를 잃었으면 false
+    public boolean finish(UUID id, LocalDateTime startedAt, InterestRunStatus status, Long rowsPerSecond, String failReason, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update("UPDATE interest_run SET status = ?, rows_per_second = ?, fail_reason = ?, finished_at = ?, updated_at = ? "
+                        + "WHERE id = ? AND status = ? AND started_at = ?",
+                status.name(), rowsPerSecond, failReason, timestamp, timestamp, toBytes(id),
+                InterestRunStatus.RUNNING.name(), Timestamp.valueOf(startedAt)) > 0;
+    }
+
+    // 파티션 목록, 해당 날짜에 만기인 계좌가 있는 은행
+    public List<UUID> findBankIdsMaturingOn(LocalDate endDate) {
+        return jdbcTemplate.queryForList(FIND_MATURING_BANK_IDS, byte[].class, Date.valueOf(endDate)).stream()
+                .map(UuidBytes::toUuid)
+                .toList();
+    }
+
+    private Run toRun(ResultSet rs, int rowNum) throws SQLException {
+        return new Run(toUuid(rs.getBytes(1)), rs.getDate(2).toLocalDate(), toUuid(rs.getBytes(3)), InterestRunStatus.valueOf(rs.getString(4)),
+                rs.getString(5), rs.getLong(6), rs.getLong(7), rs.getLong(8), rs.getTimestamp(9).toLocalDateTime());
+    }
+}
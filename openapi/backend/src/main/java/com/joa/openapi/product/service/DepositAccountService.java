@@ -1,85 +1,71 @@
 package com.joa.openapi.product.service;
 
-import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.dto.AccountMaturityDto;
 import com.joa.openapi.account.enums.TaxType;
-import com.joa.openapi.account.errorcode.AccountErrorCode;
-import com.joa.openapi.account.repository.AccountRepository;
-import com.joa.openapi.account.service.AccountService;
+import com.joa.openapi.common.cache.ProductRateCache;
+import com.joa.openapi.common.cache.ProductRateCache.ProductRate;
 import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.product.dto.req.ProductRateBulkRequestDto;
+import com.joa.openapi.product.dto.req.ProductRatePointDto;
 import com.joa.openapi.product.dto.req.ProductRateRequestDto;
+import com.joa.openapi.product.dto.res.ProductRateBulkResponseDto;
+import com.joa.openapi.product.dto.res.ProductRateQuoteDto;
 import com.joa.openapi.product.dto.res.ProductRateResponseDto;
-import com.joa.openapi.product.entity.Product;
-import com.joa.openapi.product.enums.PaymentType;
 import com.joa.openapi.product.enums.ProductType;
 import com.joa.openapi.product.errorcode.ProductErrorCode;
-import com.joa.openapi.product.repository.ProductRepository;
-import com.joa.openapi.transaction.service.TransactionService;
+import com.joa.openapi.product.service.InterestEngine.GrowthFactor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DepositAccountService {
-    private final ProductRepository productRepository;
-    private final AccountRepository accountRepository;
-    private final TransactionService transactionService;
-
-    @Scheduled(cron = "0 0 0 * * ?") // 매일 자정에 실행되는 크론 표현식
-    //@Scheduled(cron = "0 */1 * * * ?") // 매 분마다 실행되도록 변경
-    //@Scheduled(cron = "*/10 * * * * ?")
-    @Transactional
-    public void payInterest() {
-        //정기예금, 정기적금 만기시 금액 지급
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM/dd/yyyy"));
-        List<Account> accounts = accountRepository.findAllByEndDate(today);
-
-        Long calculatedInterest = 0L; // 계산된 이자액
-
-        for (Account account : accounts) {
-            Long totalPrincipal = account.getAmount(); // 원금
-
-            if(account.getProduct().getProductType().equals(ProductType.TERM_DEPOSIT)) {
-                // 예금 이자 계산
-                calculatedInterest = calculateTermDeposit(account.getAmount(), account.getProduct().getRate(), account.getTerm(), account.getProduct().getPaymentType());
-
-            } else if (account.getProduct().getProductType().equals(ProductType.FIXED_DEPOSIT)) {
-                // 적금 이자 계산
-                calculatedInterest = calculateFixedDeposit(account.getAmount(), account.getProduct().getRate(), account.getTerm(), account.getProduct().getPaymentType());
-                totalPrincipal *= account.getTerm();
-            }
-
-            long taxInterest = 0;
-
-            if(account.getTaxType() != null && account.getTaxType().equals(TaxType.TAX)){
-                taxInterest = calculatedInterest * 154 / 1000;
-            }
-
-            Long totalAmount = totalPrincipal + calculatedInterest - taxInterest;
+    // 상품 정보가 없는 등 만기 지급액을 계산할 수 없는 계좌
+    public static final long NOT_PAYABLE = -1L;
+    // 일괄 이자 계산 한 번에 받는 조건 수
+    private static final int MAX_QUOTES = 10_000;
+
+    private final ProductRateCache productRateCache;
+    private final InterestEngine interestEngine;
+
+    // 만기 지급액, 예금은 원금 + 이자 - 세금, 적금은 원금 * 납입 개월수 + 이자 - 세금, 입출금은 원금
+    // 이자 지급 배치(InterestPaymentJob)가 청크마다 호출, 상품 값은 조회할 때 함께 읽은 값 사용
+    public long[] calculateMaturityPayments(List<AccountMaturityDto> accounts) {
+        int size = accounts.size();
+        long[] principals = new long[size];
+        GrowthFactor[] factors = new GrowthFactor[size];
+        boolean[] payable = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            AccountMaturityDto account = accounts.get(i);
+            principals[i] = Objects.requireNonNullElse(account.getAmount(), 0L);
+            payable[i] = isPayable(account);
+            factors[i] = payable[i] ? interestEngine.factor(account.getProductType(), account.getPaymentType(), account.getRate(), orZero(account.getTerm())) : GrowthFactor.ZERO;
+        }
 
-                transactionService.depositInterest(account, totalAmount);
-            }
+        long[] interests = new long[size];
+        interestEngine.interests(principals, factors, interests);
 
-        for (Account account : accounts) {
-            if (account.getProduct().getProductType().equals(ProductType.ORDINARY_DEPOSIT)) {
-                Long interest = calculateMinuteInterest(account.getBalance(), account.getProduct().getRate());
-                transactionService.depositInterest(account, interest);
-            }
-            if (account.getProduct().getProductType().equals(ProductType.FIXED_DEPOSIT)) {
-                transactionService.withdrawAmount(account);
+        long[] payments = new long[size];
+        for (int i = 0; i < size; i++) {
+            AccountMaturityDto account = accounts.get(i);
+            if (!payable[i]) {
+                payments[i] = NOT_PAYABLE;
+                continue;
             }
+            long totalPrincipal = account.getProductType() == ProductType.FIXED_DEPOSIT ? principals[i] * account.getTerm() : principals[i];
+            payments[i] = totalPrincipal + interests[i] - interestEngine.tax(interests[i], account.getTaxType());
         }
+        return payments;
     }
 
-    private Long calculateMinuteInterest(double principal, double rate) {
+    public Long calculateMinuteInterest(double principal, double rate) {
         double annualInterestRate = rate / 100;
         double minuteInterestRate = annualInterestRate / 365; //(365 * 24 * 60); // 연 이자율을 분 이자율로 변환
 
@@ -87,64 +73,61 @@ public class DepositAccountService {
     }
 
     public ProductRateResponseDto calculateRate(UUID apiKey, ProductRateRequestDto req) {
-        Product product = productRepository.findById(req.getProductId()).orElseThrow(() -> new RestApiException(ProductErrorCode.NO_PRODUCT));
-
-        Long calculatedInterest = 0L; // 계산된 이자액
-        Long totalPrincipal = req.getAmount(); // 원금
-
-        if(product.getProductType().equals(ProductType.TERM_DEPOSIT)) {
-            // 예금 이자 계산
-            calculatedInterest = calculateTermDeposit(req.getAmount(), product.getRate(), req.getTerm(), product.getPaymentType());
+        ProductRate product = productRateCache.get(req.getProductId());
+        ProductRateQuoteDto quote = quote(product, req.getAmount(), req.getTerm(), req.getTaxType());
+        return ProductRateResponseDto.toDto(product, quote); //계산된 이자액, 세금액, 최종 지금액
+    }
 
-        } else if (product.getProductType().equals(ProductType.FIXED_DEPOSIT)) {
-            // 적금 이자 계산
-            calculatedInterest = calculateFixedDeposit(req.getAmount(), product.getRate(), req.getTerm(), product.getPaymentType());
-            totalPrincipal *= req.getTerm();
-        }
+    // 금액, 기간을 바꿔 가며 여러 번 요청하는 대신 조건 목록을 한 번에 계산, 상품 조회는 캐시에서 한 번
+    public ProductRateBulkResponseDto calculateRates(UUID apiKey, ProductRateBulkRequestDto req) {
+        List<ProductRatePointDto> points = Objects.requireNonNullElse(req.getPoints(), List.of());
+        if (points.size() > MAX_QUOTES)
+            throw new RestApiException(ProductErrorCode.TOO_MANY_QUOTES);
 
-        long taxInterest = 0L;
-        if(req.getTaxType().equals(TaxType.TAX)){
-            taxInterest = calculatedInterest * 154 / 1000;
+        ProductRate product = productRateCache.get(req.getProductId());
+        List<ProductRateQuoteDto> quotes = new ArrayList<>(points.size());
+        for (ProductRatePointDto point : points) {
+            quotes.add(quote(product, point.getAmount(), point.getTerm(), point.getTaxType()));
         }
+        return ProductRateBulkResponseDto.toDto(product, quotes);
+    }
 
-        Long totalAmount = totalPrincipal + calculatedInterest - taxInterest;
+    // 성장 계수는 InterestEngine 캐시에서 가져오므로 조건 하나는 곱셈 몇 번
+    private ProductRateQuoteDto quote(ProductRate product, Long amount, Integer term, TaxType taxType) {
+        if (amount == null || amount < 0 || (term != null && term < 0))
+            throw new RestApiException(ProductErrorCode.INVALID_QUOTE);
 
-        return ProductRateResponseDto.toDto(product, totalPrincipal, calculatedInterest, taxInterest, totalAmount); //계산된 이자액, 세금액, 최종 지금액
-    }
+        long totalPrincipal = amount; // 원금
+        GrowthFactor factor = interestEngine.factor(product.productType(), product.paymentType(), product.rate(), orZero(term));
+        long calculatedInterest = interestEngine.interest(amount, factor); // 계산된 이자액
 
-    //예금
-    public Long calculateTermDeposit(double principal, double rate, int term, PaymentType paymentType) {
-        double monthlyInterestRate = rate / 12 / 100;
-        long interest;
-        long totalAmount;
-
-        if(paymentType.equals(PaymentType.SIMPLE)) {
-            //단리 계산 공식: 원금 * (1 + 이자율 * 예치 개월수 / 12)
-            interest = (long) (principal * monthlyInterestRate * term);
-        } else {
-            //복리 계산
-            totalAmount = (long) (principal * Math.pow((1 + monthlyInterestRate), term));
-            interest = totalAmount - (long) principal;
+        if (product.productType() == ProductType.FIXED_DEPOSIT) {
+            // 적금은 매달 납입
+            totalPrincipal *= orZero(term);
         }
 
-        return interest;
+        long taxInterest = interestEngine.tax(calculatedInterest, taxType);
+
+        return ProductRateQuoteDto.builder()
+                .amount(amount)
+                .term(term)
+                .taxType(taxType)
+                .totalAmount(totalPrincipal)
+                .interest(calculatedInterest)
+                .taxInterest(taxInterest)
+                .calculatedInterest(totalPrincipal + calculatedInterest - taxInterest)
+                .build();
     }
 
-    //적금
-    public Long calculateFixedDeposit(double monthlyDeposit, double rate, int term, PaymentType paymentType) {
-        long interest;
-
-        if(paymentType.equals(PaymentType.SIMPLE)) {
-            // 적금 단리 이자 계산
-            interest = (long) (monthlyDeposit * term * (term + 1) / 2 * rate / 12 / 100); // 단리 이자            return totalPrincipal + simpleInterest;
-        } else {
-            // 적금 연복리 이자 계산
-            double monthlyInterestRate = rate / 12 / 100;
-            interest = 0;
-            for (int i = 0; i < term; i++) {
-                interest += (long) (monthlyDeposit * (Math.pow(1 + monthlyInterestRate, term - i) - 1));
-            }
-        }
-        return interest;
+    // 예금, 적금은 이율, 기간, 이자 방식이 모두 있어야 계산 가능
+    private boolean isPayable(AccountMaturityDto account) {
+        if (account.getProductType() == null) return false;
+        if (account.getProductType() == ProductType.ORDINARY_DEPOSIT) return true;
+        return account.getRate() != null && account.getTerm() != null && account.getPaymentType() != null;
+    }
+
+    // 입출금 상품은 기간이 없음
+    private int orZero(Integer term) {
+        return term == null ? 0 : term;
     }
-}
\ No newline at end of file
+}
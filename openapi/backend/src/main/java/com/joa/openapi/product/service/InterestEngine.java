@@ -0,0 +1,118 @@
+package com.joa.openapi.product.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.joa.openapi.account.enums.TaxType;
+import com.joa.openapi.product.enums.PaymentType;
+import com.joa.openapi.product.enums.ProductType;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예금, 적금 이자 계산
+ * 상품 종류, 이자 방식, 이율, 기간 별 성장 계수(원금 1원당 이자)를 한 번만 계산해서 캐시하고 계좌마다는 원금 * 계수 한 번만 계산
+ * 계수는 BigDecimal(34자리)로 계산, 원 단위 버림은 double로 하되 결과가 정수 경계에 가까우면 BigDecimal로 다시 계산해서 항상 정확히 버림
+ * 적금 월복리는 예전 계산과 같은 지급액이 되도록 납입 회차마다 따로 버린 값을 더함
+ */
+@Component
+public class InterestEngine {
+
+    private static final MathContext MC = MathContext.DECIMAL128;
+    private static final BigDecimal PERCENT_MONTHS = BigDecimal.valueOf(1200); // 연이율(%) -> 월이율
+    private static final int MAX_FACTORS = 1024;
+    // double 곱의 상대 오차(2^-52)보다 넉넉하게, 이 안쪽이면 BigDecimal로 다시 계산
+    private static final double BOUNDARY = 0x1p-46;
+    private static final double MAX_APPROX = 0x1p52;
+
+    private final Cache<FactorKey, GrowthFactor> factors = Caffeine.newBuilder().maximumSize(MAX_FACTORS).build();
+
+    private record FactorKey(ProductType productType, PaymentType paymentType, double rate, int term) {}
+
+    // 원금 1원당 이자 (적금은 월 납입액 1원당 만기까지의 이자), approx는 exact와 가장 가까운 double
+    // installments가 있으면(적금 월복리) 회차 별 계수로 각각 버림한 합
+    public record GrowthFactor(BigDecimal exact, double approx, GrowthFactor[] installments) {
+        public static final GrowthFactor ZERO = new GrowthFactor(BigDecimal.ZERO);
+
+        GrowthFactor(BigDecimal exact) {
+            this(exact, exact.doubleValue(), null);
+        }
+    }
+
+    // 입출금 상품은 만기 이자 없음
+    public GrowthFactor factor(ProductType productType, PaymentType paymentType, double rate, int term) {
+        if (productType == ProductType.ORDINARY_DEPOSIT) return GrowthFactor.ZERO;
+        return factors.get(new FactorKey(productType, paymentType, rate, term), this::compute);
+    }
+
+    // principal * factor 원 단위 버림
+    public long interest(long principal, GrowthFactor factor) {
+        if (factor.installments() == null) return floor(principal, factor);
+        long interest = 0;
+        for (GrowthFactor installment : factor.installments()) {
+            interest += floor(principal, installment);
+        }
+        return interest;
+    }
+
+    private long floor(long principal, GrowthFactor factor) {
+        double approx = principal * factor.approx();
+        if (approx >= 0 && approx < MAX_APPROX) {
+            double floor = Math.floor(approx);
+            double fraction = approx - floor;
+            double boundary = approx * BOUNDARY;
+            if (fraction > boundary && 1 - fraction > boundary) return (long) floor;
+        }
+        return exactInterest(principal, factor);
+    }
+
+    // 같은 인덱스끼리 interest(principals[i], factors[i])를 out[i]에, 배치에서 계좌 수천~수백만 건을 한 번에
+    public void interests(long[] principals, GrowthFactor[] factors, long[] out) {
+        for (int i = 0; i < principals.length; i++) {
+            out[i] = interest(principals[i], factors[i]);
+        }
+    }
+
+    // 이자 소득세 15.4% 원 단위 버림
+    public long tax(long interest, TaxType taxType) {
+        return taxType == TaxType.TAX ? interest * 154 / 1000 : 0;
+    }
+
+    private long exactInterest(long principal, GrowthFactor factor) {
+        return BigDecimal.valueOf(principal).multiply(factor.exact()).setScale(0, RoundingMode.FLOOR).longValueExact();
+    }
+
+    private GrowthFactor compute(FactorKey key) {
+        BigDecimal rate = BigDecimal.valueOf(key.rate());
+        int term = key.term();
+        BigDecimal exact;
+        GrowthFactor[] installments = null;
+        if (key.productType() == ProductType.TERM_DEPOSIT) {
+            if (key.paymentType() == PaymentType.SIMPLE) {
+                // 예금 단리: 월이율 * 개월수
+                exact = rate.multiply(BigDecimal.valueOf(term)).divide(PERCENT_MONTHS, MC);
+            } else {
+                // 예금 월복리: (1 + 월이율)^개월수 - 1
+                exact = BigDecimal.ONE.add(rate.divide(PERCENT_MONTHS, MC)).pow(term, MC).subtract(BigDecimal.ONE);
+            }
+        } else {
+            if (key.paymentType() == PaymentType.SIMPLE) {
+                // 적금 단리: 월이율 * (1 + 2 + ... + 개월수), 첫 달 납입액이 가장 오래 예치
+                exact = rate.multiply(BigDecimal.valueOf((long) term * (term + 1) / 2)).divide(PERCENT_MONTHS, MC);
+            } else {
+                // 적금 월복리: 납입 회차마다 (1 + 월이율)^남은 개월수 - 1, 이자는 회차마다 원 단위 버림
+                BigDecimal growth = BigDecimal.ONE.add(rate.divide(PERCENT_MONTHS, MC));
+                BigDecimal compounded = BigDecimal.ONE;
+                exact = BigDecimal.ZERO;
+                installments = new GrowthFactor[term];
+                for (int month = 1; month <= term; month++) {
+                    compounded = compounded.multiply(growth, MC);
+                    installments[month - 1] = new GrowthFactor(compounded.subtract(BigDecimal.ONE));
+                    exact = exact.add(installments[month - 1].exact(), MC);
+                }
+            }
+        }
+        return new GrowthFactor(exact, exact.doubleValue(), installments);
+    }
+}
@@ -0,0 +1,268 @@
+package com.joa.openapi.product.service;
+
+import com.joa.openapi.account.dto.AccountMaturityDto;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.service.BankAggregateService;
+import com.joa.openapi.product.enums.InterestRunStatus;
+import com.joa.openapi.product.enums.ProductType;
+import com.joa.openapi.product.repository.InterestRunRepository;
+import com.joa.openapi.product.repository.InterestRunRepository.Progress;
+import com.joa.openapi.product.repository.InterestRunRepository.Run;
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.repository.TransactionBulkRepository;
+import java.time.LocalDate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 정기예금, 정기적금 만기 지급 배치
+ * 만기 계좌가 있는 은행마다 파티션 하나, 파티션은 interestJobExecutor에서 동시에 partitions개까지 실행
+ * 파티션 안에서는 계좌번호 순으로 chunk-size개씩 상품과 함께 읽어서 청크마다 새 트랜잭션으로 잔액(JDBC batch), 거래내역, 체크포인트를 함께 커밋
+ * 서버가 죽거나 청크가 실패하면 마지막 체크포인트 다음 계좌부터 이어서 처리 (서버 시작 시 자동, 지급은 청크 단위로 한 번만)
+ * 실행 중인 파티션은 청크 체크포인트(updated_at)가 heartbeat, lease 시간 동안 체크포인트가 없을 때만 죽은 실행으로 보고 다른 서버가 가져감
+ */
+@Slf4j
+@Component
+public class InterestPaymentJob {
+
+    private static final int MAX_FAIL_REASON_LENGTH = 255;
+
+    private final AccountRepository accountRepository;
+    private final InterestRunRepository interestRunRepository;
+    private final TransactionBulkRepository transactionBulkRepository;
+    private final BankAggregateService bankAggregateService;
+    private final DepositAccountService depositAccountService;
+    private final TaskExecutor interestJobExecutor;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final Duration lease;
+    private final boolean resumeOnStartup;
+
+    public InterestPaymentJob(AccountRepository accountRepository,
+                              InterestRunRepository interestRunRepository,
+                              TransactionBulkRepository transactionBulkRepository,
+                              BankAggregateService bankAggregateService,
+                              DepositAccountService depositAccountService,
+                              @Qualifier("interestJobExecutor") TaskExecutor interestJobExecutor,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${interest.job.chunk-size}") int chunkSize,
+                              @Value("${interest.job.lease}") Duration lease,
+                              @Value("${interest.job.resume-on-startup}") boolean resumeOnStartup) {
+        this.accountRepository = accountRepository;
+        this.interestRunRepository = interestRunRepository;
+        this.transactionBulkRepository = transactionBulkRepository;
+        this.bankAggregateService = bankAggregateService;
+        this.depositAccountService = depositAccountService;
+        this.interestJobExecutor = interestJobExecutor;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.lease = lease;
+        this.resumeOnStartup = resumeOnStartup;
+    }
+
+    // 매일 자정, 전에 실패한 파티션을 먼저 이어서 처리
+    @Scheduled(cron = "${interest.job.cron}")
+    public void payInterest() {
+        resume();
+        run(LocalDate.now());
+    }
+
+    // 끝나지 않은 실행이 있으면 이어서 처리, db/migration 적용(FlywayConfig) 이후에 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!resumeOnStartup) return;
+        new SimpleAsyncTaskExecutor("interest-resume-").execute(() -> {
+            try {
+                resume();
+            } catch (Exception e) {
+                log.error("만기 이자 지급 재개 실패", e);
+            }
+        });
+    }
+
+    // date에 만기인 계좌를 은행 별로 나눠 처리, 처리한 계좌 수 (이미 실행한 은행은 건너뜀)
+    public long run(LocalDate date) {
+        List<UUID> bankIds = interestRunRepository.findBankIdsMaturingOn(date);
+        log.info("만기 이자 지급 시작 date: {}, banks: {}", date, bankIds.size());
+        return runAll(bankIds.stream()
+                .<Supplier<Long>>map(bankId -> () -> startPartition(date, bankId))
+                .toList());
+    }
+
+    // 실패했거나 lease가 끝난(서버 종료) 실행을 체크포인트부터 이어서 처리, 처리한 계좌 수
+    // 다른 서버에서 heartbeat가 이어지고 있는 실행은 건드리지 않음
+    public long resume() {
+        List<Run> reclaimable = interestRunRepository.findReclaimable(now().minus(lease));
+        if (reclaimable.isEmpty()) return 0;
+        log.info("만기 이자 지급 재개 runs: {}", reclaimable.size());
+        return runAll(reclaimable.stream()
+                .<Supplier<Long>>map(run -> () -> restartPartition(run))
+                .toList());
+    }
+
+    private long runAll(List<Supplier<Long>> partitions) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Long>> futures = partitions.stream()
+                .map(partition -> CompletableFuture.supplyAsync(partition, interestJobExecutor))
+                .toList();
+        long processed = futures.stream().mapToLong(CompletableFuture::join).sum();
+        log.info("만기 이자 지급 완료 partitions: {}, accounts: {} ({} rows/s)", partitions.size(), processed, rowsPerSecond(processed, start));
+        return processed;
+    }
+
+    private long startPartition(LocalDate date, UUID bankId) {
+        UUID runId = UUID.randomUUID();
+        LocalDateTime startedAt = now();
+        if (!interestRunRepository.create(runId, date, bankId, startedAt)) {
+            // 이미 끝났거나 다른 서버에서 실행 중, 끝나지 않은 실행은 resume에서 이어서 처리
+            log.info("만기 이자 지급 실행 기록이 있어 건너뜀 date: {}, bankId: {}", date, bankId);
+            return 0;
+        }
+        return runPartition(new Run(runId, date, bankId, InterestRunStatus.RUNNING, null, 0, 0, 0, startedAt));
+    }
+
+    // 목록을 읽은 뒤에 다른 서버가 먼저 가져갔으면 건너뜀
+    private long restartPartition(Run run) {
+        LocalDateTime startedAt = now();
+        if (!interestRunRepository.restart(run.id(), startedAt.minus(lease), startedAt)) return 0;
+        return runPartition(new Run(run.id(), run.runDate(), run.bankId(), InterestRunStatus.RUNNING, run.lastAccountId(),
+                run.processedCount(), run.failedCount(), run.paidAmount(), startedAt));
+    }
+
+    // 체크포인트 다음 계좌부터 청크 단위로 끝까지, 실패하면 FAILED로 남기고 다음 재개 때 이어서
+    private long runPartition(Run run) {
+        long start = System.nanoTime();
+        String after = run.lastAccountId();
+        long processed = 0;
+        try {
+            while (true) {
+                String previous = after;
+                Progress progress = chunkTransaction.execute(status -> payChunk(run, previous));
+                if (progress == null) break;
+
+                processed += progress.processedCount() + progress.failedCount();
+                after = progress.lastAccountId();
+                log.info("만기 이자 지급 진행 date: {}, bankId: {}, {}건 ({} rows/s)", run.runDate(), run.bankId(), processed, rowsPerSecond(processed, start));
+            }
+            if (!interestRunRepository.finish(run.id(), run.startedAt(), InterestRunStatus.COMPLETED, rowsPerSecond(processed, start), null, now()))
+                log.warn("만기 이자 지급 lease를 잃어서 완료 처리하지 않음 date: {}, bankId: {}", run.runDate(), run.bankId());
+        } catch (Exception e) {
+            log.error("만기 이자 지급 실패 date: {}, bankId: {}, checkpoint: {}", run.runDate(), run.bankId(), after, e);
+            String reason = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            if (reason.length() > MAX_FAIL_REASON_LENGTH) reason = reason.substring(0, MAX_FAIL_REASON_LENGTH);
+            interestRunRepository.finish(run.id(), run.startedAt(), InterestRunStatus.FAILED, rowsPerSecond(processed, start), reason, now());
+        }
+        return processed;
+    }
+
+    // 청크 하나 지급, 더 읽을 계좌가 없으면 null
+    private Progress payChunk(Run run, String after) {
+        List<AccountMaturityDto> accounts = accountRepository.findMaturingChunk(run.bankId(), run.runDate(), after == null ? "" : after, chunkSize);
+        if (accounts.isEmpty()) return null;
+
+        LocalDateTime now = now();
+        Map<String, Long> deltas = new TreeMap<>();
+        List<TransactionResponseDto> transactions = new ArrayList<>();
+        long failed = 0;
+        long paid = 0;
+        long[] payments = depositAccountService.calculateMaturityPayments(accounts);
+        for (int i = 0; i < accounts.size(); i++) {
+            AccountMaturityDto account = accounts.get(i);
+            List<Posting> postings;
+            try {
+                if (payments[i] == DepositAccountService.NOT_PAYABLE)
+                    throw new IllegalStateException("상품 정보 없음");
+                postings = settle(account, payments[i]);
+            } catch (RuntimeException e) {
+                // 상품 정보가 없는 등 계산할 수 없는 계좌는 건너뛰고 기록만
+                log.warn("만기 이자 계산 실패 accountId: {}", account.getAccountId(), e);
+                failed++;
+                continue;
+            }
+            long delta = 0;
+            for (Posting posting : postings) {
+                delta += posting.balanceDelta();
+                transactions.add(TransactionResponseDto.builder()
+                        .transactionId(UUID.randomUUID())
+                        .amount(posting.amount())
+                        .depositorName(posting.depositorName())
+                        .toAccount(account.getAccountId())
+                        .toBankId(account.getBankId())
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build());
+            }
+            if (delta != 0) deltas.put(account.getAccountId(), delta);
+            paid += delta;
+        }
+
+        if (!transactions.isEmpty()) {
+            for (int count : transactionBulkRepository.addBalances(deltas, now)) {
+                if (count == 0) // 읽은 뒤에 해지된 계좌, 청크를 롤백하고 다시 읽음
+                    throw new IllegalStateException("만기 지급 중 해지된 계좌");
+            }
+            transactionBulkRepository.insertAll(transactions);
+            bankAggregateService.recordTransactions(transactions);
+        }
+
+        Progress progress = new Progress(accounts.get(accounts.size() - 1).getAccountId(), accounts.size() - failed, failed, paid);
+        if (!interestRunRepository.checkpoint(run.id(), run.startedAt(), after, progress, now))
+            throw new IllegalStateException("lease를 잃었거나 다른 실행이 체크포인트를 변경함");
+        return progress;
+    }
+
+    // 지급 거래 한 건, balanceDelta는 잔액 변동 (적금 납입액 차감은 음수)
+    private record Posting(long amount, String depositorName, long balanceDelta) {}
+
+    // 계좌 하나의 만기 지급 거래, 예전 payInterest와 같은 순서 (만기 지급액은 청크 단위로 미리 계산)
+    // 1. 만기 지급액 입금  2. 입출금 상품은 하루 이자 입금  3. 적금은 납입액 차감
+    private List<Posting> settle(AccountMaturityDto account, long payment) {
+        List<Posting> postings = new ArrayList<>(2);
+        ProductType productType = account.getProductType();
+        long balance = account.getBalance();
+
+        if (payment != 0) {
+            postings.add(new Posting(payment, "이자 지급", payment));
+            balance += payment;
+        }
+        if (productType == ProductType.ORDINARY_DEPOSIT) {
+            long interest = depositAccountService.calculateMinuteInterest(balance, account.getRate());
+            if (interest != 0) postings.add(new Posting(interest, "이자 지급", interest));
+        }
+        if (productType == ProductType.FIXED_DEPOSIT && account.getAmount() != null && balance >= account.getAmount()) {
+            postings.add(new Posting(account.getAmount(), "적금", -account.getAmount()));
+        }
+        return postings;
+    }
+
+    // started_at을 실행 구분에 쓰므로 DB(DATETIME(6))에 그대로 저장되는 정밀도로 자름
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private long rowsPerSecond(long rows, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return seconds == 0 ? rows : (long) (rows / seconds);
+    }
+}
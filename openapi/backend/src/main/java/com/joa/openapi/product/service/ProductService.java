@@ -1,13 +1,15 @@
 package com.joa.openapi.product.service;
 
-import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
 import com.joa.openapi.bank.entity.Bank;
 import com.joa.openapi.bank.errorcode.BankErrorCode;
 import com.joa.openapi.bank.repository.BankRepository;
-import com.joa.openapi.common.entity.Api;
 import com.joa.openapi.common.errorcode.CommonErrorCode;
 import com.joa.openapi.common.exception.RestApiException;
-import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.util.BankAuthorityValidator;
+import com.joa.openapi.common.cache.ApiKeyCache;
+import com.joa.openapi.common.cache.EntityCacheEvictor;
+import com.joa.openapi.common.cache.ProductRateCache;
 import com.joa.openapi.product.dto.req.ProductCreateRequestDto;
 import com.joa.openapi.product.dto.req.ProductSearchRequestDto;
 import com.joa.openapi.product.dto.res.ProductCreateResponseDto;
@@ -32,12 +34,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final AccountRepository accountRepository;
     private final BankRepository bankRepository;
-    private final ApiRepository apiRepository;
+    private final ApiKeyCache apiKeyCache;
+    private final ProductRateCache productRateCache;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final BankAuthorityValidator bankAuthorityValidator;
 
     @Transactional
     public ProductCreateResponseDto create(UUID apiKey, ProductCreateRequestDto req) {
-        bankAuthorityValidation(apiKey, req.getBankId());
+        bankAuthorityValidator.validate(apiKey, req.getBankId());
 
         Bank bank = bankRepository.findById(req.getBankId()).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
 
@@ -54,6 +60,7 @@ public class ProductService {
                 .build();
 
         productRepository.save(product);
+        // 새 상품은 2차 캐시에 없고 은행의 상품 목록(컬렉션)은 캐싱하지 않으므로 제거할 항목 없음
 
         return ProductCreateResponseDto.toDto(product);
     }
@@ -71,6 +78,8 @@ public class ProductService {
         product.updateIsDone(true);
 
         productRepository.save(product);
+        productRateCache.evict(productId);
+        entityCacheEvictor.evictProduct(productId);
 
         return ProductUpdateIsDoneResponseDto.toDto(product);
     }
@@ -82,39 +91,31 @@ public class ProductService {
         Product product = productRepository.findById(productId)
             .orElseThrow(() -> new RestApiException(ProductErrorCode.NO_PRODUCT));
 
-        boolean allAccountsDeleted = product.getAccountList().stream()
-            .allMatch(Account::getIsDeleted);
-
-        if (allAccountsDeleted) {
+        // 계좌 목록을 읽지 않고 해지되지 않은 계좌가 있는지만 확인
+        if (!accountRepository.existsByProductId(productId)) {
             product.deleteSoftly();
+            productRateCache.evict(productId);
+            entityCacheEvictor.evictProduct(productId);
         } else {
             throw new RestApiException(ProductErrorCode.NO_PRODUCT);
         }
     }
 
     public Page<ProductSearchResponseDto> search(UUID apiKey, ProductSearchRequestDto req, Pageable pageable) {
-        Api api = apiRepository.findByApiKey(apiKey)
+        UUID adminId = apiKeyCache.findAdminId(apiKey)
                 .orElseThrow(() -> new RestApiException(CommonErrorCode.NO_AUTHORIZATION));
-        return productRepository.searchProductCustom(api.getAdminId(), req, pageable);
+        return productRepository.searchProductCustom(adminId, req, pageable);
     }
 
     public ProductDetailResponseDto searchOne(UUID apiKey, UUID productId) {
         Product product = productRepository.findById(productId)
             .orElseThrow(() -> new RestApiException(ProductErrorCode.NO_PRODUCT));
-        bankAuthorityValidation(apiKey, product.getProductsBank().getId());
+        bankAuthorityValidator.validate(apiKey, product.getProductsBank().getId());
         return ProductDetailResponseDto.toDto(product);
     }
 
-    public void bankAuthorityValidation(UUID apiKey, UUID bankId) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
-        Bank bank = bankRepository.findById(bankId).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
-
-        if (!bank.getAdminId().equals(adminId))
-            throw new RestApiException(CommonErrorCode.NO_AUTHORIZATION);
-    }
-
     public void productAuthorityValidation(UUID apiKey, UUID productId) {
         Product product = productRepository.findById(productId).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
-        bankAuthorityValidation(apiKey, product.getProductsBank().getId());
+        bankAuthorityValidator.validate(apiKey, product.getProductsBank().getId());
     }
 }
@@ -1,30 +1,43 @@
 package com.joa.openapi.transaction.controller;
 
 import com.joa.openapi.common.exception.RestApiException;
-import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.cache.ApiKeyCache;
 import com.joa.openapi.common.response.ApiResponse;
 import com.joa.openapi.transaction.dto.req.Transaction1wonConfirmRequestDto;
 import com.joa.openapi.transaction.dto.req.Transaction1wonRequestDto;
+import com.joa.openapi.transaction.dto.req.TransactionBatchRequestDto;
 import com.joa.openapi.transaction.dto.req.TransactionDeleteRequestDto;
 import com.joa.openapi.transaction.dto.req.TransactionRequestDto;
 import com.joa.openapi.transaction.dto.req.TransactionSearchRequestDto;
 import com.joa.openapi.transaction.dto.req.TransactionUpdateRequestDto;
 import com.joa.openapi.transaction.dto.res.Transaction1wonResponseDto;
+import com.joa.openapi.transaction.dto.res.TransactionBatchResponseDto;
+import com.joa.openapi.transaction.dto.res.TransactionCursorPageDto;
 import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
 import com.joa.openapi.transaction.dto.res.TransactionSearchResponseDto;
 import com.joa.openapi.transaction.dto.res.TransactionUpdateResponseDto;
+import com.joa.openapi.transaction.enums.TransactionBatchMode;
+import com.joa.openapi.transaction.enums.TransactionExportFormat;
 import com.joa.openapi.transaction.enums.TransactionOrderBy;
 import com.joa.openapi.transaction.enums.TransactionSearchType;
 import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
+import com.joa.openapi.transaction.service.AccountConcurrencyControl;
+import com.joa.openapi.transaction.service.OneWonVerificationService;
+import com.joa.openapi.transaction.service.TransactionBatchService;
+import com.joa.openapi.transaction.service.TransactionExportService;
 import com.joa.openapi.transaction.service.TransactionService;
+import jakarta.servlet.http.HttpServletResponse;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -36,6 +49,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @RestController
 @RequestMapping("/v1/transaction")
@@ -43,35 +57,47 @@ import org.springframework.web.bind.annotation.RestController;
 public class TransactionController {
 
     private final TransactionService transactionService;
-    private final ApiRepository apiRepository;
+    private final ApiKeyCache apiKeyCache;
+    private final AccountConcurrencyControl accountConcurrencyControl;
+    private final TransactionBatchService transactionBatchService;
+    private final TransactionExportService transactionExportService;
+    private final OneWonVerificationService oneWonVerificationService;
 
     @PostMapping("/deposit")
     public ResponseEntity<?> deposit(@RequestHeader("apiKey") UUID apiKey, @RequestBody TransactionRequestDto req) {
-        TransactionResponseDto response = transactionService.deposit(apiKey, req);
+        TransactionResponseDto response = accountConcurrencyControl.execute(() -> transactionService.deposit(apiKey, req));
         return ResponseEntity.ok(ApiResponse.success("계좌 입금에 성공했습니다.", response));
     }
 
     @PostMapping("/withdraw")
     public ResponseEntity<?> withdraw(@RequestHeader("apiKey") UUID apiKey, @RequestBody TransactionRequestDto req) {
-        TransactionResponseDto response = transactionService.withdraw(apiKey, req);
+        TransactionResponseDto response = accountConcurrencyControl.execute(() -> transactionService.withdraw(apiKey, req));
         return ResponseEntity.ok(ApiResponse.success("계좌 출금에 성공했습니다.", response));
     }
 
     @PostMapping("/send")
     public ResponseEntity<?> send(@RequestHeader("apiKey") UUID apiKey, @RequestBody TransactionRequestDto req) {
-        TransactionResponseDto response = transactionService.send(apiKey, req);
+        TransactionResponseDto response = accountConcurrencyControl.execute(() -> transactionService.send(apiKey, req));
         return ResponseEntity.ok(ApiResponse.success("계좌 이체에 성공했습니다.", response));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<?> batch(@RequestHeader("apiKey") UUID apiKey, @RequestBody TransactionBatchRequestDto req) {
+        TransactionBatchResponseDto response = transactionBatchService.batch(apiKey, req);
+        if (response.getMode() == TransactionBatchMode.ATOMIC && response.getFailed() > 0)
+            return ResponseEntity.ok(ApiResponse.success("일괄 거래가 취소되었습니다.", response));
+        return ResponseEntity.ok(ApiResponse.success("일괄 거래 처리에 성공했습니다.", response));
+    }
+
     @PostMapping("/1wonSend")
     public ResponseEntity<?> oneSend(@RequestHeader("apiKey") UUID apiKey, @RequestBody Transaction1wonRequestDto req) {
-        Transaction1wonResponseDto res = transactionService.oneSend(apiKey, req);
+        Transaction1wonResponseDto res = oneWonVerificationService.send(apiKey, req);
         return ResponseEntity.ok(ApiResponse.success("1원 인증 4글자 전송에 성공했습니다.", res));
     }
 
     @PostMapping("/1wonConfirm")
     public ResponseEntity<?> oneSendConfirm(@RequestBody Transaction1wonConfirmRequestDto req) {
-        transactionService.oneSendConfirm(req);
+        oneWonVerificationService.confirm(req);
         return ResponseEntity.ok(ApiResponse.success("1원 인증 4글자 확인에 성공했습니다."));
     }
 
@@ -92,12 +118,72 @@ public class TransactionController {
         @RequestParam Map<String, String> allParams,
         @PageableDefault Pageable pageable) {
 
+        validateApiKey(apiKey);
+        TransactionSearchRequestDto req = toSearchRequest(apiKey, allParams);
+
+        // cursor 파라미터가 있으면 키셋 페이지네이션 (첫 페이지는 cursor=), 없으면 기존 offset 페이지네이션
+        if (allParams.containsKey("cursor")) {
+            boolean withCount = Boolean.parseBoolean(allParams.get("withCount"));
+            TransactionCursorPageDto cursorPage = transactionService.searchByCursor(req, allParams.get("cursor"), pageable.getPageSize(), withCount);
+            return ResponseEntity.ok(ApiResponse.success("거래내역 조회에 성공했습니다.", cursorPage));
+        }
+
+        Page<TransactionSearchResponseDto> transactionsPage = transactionService.search(req, pageable);
+        return ResponseEntity.ok(ApiResponse.success("거래내역 조회에 성공했습니다.", transactionsPage));
+    }
+
+    // 거래내역 전체 내보내기, 검색과 같은 조건으로 페이지 없이 끝까지 스트리밍 (format=ndjson|csv)
+    // 응답 시간 제한은 이 요청에만 transaction.export.timeout (다른 비동기 요청은 서블릿 컨테이너 기본값)
+    @GetMapping("/export")
+    public WebAsyncTask<Void> export(@RequestHeader(value="apiKey", required=false) UUID apiKey,
+        @RequestParam Map<String, String> allParams, HttpServletResponse response) {
+
+        validateApiKey(apiKey);
+        TransactionSearchRequestDto req = toSearchRequest(apiKey, allParams);
+        TransactionExportFormat format = TransactionExportFormat.from(allParams.get("format"));
+
+        // 동시에 내보낼 수 있는 수를 넘으면 여기서 거절, 자리는 내보내기가 끝나거나 시작하지 못하고 끝나면 반납
+        transactionExportService.acquire();
+        String filename = "transactions-" + LocalDate.now() + "." + format.getExtension();
+        response.setContentType(format.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+
+        AtomicBoolean started = new AtomicBoolean();
+        WebAsyncTask<Void> task = new WebAsyncTask<>(transactionExportService.getTimeout().toMillis(), () -> {
+            if (!started.compareAndSet(false, true)) return null;
+            try {
+                transactionExportService.export(req, format, response.getOutputStream());
+                return null;
+            } finally {
+                transactionExportService.release();
+            }
+        });
+        task.onCompletion(() -> {
+            if (started.compareAndSet(false, true)) transactionExportService.release();
+        });
+        return task;
+    }
+
+    // 거래내역 상세 조회
+    @GetMapping("/{transactionId}")
+    public ResponseEntity<?> search(@RequestHeader(value="apiKey", required=false) UUID apiKey,
+        @PathVariable(value="transactionId") UUID transactionId) {
+
+        validateApiKey(apiKey);
+        TransactionSearchResponseDto response = transactionService.getDetail(apiKey, transactionId);
+        return ResponseEntity.ok(ApiResponse.success("거래내역 상세 조회에 성공했습니다.", response));
+    }
+
+    private void validateApiKey(UUID apiKey) {
         if(apiKey == null || apiKey.toString().isEmpty()) {
             throw new RestApiException(TransactionErrorCode.NO_APIKEY);
-        } else if(apiRepository.getByApiKey(apiKey) == null) {
+        } else if(apiKeyCache.findAdminId(apiKey).isEmpty()) {
             throw new RestApiException(TransactionErrorCode.INVALID_API_KEY);
         }
+    }
 
+    // 검색, 내보내기 공통 조건
+    private TransactionSearchRequestDto toSearchRequest(UUID apiKey, Map<String, String> allParams) {
         // 은행별
         UUID bankId = Optional.ofNullable(allParams.get("bankId"))
             .map(UUID::fromString)
@@ -151,7 +237,7 @@ public class TransactionController {
             .orElse(TransactionOrderBy.LATEST);
 
         // DTO 구성
-        TransactionSearchRequestDto req = TransactionSearchRequestDto.builder()
+        return TransactionSearchRequestDto.builder()
             .apiKey(apiKey)
             .bankId(bankId)
             .isDummy(Boolean.TRUE.equals(isDummy))
@@ -165,23 +251,5 @@ public class TransactionController {
             .searchType(searchType)
             .orderBy(orderBy)
             .build();
-
-        Page<TransactionSearchResponseDto> transactionsPage = transactionService.search(req, pageable);
-        return ResponseEntity.ok(ApiResponse.success("거래내역 조회에 성공했습니다.", transactionsPage));
-    }
-
-    // 거래내역 상세 조회
-    @GetMapping("/{transactionId}")
-    public ResponseEntity<?> search(@RequestHeader(value="apiKey", required=false) UUID apiKey,
-        @PathVariable(value="transactionId") UUID transactionId) {
-
-        if(apiKey == null || apiKey.toString().isEmpty()) {
-            throw new RestApiException(TransactionErrorCode.NO_APIKEY);
-        } else if(apiRepository.getByApiKey(apiKey) == null) {
-            throw new RestApiException(TransactionErrorCode.INVALID_API_KEY);
-        }
-
-        TransactionSearchResponseDto response = transactionService.getDetail(apiKey, transactionId);
-        return ResponseEntity.ok(ApiResponse.success("거래내역 상세 조회에 성공했습니다.", response));
     }
 }
\ No newline at end of file
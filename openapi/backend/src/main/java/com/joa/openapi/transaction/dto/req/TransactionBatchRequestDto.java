@@ -0,0 +1,18 @@
+package com.joa.openapi.transaction.dto.req;
+
+import com.joa.openapi.transaction.enums.TransactionBatchMode;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchRequestDto {
+
+    private TransactionBatchMode mode;                  //기본값 ATOMIC
+    private List<TransactionRequestDto> transactions;   //입금계좌만 있으면 입금, 출금계좌만 있으면 출금, 둘 다 있으면 이체
+}
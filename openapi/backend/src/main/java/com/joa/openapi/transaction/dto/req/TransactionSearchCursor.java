@@ -0,0 +1,31 @@
+package com.joa.openapi.transaction.dto.req;
+
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+// 거래내역 검색 커서, 마지막으로 받은 거래의 (createdAt, id)를 클라이언트에는 불투명한 문자열로 전달
+public record TransactionSearchCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 문자열이면 첫 페이지
+    public static TransactionSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            return new TransactionSearchCursor(LocalDateTime.parse(decoded.substring(0, delimiter)), UUID.fromString(decoded.substring(delimiter + 1)));
+        } catch (RuntimeException e) {
+            throw new RestApiException(TransactionErrorCode.INVALID_CURSOR);
+        }
+    }
+}
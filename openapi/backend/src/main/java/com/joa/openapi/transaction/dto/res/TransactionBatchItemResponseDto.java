@@ -0,0 +1,37 @@
+package com.joa.openapi.transaction.dto.res;
+
+import com.joa.openapi.common.errorcode.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchItemResponseDto {
+
+    private Integer index;      //요청 목록에서의 순서
+    private Boolean success;
+    private String errorCode;
+    private String message;
+    private TransactionResponseDto transaction;
+
+    public static TransactionBatchItemResponseDto toSuccessDto(int index, TransactionResponseDto transaction) {
+        return TransactionBatchItemResponseDto.builder()
+                .index(index)
+                .success(true)
+                .transaction(transaction)
+                .build();
+    }
+
+    public static TransactionBatchItemResponseDto toFailDto(int index, ErrorCode errorCode) {
+        return TransactionBatchItemResponseDto.builder()
+                .index(index)
+                .success(false)
+                .errorCode(errorCode.name())
+                .message(errorCode.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.joa.openapi.transaction.dto.res;
+
+import com.joa.openapi.transaction.enums.TransactionBatchMode;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchResponseDto {
+
+    private TransactionBatchMode mode;
+    private Integer total;
+    private Integer succeeded;
+    private Integer failed;
+    private List<TransactionBatchItemResponseDto> results;
+
+    public static TransactionBatchResponseDto toDto(TransactionBatchMode mode, List<TransactionBatchItemResponseDto> results) {
+        int succeeded = (int) results.stream().filter(TransactionBatchItemResponseDto::getSuccess).count();
+        return TransactionBatchResponseDto.builder()
+                .mode(mode)
+                .total(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.joa.openapi.transaction.dto.res;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionCursorPageDto {
+
+    private List<TransactionSearchResponseDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;      //다음 페이지 요청 시 cursor 값, 마지막 페이지면 null
+    private Long totalElements;     //withCount=true일 때만
+}
@@ -0,0 +1,43 @@
+package com.joa.openapi.transaction.dto.res;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.joa.openapi.transaction.entity.Transaction;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 거래내역 내보내기 한 행, 감사용이라 은행 id와 초 단위 시각까지 포함
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionExportDto {
+
+    private UUID transactionId;
+    private Long amount;
+    private String depositorName;
+    private String fromAccount;
+    private UUID fromBankId;
+    private String toAccount;
+    private UUID toBankId;
+    private UUID dummyId;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    public static TransactionExportDto toDto(Transaction transaction) {
+        return TransactionExportDto.builder()
+                .transactionId(transaction.getId())
+                .amount(transaction.getAmount())
+                .depositorName(transaction.getDepositorName())
+                .fromAccount(transaction.getFromAccount())
+                .fromBankId(transaction.getFromBankId())
+                .toAccount(transaction.getToAccount())
+                .toBankId(transaction.getToBankId())
+                .dummyId(transaction.getDummy() == null ? null : transaction.getDummy().getId())
+                .createdAt(transaction.getCreatedAt())
+                .build();
+    }
+}
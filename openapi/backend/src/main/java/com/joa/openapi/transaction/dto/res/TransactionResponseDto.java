@@ -25,6 +25,8 @@ public class TransactionResponseDto {
     private String toAccount;       //출금계좌
     private Long toPrevBalance;     //입금전
     private Long toBalance;         //입금후
+    private UUID fromBankId;
+    private UUID toBankId;
     private UUID dummyId;
 
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
@@ -38,9 +40,11 @@ public class TransactionResponseDto {
                 .amount(transaction.getAmount())
                 .depositorName(transaction.getDepositorName())
                 .fromAccount(transaction.getFromAccount())
+                .fromBankId(transaction.getFromBankId())
                 .fromPrevBalance(fromPrevBalance)
                 .fromBalance(fromBalance)
                 .toAccount(transaction.getToAccount())
+                .toBankId(transaction.getToBankId())
                 .toPrevBalance(toPrevBalance)
                 .toBalance(toBalance)
                 .dummyId(transaction.getDummy() == null ? null : transaction.getDummy().getId())
@@ -55,6 +59,7 @@ public class TransactionResponseDto {
                 .amount(transaction.getAmount())
                 .depositorName(transaction.getDepositorName())
                 .toAccount(transaction.getToAccount())
+                .toBankId(transaction.getToBankId())
                 .toPrevBalance(toPrevBalance)
                 .toBalance(balance)
                 .dummyId(transaction.getDummy() == null ? null : transaction.getDummy().getId())
@@ -69,6 +74,7 @@ public class TransactionResponseDto {
                 .amount(transaction.getAmount())
                 .depositorName(transaction.getDepositorName())
                 .fromAccount(transaction.getFromAccount())
+                .fromBankId(transaction.getFromBankId())
                 .fromPrevBalance(fromPrevBalance)
                 .fromBalance(balance)
                 .dummyId(transaction.getDummy() == null ? null : transaction.getDummy().getId())
@@ -29,6 +29,9 @@ public class Transaction extends BaseEntity {
     private String depositorName;   //입금자명
     private String fromAccount;            //입금계좌
     private String toAccount;              //출금계좌
+    // 계좌의 은행, 은행 단위 조회에서 account를 조인하지 않도록 거래 생성 시 함께 저장
+    private UUID fromBankId;
+    private UUID toBankId;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "dummy_id")
@@ -42,11 +45,13 @@ public class Transaction extends BaseEntity {
         this.depositorName = name;
     }
 
-    public void updateFromAccount(String fromAccount) {
+    public void updateFromAccount(String fromAccount, UUID fromBankId) {
         this.fromAccount = fromAccount;
+        this.fromBankId = fromBankId;
     }
 
-    public void updateToAccount(String toAccount) {
+    public void updateToAccount(String toAccount, UUID toBankId) {
         this.toAccount = toAccount;
+        this.toBankId = toBankId;
     }
 }
\ No newline at end of file
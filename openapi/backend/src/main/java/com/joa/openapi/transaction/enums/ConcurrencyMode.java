@@ -0,0 +1,5 @@
+package com.joa.openapi.transaction.enums;
+
+public enum ConcurrencyMode {
+    ATOMIC, OPTIMISTIC, PESSIMISTIC //조건부 UPDATE 한 번, @Version 충돌 시 재시도, SELECT ... FOR UPDATE
+}
@@ -0,0 +1,5 @@
+package com.joa.openapi.transaction.enums;
+
+public enum OneWonConfirmResult {
+    MATCHED, MISMATCH, EXPIRED, LOCKED //일치(인증 제거), 불일치, 만료되었거나 없음, 시도 횟수 초과(인증 제거)
+}
@@ -0,0 +1,5 @@
+package com.joa.openapi.transaction.enums;
+
+public enum TransactionBatchMode {
+    ATOMIC, BEST_EFFORT //하나라도 실패하면 전체 취소, 실패한 거래만 제외하고 반영
+}
@@ -0,0 +1,26 @@
+package com.joa.openapi.transaction.enums;
+
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum TransactionExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    // format 파라미터, 없으면 NDJSON (대소문자 무시)
+    public static TransactionExportFormat from(String format) {
+        if (format == null) return NDJSON;
+        for (TransactionExportFormat value : values()) {
+            if (value.name().equalsIgnoreCase(format)) return value;
+        }
+        throw new RestApiException(TransactionErrorCode.INVALID_EXPORT_FORMAT);
+    }
+}
@@ -13,10 +13,20 @@ public enum TransactionErrorCode implements ErrorCode {
     NO_AMOUNT(HttpStatus.BAD_REQUEST, "거래 금액이 없습니다."),
     NO_REFUND(HttpStatus.BAD_REQUEST, "입금했던 계좌에 잔액이 없어서 환불할 수 없습니다."),
     MiSMATCH(HttpStatus.BAD_REQUEST, "1원 인증 4글자가 불일치 합니다."),
+    ONE_WON_EXPIRED(HttpStatus.BAD_REQUEST, "1원 인증이 만료되었거나 존재하지 않습니다. 다시 요청해주세요."),
+    ONE_WON_TOO_MANY_ATTEMPTS(HttpStatus.BAD_REQUEST, "1원 인증 확인 횟수를 초과했습니다. 다시 요청해주세요."),
     NO_TRANSACTION(HttpStatus.BAD_REQUEST, "해당 거래내역은 존재하지 않습니다."),
     NO_APIKEY(HttpStatus.BAD_REQUEST, "API Key가 존재하지 않습니다."),
     NO_ACCOUNTID(HttpStatus.BAD_REQUEST, "계좌번호가 존재하지 않습니다."),
-    INVALID_API_KEY(HttpStatus.BAD_REQUEST, "API Key가 유효하지 않습니다.");
+    INVALID_API_KEY(HttpStatus.BAD_REQUEST, "API Key가 유효하지 않습니다."),
+    CONFLICT(HttpStatus.CONFLICT, "동시에 같은 계좌의 거래가 처리되고 있습니다. 다시 시도해주세요."),
+    NO_BATCH_ITEM(HttpStatus.BAD_REQUEST, "일괄 처리할 거래가 없습니다."),
+    BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "한 번에 처리할 수 있는 거래 수를 초과했습니다."),
+    BATCH_CANCELLED(HttpStatus.BAD_REQUEST, "같은 요청의 다른 거래가 실패해서 취소되었습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "커서 값이 올바르지 않습니다."),
+    CURSOR_NOT_SUPPORTED_ORDER(HttpStatus.BAD_REQUEST, "커서 조회는 최신순, 과거순 정렬만 지원합니다."),
+    INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "내보내기 형식은 ndjson, csv만 지원합니다."),
+    EXPORT_BUSY(HttpStatus.TOO_MANY_REQUESTS, "진행 중인 거래내역 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -0,0 +1,120 @@
+package com.joa.openapi.transaction.repository;
+
+import static com.joa.openapi.common.util.UuidBytes.toBytes;
+
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 대량 거래 반영용 JDBC batch, 현재 JPA 트랜잭션의 커넥션을 그대로 사용
+@Repository
+@RequiredArgsConstructor
+public class TransactionBulkRepository {
+
+    private static final String INSERT_TRANSACTION = "INSERT INTO transaction "
+            + "(id, amount, depositor_name, from_account, to_account, from_bank_id, to_bank_id, dummy_id, created_at, updated_at, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String ADD_BALANCE = "UPDATE account SET balance = balance + ?, version = version + 1, updated_at = ? "
+            + "WHERE id = ? AND is_deleted = 0";
+    private static final String ADD_BALANCE_IF_SUFFICIENT = ADD_BALANCE + " AND balance + ? >= 0";
+    private static final String FIND_MISSING_BANK_ID = "SELECT id FROM transaction "
+            + "WHERE id > ? AND ((from_account IS NOT NULL AND from_bank_id IS NULL) OR (to_account IS NOT NULL AND to_bank_id IS NULL)) "
+            + "ORDER BY id LIMIT ?";
+    private static final String FILL_BANK_ID = "UPDATE transaction t SET "
+            + "from_bank_id = COALESCE(t.from_bank_id, (SELECT a.bank_id FROM account a WHERE a.id = t.from_account)), "
+            + "to_bank_id = COALESCE(t.to_bank_id, (SELECT a.bank_id FROM account a WHERE a.id = t.to_account)) "
+            + "WHERE t.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<TransactionResponseDto> transactions) {
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                TransactionResponseDto transaction = transactions.get(i);
+                ps.setBytes(1, toBytes(transaction.getTransactionId()));
+                ps.setLong(2, transaction.getAmount());
+                ps.setString(3, transaction.getDepositorName());
+                ps.setString(4, transaction.getFromAccount());
+                ps.setString(5, transaction.getToAccount());
+                ps.setBytes(6, toBytes(transaction.getFromBankId()));
+                ps.setBytes(7, toBytes(transaction.getToBankId()));
+                ps.setBytes(8, toBytes(transaction.getDummyId()));
+                ps.setTimestamp(9, Timestamp.valueOf(transaction.getCreatedAt()));
+                ps.setTimestamp(10, Timestamp.valueOf(transaction.getUpdatedAt()));
+                ps.setBoolean(11, false);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return transactions.size();
+            }
+        });
+    }
+
+    // 계좌별로 합산된 변동액을 계좌번호 순서대로 반영
+    public int[] addBalances(Map<String, Long> deltas, LocalDateTime now) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(deltas.entrySet());
+        return jdbcTemplate.batchUpdate(ADD_BALANCE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, entries.get(i).getValue());
+                ps.setTimestamp(2, Timestamp.valueOf(now));
+                ps.setString(3, entries.get(i).getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    // 잠금 없이 반영할 때 사용, 잔액이 음수가 되는 계좌는 0건으로 반환
+    public int[] addBalancesIfSufficient(Map<String, Long> deltas, LocalDateTime now) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(deltas.entrySet());
+        return jdbcTemplate.batchUpdate(ADD_BALANCE_IF_SUFFICIENT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, entries.get(i).getValue());
+                ps.setTimestamp(2, Timestamp.valueOf(now));
+                ps.setString(3, entries.get(i).getKey());
+                ps.setLong(4, entries.get(i).getValue());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    // 은행 id가 비어있는 거래를 id 순으로 limit개, after 다음부터 (PK 범위로 훑으므로 청크마다 앞에서부터 다시 읽지 않음)
+    public List<byte[]> findIdsMissingBankId(byte[] after, int limit) {
+        return jdbcTemplate.queryForList(FIND_MISSING_BANK_ID, byte[].class, after, limit);
+    }
+
+    // 계좌의 은행으로 채움, 한 행씩 PK로 갱신해서 청크에 포함된 행만 잠금 (삭제된 계좌도 은행은 그대로 사용)
+    public void fillBankIds(List<byte[]> ids) {
+        jdbcTemplate.batchUpdate(FILL_BANK_ID, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setBytes(1, ids.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+    }
+}
@@ -1,21 +1,25 @@
 package com.joa.openapi.transaction.repository;
 
+import com.joa.openapi.transaction.dto.req.TransactionSearchCursor;
 import com.joa.openapi.transaction.dto.req.TransactionSearchRequestDto;
-import com.joa.openapi.transaction.dto.res.DayMoneyFlow;
+import com.joa.openapi.transaction.dto.res.TransactionCursorPageDto;
 import com.joa.openapi.transaction.dto.res.TransactionSearchResponseDto;
+import com.joa.openapi.transaction.entity.Transaction;
 import com.querydsl.core.Tuple;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface TransactionRepositoryCustom {
 
     Page<TransactionSearchResponseDto> searchTransactionCustom(
         TransactionSearchRequestDto req, Pageable pageable);
-    Long searchBanksTotalTransactionCustom(UUID bankId);
-    Long searchBanksTotalWithdrawCustom(UUID bankId);
-    Long searchBanksTotalDepositCustom(UUID bankId);
-    List<DayMoneyFlow> searchBanksWeekTransactionCustom(UUID bankId);
+    TransactionCursorPageDto searchTransactionCursorCustom(
+        TransactionSearchRequestDto req, TransactionSearchCursor cursor, int size, boolean withCount);
+    long exportTransactionCustom(
+        EntityManager exportEntityManager, TransactionSearchRequestDto req, int fetchSize, Consumer<Transaction> consumer);
 }
@@ -1,37 +1,41 @@
 package com.joa.openapi.transaction.repository;
 
 import static com.joa.openapi.account.entity.QAccount.account;
-import static com.joa.openapi.bank.entity.QBank.bank;
 import static com.joa.openapi.transaction.entity.QTransaction.transaction;
 
 import com.joa.openapi.common.exception.RestApiException;
-import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.cache.ApiKeyCache;
+import com.joa.openapi.transaction.dto.req.TransactionSearchCursor;
 import com.joa.openapi.transaction.dto.req.TransactionSearchRequestDto;
-import com.joa.openapi.transaction.dto.res.DayMoneyFlow;
+import com.joa.openapi.transaction.dto.res.TransactionCursorPageDto;
 import com.joa.openapi.transaction.dto.res.TransactionSearchResponseDto;
 import com.joa.openapi.transaction.entity.Transaction;
 import com.joa.openapi.transaction.enums.TransactionOrderBy;
 import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
+import com.joa.openapi.transaction.service.TransactionBankIdBackfill;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -42,56 +46,180 @@ import org.springframework.stereotype.Repository;
 @Slf4j
 public class TransactionRepositoryCustomImpl implements TransactionRepositoryCustom {
 
-    @PersistenceContext
-    private EntityManager entityManager;
     private final JPAQueryFactory jpaQueryFactory; // JPA 쿼리를 생성하고 실행하는데 사용
-    private final ApiRepository apiRepository;
+    private final ApiKeyCache apiKeyCache;
+    private final TransactionBankIdBackfill transactionBankIdBackfill;
 
     @Override
     public Page<TransactionSearchResponseDto> searchTransactionCustom(
         TransactionSearchRequestDto req, Pageable pageable) {
 
-        BooleanBuilder condition = new BooleanBuilder();
+        List<UUID> bankIds = searchBankIds(req);
+        if (bankIds.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
+        BooleanBuilder condition = searchCondition(req);
 
-        // API Key 확인 & bankId 조건 처리
-        UUID apiKey = req.getApiKey();
-        List<UUID> adminBankIds = getBankIdsByApiKey(apiKey);
-        UUID bankId = req.getBankId();
+        // 정렬 조건 적용 orderBy (생성일시 내림차순 다음), 페이지가 바뀌어도 순서가 같도록 마지막은 id
+        OrderSpecifier<?> orderSpecifier = eqOrderBy(req.getOrderBy());
+        OrderSpecifier<?>[] orders = orderSpecifier == null
+            ? new OrderSpecifier<?>[]{transaction.createdAt.desc(), transaction.id.desc()}
+            : new OrderSpecifier<?>[]{transaction.createdAt.desc(), orderSpecifier, transaction.id.desc()};
+
+        // 은행 조건마다 offset + size개까지 읽어서 합친 뒤 페이지만큼 자름
+        List<BooleanExpression> legs = bankLegs(bankIds);
+        long total = 0;
+        List<Transaction> transactions = new ArrayList<>();
+        for (BooleanExpression leg : legs) {
+            BooleanBuilder where = new BooleanBuilder(condition).and(leg);
+            total += jpaQueryFactory.select(transaction.count()).from(transaction).where(where).fetchOne();
+            JPAQuery<Transaction> query = jpaQueryFactory
+                .selectFrom(transaction)
+                .where(where)
+                .orderBy(orders);
+            // 페이지네이션 적용
+            transactions.addAll(legs.size() == 1
+                ? query.offset(pageable.getOffset()).limit(pageable.getPageSize()).fetch()
+                : query.limit(pageable.getOffset() + pageable.getPageSize()).fetch());
+        }
+        if (legs.size() > 1) {
+            transactions = transactions.stream()
+                .sorted(searchOrder(req.getOrderBy()))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        }
 
-        if (bankId == null) {
-            // bankId선택 안했는데, admin의 은행들이 여러개인 경우
-            if (!adminBankIds.isEmpty()) {
-                List<String> accountIds = jpaQueryFactory.select(account.id)
-                    .from(account)
-                    .where(account.bankId.in(adminBankIds))
-                    .orderBy(account.createdAt.desc())
-                    .fetch();
-
-                // 은행의 계좌가 하나라도 있을 때
-                if (!accountIds.isEmpty()) {
-                    condition.and(transaction.fromAccount.in(accountIds)
-                        .or(transaction.toAccount.in(accountIds)));
-                }
+        // DTO 변환
+        List<TransactionSearchResponseDto> res = transactions.stream()
+            .map(TransactionSearchResponseDto::toDto)
+            .collect(Collectors.toList());
+
+        return new PageImpl<>(res, pageable, total);
+    }
 
-            } else {
-                // adminBankIds가 비어있는 경우, 즉 admin에 할당된 은행이 없을 때
-                return new PageImpl<>(Collections.emptyList(), pageable, 0); // 비어있는 결과 반환
+    // 키셋 페이지네이션, (createdAt, id) 순으로 정렬해서 커서 다음 행부터 size개만 읽음 (offset, count 없음)
+    @Override
+    public TransactionCursorPageDto searchTransactionCursorCustom(
+        TransactionSearchRequestDto req, TransactionSearchCursor cursor, int size, boolean withCount) {
+
+        List<UUID> bankIds = searchBankIds(req);
+        if (bankIds.isEmpty()) {
+            return TransactionCursorPageDto.builder()
+                .content(Collections.emptyList())
+                .size(size)
+                .totalElements(withCount ? 0L : null)
+                .build();
+        }
+        BooleanBuilder condition = searchCondition(req);
+        List<BooleanExpression> legs = bankLegs(bankIds);
+
+        // 전체 개수는 요청할 때만, 커서 조건을 붙이기 전에 계산
+        Long total = null;
+        if (withCount) {
+            total = 0L;
+            for (BooleanExpression leg : legs) {
+                total += jpaQueryFactory.select(transaction.count()).from(transaction).where(new BooleanBuilder(condition).and(leg)).fetchOne();
             }
+        }
 
-        } else {
-            if (adminBankIds.contains(bankId)) {
-                List<String> accountIds = jpaQueryFactory.select(account.id)
-                    .from(account)
-                    .where(account.bankId.eq(bankId))
-                    .orderBy(account.createdAt.desc())
-                    .fetch();
-
-                if (!accountIds.isEmpty()) {
-                    condition.and(transaction.fromAccount.in(accountIds)
-                        .or(transaction.toAccount.in(accountIds)));
+        boolean oldest = req.getOrderBy() == TransactionOrderBy.OLDEST;
+        if (cursor != null) {
+            condition.and(oldest ? afterCursor(cursor) : beforeCursor(cursor));
+        }
+
+        // 은행 조건마다 커서 다음 size + 1개(다음 페이지가 있는지 확인용으로 1개 더)를 읽어서 합침
+        Comparator<Transaction> cursorOrder = Comparator.comparing(Transaction::getCreatedAt)
+            .thenComparing(Transaction::getId, TransactionRepositoryCustomImpl::compareIds);
+        List<Transaction> transactions = new ArrayList<>();
+        for (BooleanExpression leg : legs) {
+            transactions.addAll(jpaQueryFactory
+                .selectFrom(transaction)
+                .where(new BooleanBuilder(condition).and(leg))
+                .orderBy(oldest ? transaction.createdAt.asc() : transaction.createdAt.desc(),
+                    oldest ? transaction.id.asc() : transaction.id.desc())
+                .limit(size + 1)
+                .fetch());
+        }
+        if (legs.size() > 1) {
+            transactions = transactions.stream()
+                .sorted(oldest ? cursorOrder : cursorOrder.reversed())
+                .limit(size + 1)
+                .toList();
+        }
+
+        boolean hasNext = transactions.size() > size;
+        if (hasNext) {
+            transactions = transactions.subList(0, size);
+        }
+        Transaction last = transactions.isEmpty() ? null : transactions.get(transactions.size() - 1);
+
+        return TransactionCursorPageDto.builder()
+            .content(transactions.stream().map(TransactionSearchResponseDto::toDto).toList())
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(hasNext ? new TransactionSearchCursor(last.getCreatedAt(), last.getId()).encode() : null)
+            .totalElements(total)
+            .build();
+    }
+
+    // 내보내기, 조건에 맞는 거래를 앞으로만 가는 커서로 끝까지 읽어서 한 건씩 넘김
+    // fetchSize 단위로 DB에서 가져오고, 읽은 엔티티는 fetchSize마다 영속성 컨텍스트에서 비워서 행 수와 상관없이 메모리 일정
+    // exportEntityManager는 내보내기 전용 커넥션(서버 커서)에 묶인 세션, 조회와 영속성 컨텍스트 비우기 모두 그 세션에서
+    @Override
+    @SuppressWarnings("unchecked")
+    public long exportTransactionCustom(
+        EntityManager exportEntityManager, TransactionSearchRequestDto req, int fetchSize, Consumer<Transaction> consumer) {
+
+        List<UUID> bankIds = searchBankIds(req);
+        if (bankIds.isEmpty()) {
+            return 0;
+        }
+        BooleanBuilder condition = searchCondition(req).and(inBanks(bankIds));
+
+        OrderSpecifier<?> orderSpecifier = eqOrderBy(req.getOrderBy());
+        if (orderSpecifier == null) {
+            orderSpecifier = transaction.createdAt.desc();
+        }
+        Query<Transaction> query = new JPAQueryFactory(exportEntityManager)
+            .selectFrom(transaction)
+            .where(condition)
+            .orderBy(orderSpecifier, transaction.id.asc())
+            .createQuery()
+            .unwrap(Query.class);
+
+        long count = 0;
+        try (ScrollableResults<Transaction> rows = query
+            .setFetchSize(fetchSize)
+            .setReadOnly(true)
+            .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                consumer.accept(rows.get());
+                if (++count % fetchSize == 0) {
+                    exportEntityManager.clear();
                 }
             }
         }
+        return count;
+    }
+
+    // 검색할 은행, 관리자에게 할당된 은행이 없거나 다른 관리자의 은행이면 빈 목록
+    private List<UUID> searchBankIds(TransactionSearchRequestDto req) {
+        // API Key 확인 & bankId 조건 처리
+        List<UUID> adminBankIds = apiKeyCache.getBankIdsByApiKey(req.getApiKey());
+        UUID bankId = req.getBankId();
+
+        if (bankId == null) {
+            // bankId선택 안했으면 admin의 모든 은행
+            return adminBankIds;
+        }
+        // 다른 관리자의 은행
+        return adminBankIds.contains(bankId) ? List.of(bankId) : List.of();
+    }
+
+    // 은행을 뺀 검색 조건
+    private BooleanBuilder searchCondition(TransactionSearchRequestDto req) {
+        BooleanBuilder condition = new BooleanBuilder();
 
         // isDummy 조건 처리
         Boolean isDummy = req.isDummy();
@@ -142,104 +270,41 @@ public class TransactionRepositoryCustomImpl implements TransactionRepositoryCus
             condition.and(searchTypeCondition);
         }
 
-        // 쿼리 설정
-        JPAQuery<Transaction> query = jpaQueryFactory
-            .selectFrom(transaction)
-            .where(condition)
-            .orderBy(transaction.createdAt.desc());
-
-        // 정렬 조건 적용 orderBy
-        OrderSpecifier<?> orderSpecifier = eqOrderBy(req.getOrderBy());
-        if (orderSpecifier != null) {
-            query = query.orderBy(orderSpecifier);
-        }
-
-        long total = query.fetchCount();
-
-        // 페이지네이션 적용
-        List<Transaction> transactions = query
-            .offset(pageable.getOffset())   // 반환되는 행의 시작점
-            .limit(pageable.getPageSize())  // 반환되는 행의 수
-            .fetch();
-
-        // DTO 변환
-        List<TransactionSearchResponseDto> res = transactions.stream()
-            .map(TransactionSearchResponseDto::toDto)
-            .collect(Collectors.toList());
-
-        return new PageImpl<>(res, pageable, total);
+        return condition;
     }
 
-    @Override
-    public Long searchBanksTotalTransactionCustom(UUID bankId) {
-        return jpaQueryFactory
-                .selectFrom(transaction)
-                .distinct()
-                .innerJoin(account).on(transaction.toAccount.eq(account.id).or(transaction.fromAccount.eq(account.id)))
-                .where(account.bankId.eq(bankId))
-                .fetchCount();
+    // 은행 조건을 출금 쪽(from_bank_id)과 입금 쪽(to_bank_id)으로 나눔, 각각 (은행 id, created_at) 인덱스 범위만 읽고 정렬도 인덱스 순서
+    // 둘을 OR로 묶으면 인덱스 하나로 읽을 수 없어서 MySQL은 index merge 후 정렬, H2는 테이블 스캔 (QueryPlanTest)
+    // 은행 안 이체는 출금 쪽에만 포함되도록 입금 쪽에서 제외, 은행 id 채우기가 끝나기 전에는 나누지 않음
+    private List<BooleanExpression> bankLegs(List<UUID> bankIds) {
+        if (!transactionBankIdBackfill.isCompleted()) {
+            return List.of(inBanks(bankIds));
+        }
+        return List.of(transaction.fromBankId.in(bankIds),
+            transaction.toBankId.in(bankIds).and(transaction.fromBankId.isNull().or(transaction.fromBankId.notIn(bankIds))));
     }
 
-    @Override
-    public Long searchBanksTotalWithdrawCustom(UUID bankId) {
-        Long query = jpaQueryFactory
-                .select(transaction.amount.sum())
-                .from(transaction)
-                .distinct()
-                .innerJoin(account).on(transaction.fromAccount.eq(account.id))
-                .where(account.bankId.eq(bankId))
-                .fetchOne();
-        return query == null ? 0 : query;
+    // 은행 계좌에서 출금됐거나 은행 계좌로 입금된 거래, 거래에 저장된 은행 id로 거르므로 account를 조인하지 않고
+    // 은행의 계좌 수와 상관없이 SQL 길이가 일정함 (계좌번호 IN 목록은 MySQL 파라미터 한도 65535개를 넘었음)
+    // 은행 id 채우기(TransactionBankIdBackfill)가 끝나기 전에는 은행 id가 모두 비어 있는 예전 거래만 계좌 서브쿼리로 은행을 확인
+    private BooleanExpression inBanks(List<UUID> bankIds) {
+        BooleanExpression byBankId = transaction.fromBankId.in(bankIds).or(transaction.toBankId.in(bankIds));
+        if (transactionBankIdBackfill.isCompleted()) {
+            return byBankId;
+        }
+        BooleanExpression byAccount = transaction.fromAccount.in(JPAExpressions.select(account.id).from(account).where(account.bankId.in(bankIds)))
+            .or(transaction.toAccount.in(JPAExpressions.select(account.id).from(account).where(account.bankId.in(bankIds))));
+        return byBankId.or(transaction.fromBankId.isNull().and(transaction.toBankId.isNull()).and(byAccount));
     }
 
-    @Override
-    public Long searchBanksTotalDepositCustom(UUID bankId) {
-        Long query = jpaQueryFactory
-                .select(transaction.amount.sum())
-                .from(transaction)
-                .distinct()
-                .innerJoin(account).on(transaction.toAccount.eq(account.id))
-                .where(account.bankId.eq(bankId))
-                .fetchOne();
-        return query == null ? 0 : query;
+    private BooleanExpression beforeCursor(TransactionSearchCursor cursor) {
+        return transaction.createdAt.lt(cursor.createdAt())
+            .or(transaction.createdAt.eq(cursor.createdAt()).and(transaction.id.lt(cursor.id())));
     }
 
-    @Override
-    public List<DayMoneyFlow> searchBanksWeekTransactionCustom(UUID bankId) {
-        List<String> accountIdList = jpaQueryFactory
-                .select(account.id)
-                .from(account)
-                .where(account.bankId.eq(bankId))
-                .fetch();
-
-        return jpaQueryFactory
-                .select(
-                        Expressions.dateTemplate(LocalDate.class, "DATE_FORMAT({0}, '%Y-%m-%d')", transaction.createdAt),
-                        new CaseBuilder()
-                                .when(transaction.toAccount.isNotNull())
-                                .then(transaction.amount)
-                                .otherwise(0L).sum()
-                                .as("deposit"),
-                        new CaseBuilder()
-                                .when(transaction.fromAccount.isNotNull())
-                                .then(transaction.amount)
-                                .otherwise(0L).sum()
-                                .as("withdraw")
-                )
-                .from(transaction)
-                .where(transaction.createdAt.between(LocalDateTime.now().minusWeeks(1), LocalDateTime.now())
-                        .and(transaction.toAccount.in(accountIdList)
-                                .or(transaction.fromAccount.in(accountIdList))))
-                .groupBy(Expressions.dateTemplate(LocalDate.class, "DATE_FORMAT({0}, {1})", transaction.createdAt, "%Y-%m-%d"))
-                .orderBy(Expressions.dateTemplate(LocalDate.class, "DATE_FORMAT({0}, {1})", transaction.createdAt, "%Y-%m-%d").asc())
-                .fetch()
-                .stream()
-                .map(tuple -> new DayMoneyFlow(
-                        tuple.get(0, String.class),
-                        tuple.get(1, Long.class),
-                        tuple.get(2, Long.class)
-                ))
-                .collect(Collectors.toList());
+    private BooleanExpression afterCursor(TransactionSearchCursor cursor) {
+        return transaction.createdAt.gt(cursor.createdAt())
+            .or(transaction.createdAt.eq(cursor.createdAt()).and(transaction.id.gt(cursor.id())));
     }
 
     private BooleanExpression eqSearchDepositorNameKeyword(String depositorNameKeyword) {
@@ -266,6 +331,23 @@ public class TransactionRepositoryCustomImpl implements TransactionRepositoryCus
         };
     }
 
+    // searchTransactionCustom의 ORDER BY(생성일시 내림차순, orderBy, id 내림차순)와 같은 순서, 나눠 읽은 결과를 합칠 때 사용
+    private Comparator<Transaction> searchOrder(TransactionOrderBy orderBy) {
+        Comparator<Transaction> order = Comparator.comparing(Transaction::getCreatedAt).reversed();
+        if (orderBy == TransactionOrderBy.AMOUNT_ASC) {
+            order = order.thenComparing(Transaction::getAmount);
+        } else if (orderBy == TransactionOrderBy.AMOUNT_DESC) {
+            order = order.thenComparing(Transaction::getAmount, Comparator.reverseOrder());
+        }
+        return order.thenComparing(Transaction::getId, (a, b) -> compareIds(b, a));
+    }
+
+    // BINARY(16) 컬럼과 같은 순서 (부호 없는 바이트 비교), UUID.compareTo는 부호 있는 long 비교라 다름
+    private static int compareIds(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
     private OrderSpecifier<?> eqOrderBy(TransactionOrderBy orderBy) {
         if (orderBy == null) {
             return null;
@@ -278,16 +360,4 @@ public class TransactionRepositoryCustomImpl implements TransactionRepositoryCus
         };
     }
 
-    private List<UUID> getBankIdsByApiKey(UUID apiKey) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
-
-        // 관리자 ID를 통해 해당 관리자가 만든 bankId 목록 가져오기
-        List<UUID> bankIds = jpaQueryFactory.select(bank.id)
-            .from(bank)
-            .where(bank.adminId.eq(adminId))
-            .fetch();
-
-        return bankIds;
-    }
-
 }
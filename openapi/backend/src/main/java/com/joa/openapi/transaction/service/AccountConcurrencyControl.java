@@ -0,0 +1,140 @@
+package com.joa.openapi.transaction.service;
+
+import com.joa.openapi.account.dto.AccountBalanceDto;
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.errorcode.AccountErrorCode;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.common.cache.AccountOwnerCache;
+import com.joa.openapi.common.cache.AccountOwnerCache.AccountOwner;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.transaction.enums.ConcurrencyMode;
+import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 잔액 변경 시 계좌 동시성 제어
+ * ATOMIC : 엔티티를 읽지 않고 조건부 UPDATE 한 번으로 반영, 잔액 부족은 영향받은 행 수로 판단
+ *          은행, 예금주는 AccountOwnerCache에서 읽고 DB는 UPDATE와 반영된 잔액 조회(기본 키)만
+ * OPTIMISTIC : Account.version 충돌 시 트랜잭션 전체를 최대 maxAttempts번 재시도
+ * PESSIMISTIC : SELECT ... FOR UPDATE, 이체는 계좌번호 순서로 잠가서 교착 상태 방지
+ */
+@Slf4j
+@Component
+public class AccountConcurrencyControl {
+
+    private final AccountRepository accountRepository;
+    private final AccountOwnerCache accountOwnerCache;
+
+    @Getter
+    private final ConcurrencyMode mode;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public AccountConcurrencyControl(AccountRepository accountRepository,
+                                     AccountOwnerCache accountOwnerCache,
+                                     @Value("${transaction.concurrency.mode}") ConcurrencyMode mode,
+                                     @Value("${transaction.concurrency.max-attempts}") int maxAttempts,
+                                     @Value("${transaction.concurrency.backoff-millis}") long backoffMillis) {
+        this.accountRepository = accountRepository;
+        this.accountOwnerCache = accountOwnerCache;
+        this.mode = mode;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    // 잔액에 delta 반영, 출금(delta < 0)은 잔액이 부족하면 반영하지 않고 applied = false 반환
+    public AccountBalanceDto change(String accountId, long delta) {
+        if (mode == ConcurrencyMode.ATOMIC)
+            return changeAtomically(accountId, delta);
+
+        Account account = find(accountId);
+        long prevBalance = account.getBalance();
+        boolean applied = delta >= 0 || prevBalance + delta >= 0;
+        if (applied)
+            account.updateBalance(prevBalance + delta);
+
+        return AccountBalanceDto.builder()
+                .accountId(accountId)
+                .bankId(account.getBankId())
+                .holderName(account.getHolder() == null ? null : account.getHolder().getName())
+                .prevBalance(prevBalance)
+                .balance(account.getBalance())
+                .applied(applied)
+                .build();
+    }
+
+    // [출금 계좌, 입금 계좌] 반환, 행 잠금은 항상 계좌번호 오름차순으로 획득해서 교착 상태 방지
+    public AccountBalanceDto[] transfer(String fromAccountId, String toAccountId, long amount) {
+        if (fromAccountId.compareTo(toAccountId) <= 0) {
+            AccountBalanceDto from = change(fromAccountId, -amount);
+            AccountBalanceDto to = change(toAccountId, amount);
+            return new AccountBalanceDto[] {from, to};
+        }
+        AccountBalanceDto to = change(toAccountId, amount);
+        AccountBalanceDto from = change(fromAccountId, -amount);
+        return new AccountBalanceDto[] {from, to};
+    }
+
+    private AccountBalanceDto changeAtomically(String accountId, long delta) {
+        AccountOwner owner = accountOwnerCache.get(accountId);
+        long updated = accountRepository.addBalance(accountId, delta, delta < 0 ? -delta : Long.MIN_VALUE);
+        // UPDATE로 잠긴 행을 다시 읽으므로 다른 트랜잭션의 변경이 끼어들 수 없음, 캐시 이후 해지된 계좌면 없음
+        Long balance = accountRepository.getBalanceByAccountId(accountId);
+        if (balance == null)
+            throw new RestApiException(AccountErrorCode.NO_ACCOUNT);
+
+        boolean applied = updated > 0;
+        return AccountBalanceDto.builder()
+                .accountId(accountId)
+                .bankId(owner.bankId())
+                .holderName(owner.holderName())
+                .prevBalance(applied ? balance - delta : balance)
+                .balance(balance)
+                .applied(applied)
+                .build();
+    }
+
+    private Account find(String accountId) {
+        return switch (mode) {
+            case PESSIMISTIC -> accountRepository.findByIdForUpdate(accountId).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
+            default -> accountRepository.findById(accountId).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
+        };
+    }
+
+    /**
+     * 트랜잭션 바깥(컨트롤러)에서 호출해야 재시도가 의미 있음
+     * 이미 진행 중인 트랜잭션 안에서는 한 번만 실행
+     */
+    public <T> T execute(Supplier<T> work) {
+        if (mode != ConcurrencyMode.OPTIMISTIC || TransactionSynchronizationManager.isActualTransactionActive())
+            return work.get();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return work.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("잔액 변경 충돌 재시도 초과 attempt: {}", attempt);
+                    throw new RestApiException(TransactionErrorCode.CONFLICT);
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(backoffMillis * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestApiException(TransactionErrorCode.CONFLICT);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.joa.openapi.transaction.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.joa.openapi.transaction.enums.OneWonConfirmResult;
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 서버 메모리 보관, 발급한 서버로 확인 요청이 와야 함 (서버 한 대 또는 sticky session)
+@Component
+@ConditionalOnProperty(name = "transaction.one-won.store", havingValue = "memory", matchIfMissing = true)
+public class CaffeineOneWonChallengeStore implements OneWonChallengeStore {
+
+    private record Challenge(String word, int failures) {}
+
+    private final Cache<UUID, Challenge> challenges;
+    private final int maxAttempts;
+
+    public CaffeineOneWonChallengeStore(@Value("${transaction.one-won.ttl}") Duration ttl,
+                                        @Value("${transaction.one-won.max-size}") long maxSize,
+                                        @Value("${transaction.one-won.max-attempts}") int maxAttempts) {
+        // 발급 시각부터 ttl, 틀려서 시도 횟수를 바꿔도 만료 시각은 그대로
+        this.challenges = Caffeine.newBuilder()
+                .expireAfter(new Expiry<UUID, Challenge>() {
+                    @Override
+                    public long expireAfterCreate(UUID key, Challenge value, long currentTime) {
+                        return ttl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(UUID key, Challenge value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(UUID key, Challenge value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .maximumSize(maxSize)
+                .build();
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void save(UUID transactionId, String word) {
+        challenges.put(transactionId, new Challenge(word, 0));
+    }
+
+    @Override
+    public OneWonConfirmResult confirm(UUID transactionId, String word) {
+        OneWonConfirmResult[] result = {OneWonConfirmResult.EXPIRED};
+        challenges.asMap().computeIfPresent(transactionId, (key, challenge) -> {
+            if (challenge.word().equals(word)) {
+                result[0] = OneWonConfirmResult.MATCHED;
+                return null;
+            }
+            int failures = challenge.failures() + 1;
+            if (failures >= maxAttempts) {
+                result[0] = OneWonConfirmResult.LOCKED;
+                return null;
+            }
+            result[0] = OneWonConfirmResult.MISMATCH;
+            return new Challenge(challenge.word(), failures);
+        });
+        return result[0];
+    }
+
+    @Override
+    public void remove(UUID transactionId) {
+        challenges.invalidate(transactionId);
+    }
+}
@@ -0,0 +1,18 @@
+package com.joa.openapi.transaction.service;
+
+import com.joa.openapi.transaction.enums.OneWonConfirmResult;
+import java.util.UUID;
+
+/**
+ * 1원 인증 4글자 보관소, 발급하고 ttl이 지나면 사라짐
+ * 기본은 서버 메모리(CaffeineOneWonChallengeStore), 서버가 여러 대면 transaction.one-won.store=redis
+ */
+public interface OneWonChallengeStore {
+
+    void save(UUID transactionId, String word);
+
+    // 맞으면 바로 제거(한 번만 사용), 틀린 횟수가 max-attempts에 닿아도 제거
+    OneWonConfirmResult confirm(UUID transactionId, String word);
+
+    void remove(UUID transactionId);
+}
@@ -0,0 +1,82 @@
+package com.joa.openapi.transaction.service;
+
+import com.joa.openapi.account.dto.AccountBalanceDto;
+import com.joa.openapi.bank.service.BankAggregateService;
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.repository.TransactionBulkRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 1원 입금 반영 (잔액 + 거래 내역), 인증 요청이 DB 쓰기를 기다리지 않도록 oneWonExecutor에서 실행
+ * 실패하면 인증도 제거 (통장에 찍히지 않은 4글자로는 확인할 수 없으므로 다시 요청)
+ */
+@Slf4j
+@Component
+public class OneWonDepositWriter {
+
+    private static final long AMOUNT = 1L;
+
+    private final AccountConcurrencyControl accountConcurrencyControl;
+    private final TransactionBulkRepository transactionBulkRepository;
+    private final BankAggregateService bankAggregateService;
+    private final OneWonChallengeStore oneWonChallengeStore;
+    private final ThreadPoolTaskExecutor oneWonExecutor;
+    private final TransactionTemplate writeTransaction;
+
+    public OneWonDepositWriter(AccountConcurrencyControl accountConcurrencyControl,
+                               TransactionBulkRepository transactionBulkRepository,
+                               BankAggregateService bankAggregateService,
+                               OneWonChallengeStore oneWonChallengeStore,
+                               @Qualifier("oneWonExecutor") ThreadPoolTaskExecutor oneWonExecutor,
+                               PlatformTransactionManager transactionManager) {
+        this.accountConcurrencyControl = accountConcurrencyControl;
+        this.transactionBulkRepository = transactionBulkRepository;
+        this.bankAggregateService = bankAggregateService;
+        this.oneWonChallengeStore = oneWonChallengeStore;
+        this.oneWonExecutor = oneWonExecutor;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public void write(UUID transactionId, String accountId, String word) {
+        oneWonExecutor.execute(() -> {
+            try {
+                accountConcurrencyControl.execute(() -> writeTransaction.execute(status -> deposit(transactionId, accountId, word)));
+            } catch (RuntimeException e) {
+                log.warn("1원 입금 실패 transactionId: {}, accountId: {}", transactionId, accountId, e);
+                oneWonChallengeStore.remove(transactionId);
+            }
+        });
+    }
+
+    // 입금에 쓰는 빈(DataSource, 집계)보다 먼저 정리되므로 여기서 큐에 남은 입금을 반영하고 끝냄
+    @PreDestroy
+    public void drain() {
+        oneWonExecutor.shutdown();
+    }
+
+    private TransactionResponseDto deposit(UUID transactionId, String accountId, String word) {
+        AccountBalanceDto account = accountConcurrencyControl.change(accountId, AMOUNT);
+        LocalDateTime now = LocalDateTime.now();
+        TransactionResponseDto transaction = TransactionResponseDto.builder()
+                .transactionId(transactionId)
+                .amount(AMOUNT)
+                .depositorName(word)
+                .toAccount(accountId)
+                .toBankId(account.getBankId())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        transactionBulkRepository.insertAll(List.of(transaction));
+        bankAggregateService.recordTransactions(List.of(transaction));
+        return transaction;
+    }
+}
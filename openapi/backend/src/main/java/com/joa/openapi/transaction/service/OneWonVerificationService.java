@@ -0,0 +1,51 @@
+package com.joa.openapi.transaction.service;
+
+import com.joa.openapi.account.errorcode.AccountErrorCode;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.transaction.dto.req.Transaction1wonConfirmRequestDto;
+import com.joa.openapi.transaction.dto.req.Transaction1wonRequestDto;
+import com.joa.openapi.transaction.dto.res.Transaction1wonResponseDto;
+import com.joa.openapi.transaction.entity.Fourwords;
+import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 1원 인증, 4글자는 OneWonChallengeStore에만 두고 입금은 OneWonDepositWriter가 비동기로 반영
+ * 확인은 보관소만 보므로 DB를 조회하지 않음 (트랜잭션도 열지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class OneWonVerificationService {
+
+    private final AccountRepository accountRepository;
+    private final OneWonChallengeStore oneWonChallengeStore;
+    private final OneWonDepositWriter oneWonDepositWriter;
+
+    public Transaction1wonResponseDto send(UUID apiKey, Transaction1wonRequestDto req) {
+        if (req.getAccountId() == null || !accountRepository.existsById(req.getAccountId()))
+            throw new RestApiException(AccountErrorCode.NO_ACCOUNT);
+
+        // 입금 거래 id를 인증 id로 같이 사용
+        UUID transactionId = UUID.randomUUID();
+        String word = Fourwords.chooseWord();
+        oneWonChallengeStore.save(transactionId, word);
+        oneWonDepositWriter.write(transactionId, req.getAccountId(), word);
+
+        return Transaction1wonResponseDto.toDto(word, transactionId);
+    }
+
+    public void confirm(Transaction1wonConfirmRequestDto req) {
+        if (req.getTransactionId() == null)
+            throw new RestApiException(TransactionErrorCode.ONE_WON_EXPIRED);
+
+        switch (oneWonChallengeStore.confirm(req.getTransactionId(), req.getWord())) {
+            case MATCHED -> { }
+            case MISMATCH -> throw new RestApiException(TransactionErrorCode.MiSMATCH);
+            case LOCKED -> throw new RestApiException(TransactionErrorCode.ONE_WON_TOO_MANY_ATTEMPTS);
+            case EXPIRED -> throw new RestApiException(TransactionErrorCode.ONE_WON_EXPIRED);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.joa.openapi.transaction.service;
+
+import com.joa.openapi.transaction.enums.OneWonConfirmResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// Redis 보관, 서버가 여러 대여도 어느 서버로든 확인 가능, 키는 joa:one-won:{transactionId} 해시 (word, failures)
+@Component
+@ConditionalOnProperty(name = "transaction.one-won.store", havingValue = "redis")
+public class RedisOneWonChallengeStore implements OneWonChallengeStore {
+
+    private static final String KEY_PREFIX = "joa:one-won:";
+
+    private static final RedisScript<Long> SAVE = RedisScript.of("""
+            redis.call('HSET', KEYS[1], 'word', ARGV[1], 'failures', 0)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 비교와 시도 횟수 증가를 스크립트 하나로, 만료된 키에 HINCRBY가 TTL 없는 키를 새로 만들지 않게 먼저 확인
+    // 0 : 만료, 1 : 일치, 2 : 불일치, 3 : 시도 횟수 초과
+    private static final RedisScript<Long> CONFIRM = RedisScript.of("""
+            local word = redis.call('HGET', KEYS[1], 'word')
+            if not word then return 0 end
+            if word == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return 1
+            end
+            if redis.call('HINCRBY', KEYS[1], 'failures', 1) >= tonumber(ARGV[2]) then
+                redis.call('DEL', KEYS[1])
+                return 3
+            end
+            return 2
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final int maxAttempts;
+
+    public RedisOneWonChallengeStore(StringRedisTemplate redisTemplate,
+                                     @Value("${transaction.one-won.ttl}") Duration ttl,
+                                     @Value("${transaction.one-won.max-attempts}") int maxAttempts) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void save(UUID transactionId, String word) {
+        redisTemplate.execute(SAVE, List.of(key(transactionId)), word, Long.toString(ttl.toMillis()));
+    }
+
+    @Override
+    public OneWonConfirmResult confirm(UUID transactionId, String word) {
+        Long result = redisTemplate.execute(CONFIRM, List.of(key(transactionId)), word == null ? "" : word, Integer.toString(maxAttempts));
+        return switch (result == null ? 0 : result.intValue()) {
+            case 1 -> OneWonConfirmResult.MATCHED;
+            case 2 -> OneWonConfirmResult.MISMATCH;
+            case 3 -> OneWonConfirmResult.LOCKED;
+            default -> OneWonConfirmResult.EXPIRED;
+        };
+    }
+
+    @Override
+    public void remove(UUID transactionId) {
+        redisTemplate.delete(key(transactionId));
+    }
+
+    private String key(UUID transactionId) {
+        return KEY_PREFIX + transactionId;
+    }
+}
@@ -0,0 +1,94 @@
+package com.joa.openapi.transaction.service;
+
+import com.joa.openapi.transaction.repository.TransactionBulkRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * from_bank_id, to_bank_id 컬럼이 생기기 전 거래내역의 은행 id 채우기
+ * 서버 시작 후 백그라운드에서 chunk-size건씩 짧은 트랜잭션으로 갱신하고 청크 사이에 쉬어서 테이블을 오래 잠그지 않음
+ * 이미 채워진 값은 건드리지 않으므로 여러 서버에서 동시에 돌거나 중간에 멈췄다 다시 돌아도 됨
+ * 끝날 때까지(isCompleted) 은행 별 거래내역 검색은 은행 id가 빈 거래를 계좌의 은행으로 함께 확인함
+ * 채우기를 끈 서버는 시작할 때 빈 거래가 없는지만 확인
+ */
+@Slf4j
+@Component
+public class TransactionBankIdBackfill {
+
+    private final TransactionBulkRepository transactionBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private volatile boolean completed;
+
+    public TransactionBankIdBackfill(TransactionBulkRepository transactionBulkRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${transaction.backfill.bank-id.enabled}") boolean enabled,
+                                     @Value("${transaction.backfill.bank-id.chunk-size}") int chunkSize,
+                                     @Value("${transaction.backfill.bank-id.pause-millis}") long pauseMillis) {
+        this.transactionBulkRepository = transactionBulkRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    // db/migration 적용(FlywayConfig) 이후에 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            completed = transactionBulkRepository.findIdsMissingBankId(new byte[16], 1).isEmpty();
+            if (!completed) log.warn("은행 id가 비어 있는 거래내역이 있지만 채우기가 꺼져 있음, 은행 별 검색은 계좌로 함께 확인");
+            return;
+        }
+        new SimpleAsyncTaskExecutor("transaction-backfill-").execute(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                log.error("거래내역 은행 id 채우기 실패", e);
+            }
+        });
+    }
+
+    // 채운 거래 수
+    public long run() {
+        byte[] after = new byte[16];
+        long filled = 0;
+        while (true) {
+            List<byte[]> ids = transactionBulkRepository.findIdsMissingBankId(after, chunkSize);
+            if (ids.isEmpty()) break;
+
+            transactionTemplate.executeWithoutResult(status -> transactionBulkRepository.fillBankIds(ids));
+            filled += ids.size();
+            after = ids.get(ids.size() - 1);
+            log.info("거래내역 은행 id 채우는 중 {}건", filled);
+
+            if (ids.size() < chunkSize) break;
+            pause();
+        }
+        if (filled > 0) log.info("거래내역 은행 id 채우기 완료 {}건", filled);
+        completed = true;
+        return filled;
+    }
+
+    // 채우지 못한 거래가 없음, 시작 후 채우기가 끝나기 전이나 실패했으면 false
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
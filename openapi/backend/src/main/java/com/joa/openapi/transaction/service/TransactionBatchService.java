@@ -0,0 +1,202 @@
+package com.joa.openapi.transaction.service;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.errorcode.AccountErrorCode;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.service.BankAggregateService;
+import com.joa.openapi.common.cache.ApiKeyCache;
+import com.joa.openapi.common.errorcode.CommonErrorCode;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.dummy.entity.Dummy;
+import com.joa.openapi.dummy.errorcode.DummyErrorCode;
+import com.joa.openapi.dummy.repository.DummyRepository;
+import com.joa.openapi.transaction.dto.req.TransactionBatchRequestDto;
+import com.joa.openapi.transaction.dto.req.TransactionRequestDto;
+import com.joa.openapi.transaction.dto.res.TransactionBatchItemResponseDto;
+import com.joa.openapi.transaction.dto.res.TransactionBatchResponseDto;
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.enums.TransactionBatchMode;
+import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
+import com.joa.openapi.transaction.repository.TransactionBulkRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 여러 건의 입금/출금/이체를 한 번의 요청, 한 번의 DB 트랜잭션으로 처리
+ * 관련 계좌를 계좌번호 순으로 한 번에 잠근 뒤 메모리에서 순서대로 적용하고,
+ * 잔액은 계좌별로 합산해서, 거래내역은 JDBC batch로 반영
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TransactionBatchService {
+
+    private final AccountRepository accountRepository;
+    private final DummyRepository dummyRepository;
+    private final TransactionBulkRepository transactionBulkRepository;
+    private final ApiKeyCache apiKeyCache;
+    private final BankAggregateService bankAggregateService;
+    private final int maxSize;
+
+    public TransactionBatchService(AccountRepository accountRepository,
+                                   DummyRepository dummyRepository,
+                                   TransactionBulkRepository transactionBulkRepository,
+                                   ApiKeyCache apiKeyCache,
+                                   BankAggregateService bankAggregateService,
+                                   @Value("${transaction.batch.max-size}") int maxSize) {
+        this.accountRepository = accountRepository;
+        this.dummyRepository = dummyRepository;
+        this.transactionBulkRepository = transactionBulkRepository;
+        this.apiKeyCache = apiKeyCache;
+        this.bankAggregateService = bankAggregateService;
+        this.maxSize = maxSize;
+    }
+
+    @Transactional
+    public TransactionBatchResponseDto batch(UUID apiKey, TransactionBatchRequestDto req) {
+        List<TransactionRequestDto> items = req.getTransactions();
+        if (items == null || items.isEmpty())
+            throw new RestApiException(TransactionErrorCode.NO_BATCH_ITEM);
+        if (items.size() > maxSize)
+            throw new RestApiException(TransactionErrorCode.BATCH_TOO_LARGE);
+        TransactionBatchMode mode = req.getMode() == null ? TransactionBatchMode.ATOMIC : req.getMode();
+
+        // API Key 검증은 요청당 한 번
+        Set<UUID> bankIds = new HashSet<>(apiKeyCache.getBankIdsByApiKey(apiKey));
+
+        Set<String> accountIds = new TreeSet<>();
+        Set<UUID> dummyIds = new HashSet<>();
+        for (TransactionRequestDto item : items) {
+            if (item == null) continue;
+            if (item.getFromAccount() != null) accountIds.add(item.getFromAccount());
+            if (item.getToAccount() != null) accountIds.add(item.getToAccount());
+            if (item.getDummyId() != null) dummyIds.add(item.getDummyId());
+        }
+
+        Map<String, Account> accounts = accountIds.isEmpty() ? Map.of() : accountRepository.findAllByIdForUpdate(accountIds).stream()
+                .collect(Collectors.toMap(Account::getId, account -> account));
+        Set<UUID> existingDummyIds = dummyIds.isEmpty() ? Set.of() : dummyRepository.findAllById(dummyIds).stream()
+                .map(Dummy::getId)
+                .collect(Collectors.toSet());
+
+        Map<String, Long> balances = new HashMap<>();
+        accounts.forEach((id, account) -> balances.put(id, account.getBalance()));
+        Map<String, Long> deltas = new TreeMap<>();
+        List<TransactionResponseDto> transactions = new ArrayList<>();
+        List<TransactionBatchItemResponseDto> results = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                TransactionResponseDto transaction = apply(items.get(i), bankIds, accounts, existingDummyIds, balances, deltas, now);
+                transactions.add(transaction);
+                results.add(TransactionBatchItemResponseDto.toSuccessDto(i, transaction));
+            } catch (RestApiException e) {
+                results.add(TransactionBatchItemResponseDto.toFailDto(i, e.getErrorCode()));
+            }
+        }
+
+        boolean hasFailure = transactions.size() < items.size();
+        if (mode == TransactionBatchMode.ATOMIC && hasFailure) {
+            // 아직 DB에 쓴 것이 없으므로 결과만 취소로 바꿔서 반환
+            List<TransactionBatchItemResponseDto> cancelled = results.stream()
+                    .map(result -> result.getSuccess() ? TransactionBatchItemResponseDto.toFailDto(result.getIndex(), TransactionErrorCode.BATCH_CANCELLED) : result)
+                    .toList();
+            return TransactionBatchResponseDto.toDto(mode, cancelled);
+        }
+
+        if (!transactions.isEmpty()) {
+            int[] updated = transactionBulkRepository.addBalances(deltas, now);
+            for (int count : updated) {
+                if (count == 0) // 잠근 계좌가 사라질 수는 없으므로 발생하면 전체 롤백
+                    throw new RestApiException(AccountErrorCode.NO_ACCOUNT);
+            }
+            transactionBulkRepository.insertAll(transactions);
+            bankAggregateService.recordTransactions(transactions);
+        }
+        log.info("일괄 거래 처리 mode: {}, total: {}, succeeded: {}", mode, items.size(), transactions.size());
+
+        return TransactionBatchResponseDto.toDto(mode, results);
+    }
+
+    private TransactionResponseDto apply(TransactionRequestDto item, Set<UUID> bankIds, Map<String, Account> accounts, Set<UUID> existingDummyIds,
+                                         Map<String, Long> balances, Map<String, Long> deltas, LocalDateTime now) {
+        if (item == null || item.getAmount() == null || item.getAmount() <= 0)
+            throw new RestApiException(TransactionErrorCode.NO_AMOUNT);
+
+        String from = item.getFromAccount();
+        String to = item.getToAccount();
+        if (from == null && to == null)
+            throw new RestApiException(TransactionErrorCode.NO_ACCOUNTID);
+
+        Account fromAccount = from == null ? null : getAccount(accounts, from);
+        Account toAccount = to == null ? null : getAccount(accounts, to);
+
+        // 단건 API와 동일하게 출금이 있으면 출금 계좌, 입금만 있으면 입금 계좌의 은행 권한 확인
+        UUID bankId = fromAccount != null ? fromAccount.getBankId() : toAccount.getBankId();
+        if (!bankIds.contains(bankId))
+            throw new RestApiException(CommonErrorCode.NO_AUTHORIZATION);
+
+        if (item.getDummyId() != null && !existingDummyIds.contains(item.getDummyId()))
+            throw new RestApiException(DummyErrorCode.NO_DUMMY);
+
+        long amount = item.getAmount();
+        Long fromPrevBalance = from == null ? null : balances.get(from);
+        if (fromPrevBalance != null && fromPrevBalance < amount)
+            throw new RestApiException(TransactionErrorCode.NO_BALANCE);
+
+        if (from != null) {
+            balances.put(from, fromPrevBalance - amount);
+            deltas.merge(from, -amount, Long::sum);
+        }
+        Long toPrevBalance = to == null ? null : balances.get(to);
+        if (to != null) {
+            balances.put(to, toPrevBalance + amount);
+            deltas.merge(to, amount, Long::sum);
+        }
+
+        return TransactionResponseDto.builder()
+                .transactionId(UUID.randomUUID())
+                .amount(amount)
+                .depositorName(Objects.requireNonNullElse(item.getDepositorName(), defaultDepositorName(fromAccount, toAccount)))
+                .fromAccount(from)
+                .fromBankId(fromAccount == null ? null : fromAccount.getBankId())
+                .fromPrevBalance(fromPrevBalance)
+                .fromBalance(from == null ? null : balances.get(from))
+                .toAccount(to)
+                .toBankId(toAccount == null ? null : toAccount.getBankId())
+                .toPrevBalance(toPrevBalance)
+                .toBalance(to == null ? null : balances.get(to))
+                .dummyId(item.getDummyId())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private Account getAccount(Map<String, Account> accounts, String accountId) {
+        Account account = accounts.get(accountId);
+        if (account == null)
+            throw new RestApiException(AccountErrorCode.NO_ACCOUNT);
+        return account;
+    }
+
+    private String defaultDepositorName(Account fromAccount, Account toAccount) {
+        if (fromAccount == null) return "입금";
+        if (toAccount == null) return "출금";
+        return toAccount.getHolder() == null ? "" : toAccount.getHolder().getName();
+    }
+}
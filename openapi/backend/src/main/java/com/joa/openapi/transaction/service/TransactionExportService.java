@@ -0,0 +1,152 @@
+package com.joa.openapi.transaction.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.transaction.dto.req.TransactionSearchRequestDto;
+import com.joa.openapi.transaction.dto.res.TransactionExportDto;
+import com.joa.openapi.transaction.enums.TransactionExportFormat;
+import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
+import com.joa.openapi.transaction.repository.TransactionRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Service;
+
+/**
+ * 거래내역 전체 내보내기 (NDJSON, CSV)
+ * 검색과 같은 조건으로 커서를 열어 한 건씩 변환해서 바로 응답에 씀 (Content-Length 없이 chunked로 전송)
+ * 페이지를 나눠 offset으로 다시 조회하지 않으므로 행이 많아도 쿼리는 한 번, 메모리는 일정
+ * MySQL은 fetch size를 줘도 결과를 전부 받아오므로 내보내기 전용 커넥션 풀에만 useCursorFetch(서버 커서)를 켬,
+ * 다른 조회의 커넥션은 클라이언트 prepared statement 그대로
+ * 동시에 max-concurrent개까지만 내보내고 (풀 크기도 같음) 나머지 요청은 바로 거절, 응답 시간 제한(timeout)도 내보내기에만 적용
+ */
+@Slf4j
+@Service
+public class TransactionExportService {
+
+    private static final DateTimeFormatter CSV_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String CSV_HEADER = "transactionId,amount,depositorName,fromAccount,fromBankId,toAccount,toBankId,dummyId,createdAt";
+
+    private final TransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+    private final SessionFactory sessionFactory;
+    private final HikariDataSource exportDataSource;
+    private final Semaphore permits;
+    private final int fetchSize;
+    @Getter
+    private final Duration timeout;
+
+    public TransactionExportService(TransactionRepository transactionRepository,
+                                    ObjectMapper objectMapper,
+                                    EntityManagerFactory entityManagerFactory,
+                                    DataSourceProperties dataSourceProperties,
+                                    @Value("${transaction.export.fetch-size}") int fetchSize,
+                                    @Value("${transaction.export.max-concurrent}") int maxConcurrent,
+                                    @Value("${transaction.export.timeout}") Duration timeout) {
+        this.transactionRepository = transactionRepository;
+        this.objectMapper = objectMapper;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.exportDataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.exportDataSource.setPoolName("export");
+        this.exportDataSource.setMaximumPoolSize(maxConcurrent);
+        this.exportDataSource.setMinimumIdle(0);
+        this.exportDataSource.setReadOnly(true);
+        if (this.exportDataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+            this.exportDataSource.addDataSourceProperty("useCursorFetch", true);
+        }
+        this.permits = new Semaphore(maxConcurrent);
+        this.fetchSize = fetchSize;
+        this.timeout = timeout;
+    }
+
+    // 내보내기 자리 확보, 모두 사용 중이면 예외 (끝나면 release)
+    public void acquire() {
+        if (!permits.tryAcquire())
+            throw new RestApiException(TransactionErrorCode.EXPORT_BUSY);
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    @PreDestroy
+    public void close() {
+        exportDataSource.close();
+    }
+
+    // 내보낸 행 수 반환, 스트림은 닫지 않음
+    public long export(TransactionSearchRequestDto req, TransactionExportFormat format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == TransactionExportFormat.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM
+            writer.write('\uFEFF');
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count;
+        try (Connection connection = exportDataSource.getConnection();
+             Session session = sessionFactory.withOptions().connection(connection).openSession()) {
+            count = transactionRepository.exportTransactionCustom(session, req, fetchSize, transaction -> {
+                try {
+                    TransactionExportDto row = TransactionExportDto.toDto(transaction);
+                    writer.write(format == TransactionExportFormat.CSV ? toCsv(row) : objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 등
+            throw e.getCause();
+        } catch (SQLException e) {
+            throw new IOException("내보내기 커넥션을 얻지 못했습니다.", e);
+        }
+        writer.flush();
+
+        log.info("거래내역 내보내기 format: {}, rows: {}, {}ms", format, count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private String toCsv(TransactionExportDto row) {
+        return String.join(",",
+                csv(row.getTransactionId()),
+                csv(row.getAmount()),
+                csv(row.getDepositorName()),
+                csv(row.getFromAccount()),
+                csv(row.getFromBankId()),
+                csv(row.getToAccount()),
+                csv(row.getToBankId()),
+                csv(row.getDummyId()),
+                csv(row.getCreatedAt() == null ? null : row.getCreatedAt().format(CSV_DATE_FORMAT)));
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 (RFC 4180)
+    private String csv(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
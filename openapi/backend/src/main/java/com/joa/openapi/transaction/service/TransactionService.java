@@ -1,31 +1,31 @@
 package com.joa.openapi.transaction.service;
 
+import com.joa.openapi.account.dto.AccountBalanceDto;
 import com.joa.openapi.account.entity.Account;
 import com.joa.openapi.account.errorcode.AccountErrorCode;
 import com.joa.openapi.account.repository.AccountRepository;
-import com.joa.openapi.bank.entity.Bank;
-import com.joa.openapi.bank.errorcode.BankErrorCode;
-import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.bank.service.BankAggregateService;
 import com.joa.openapi.common.errorcode.CommonErrorCode;
 import com.joa.openapi.common.exception.RestApiException;
-import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.util.BankAuthorityValidator;
+import com.joa.openapi.common.cache.AccountOwnerCache;
+import com.joa.openapi.common.cache.ApiKeyCache;
 import com.joa.openapi.dummy.entity.Dummy;
 import com.joa.openapi.dummy.errorcode.DummyErrorCode;
 import com.joa.openapi.dummy.repository.DummyRepository;
 import com.joa.openapi.product.dto.res.ProductSearchResponseDto;
 import com.joa.openapi.product.entity.Product;
-import com.joa.openapi.transaction.dto.req.Transaction1wonConfirmRequestDto;
-import com.joa.openapi.transaction.dto.req.Transaction1wonRequestDto;
 import com.joa.openapi.transaction.dto.req.TransactionDeleteRequestDto;
 import com.joa.openapi.transaction.dto.req.TransactionRequestDto;
+import com.joa.openapi.transaction.dto.req.TransactionSearchCursor;
 import com.joa.openapi.transaction.dto.req.TransactionSearchRequestDto;
 import com.joa.openapi.transaction.dto.req.TransactionUpdateRequestDto;
-import com.joa.openapi.transaction.dto.res.Transaction1wonResponseDto;
+import com.joa.openapi.transaction.dto.res.TransactionCursorPageDto;
 import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
 import com.joa.openapi.transaction.dto.res.TransactionSearchResponseDto;
 import com.joa.openapi.transaction.dto.res.TransactionUpdateResponseDto;
-import com.joa.openapi.transaction.entity.Fourwords;
 import com.joa.openapi.transaction.entity.Transaction;
+import com.joa.openapi.transaction.enums.TransactionOrderBy;
 import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
 import com.joa.openapi.transaction.repository.TransactionRepository;
 import java.util.List;
@@ -48,117 +48,104 @@ public class TransactionService {
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final DummyRepository dummyRepository;
-    private final ApiRepository apiRepository;
-    private final BankRepository bankRepository;
+    private final ApiKeyCache apiKeyCache;
+    private final BankAuthorityValidator bankAuthorityValidator;
+    private final AccountConcurrencyControl accountConcurrencyControl;
+    private final AccountOwnerCache accountOwnerCache;
+    private final BankAggregateService bankAggregateService;
 
     @Transactional
     public TransactionResponseDto deposit(UUID apiKey, TransactionRequestDto req) {
 
-        String to = req.getToAccount();
-
-        Account account = accountRepository.findById(to).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
-
         Optional<Dummy> optionalDummy = Optional.ofNullable(req.getDummyId())
                 .map(dummyId -> dummyRepository.findById(dummyId).orElseThrow(() -> new RestApiException(
                     DummyErrorCode.NO_DUMMY)));
 
-        bankAuthorityValidation(apiKey, account.getBankId());
+        bankAuthorityValidator.validate(apiKey, getBankId(req.getToAccount()));
+        AccountBalanceDto toAccount = accountConcurrencyControl.change(req.getToAccount(), req.getAmount() == null ? 0L : req.getAmount());
         // checkPassword(account, req.getPassword());
 
-        Long toPrevBalance = account.getBalance();
-
-        if (req.getAmount() != null){
-            account.updateBalance(account.getBalance() + req.getAmount());
-        }
-
         Transaction transaction = Transaction.builder()
                 .amount(req.getAmount())
                 .depositorName(req.getDepositorName() == null ? "입금" : req.getDepositorName())
                 .fromAccount(null)
                 .toAccount(req.getToAccount())
+                .toBankId(toAccount.getBankId())
                 .dummy(optionalDummy.orElse(null))
                 .build();
 
         transactionRepository.save(transaction);
-        accountRepository.save(account);
+        bankAggregateService.recordTransaction(transaction);
 
-        return TransactionResponseDto.toDepositDto(transaction, toPrevBalance, account.getBalance());
+        return TransactionResponseDto.toDepositDto(transaction, toAccount.getPrevBalance(), toAccount.getBalance());
     }
 
     @Transactional
     public TransactionResponseDto withdraw(UUID apiKey, TransactionRequestDto req) {
 
-        String from = req.getFromAccount();
-
-        Account account = accountRepository.findById(from).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
-
         Optional<Dummy> optionalDummy = Optional.ofNullable(req.getDummyId())
                 .map(dummyId -> dummyRepository.findById(dummyId).orElseThrow(() -> new RestApiException(DummyErrorCode.NO_DUMMY)));
 
-        bankAuthorityValidation(apiKey, account.getBankId());
+        bankAuthorityValidator.validate(apiKey, getBankId(req.getFromAccount()));
+        AccountBalanceDto fromAccount = accountConcurrencyControl.change(req.getFromAccount(), -req.getAmount());
         // checkPassword(account, req.getPassword());
 
-        if(account.getBalance() < req.getAmount())
+        if(!fromAccount.isApplied())
             throw new RestApiException(TransactionErrorCode.NO_BALANCE);
 
-        Long fromPrevBalance = account.getBalance();
-
-        account.updateBalance(account.getBalance() - req.getAmount());
-
         Transaction transaction = Transaction.builder()
                 .amount(req.getAmount())
                 .depositorName(req.getDepositorName() == null ? "출금" : req.getDepositorName())
                 .fromAccount(req.getFromAccount())
+                .fromBankId(fromAccount.getBankId())
                 .toAccount(null)
                 .dummy(optionalDummy.orElse(null))
                 .build();
 
         transactionRepository.save(transaction);
-        accountRepository.save(account);
+        bankAggregateService.recordTransaction(transaction);
 
-        return TransactionResponseDto.toWithdrawDto(transaction, fromPrevBalance, account.getBalance());
+        return TransactionResponseDto.toWithdrawDto(transaction, fromAccount.getPrevBalance(), fromAccount.getBalance());
     }
 
 
     @Transactional
     public TransactionResponseDto send(UUID apiKey, TransactionRequestDto req) {
 
-        Account fromAccount = accountRepository.findById(req.getFromAccount()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
-        Account toAccount = accountRepository.findById(req.getToAccount()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
-
         Optional<Dummy> optionalDummy = Optional.ofNullable(req.getDummyId())
                 .map(dummyId -> dummyRepository.findById(dummyId).orElseThrow(() -> new RestApiException(DummyErrorCode.NO_DUMMY)));
 
-        bankAuthorityValidation(apiKey, fromAccount.getBankId());
+        bankAuthorityValidator.validate(apiKey, getBankId(req.getFromAccount()));
+        AccountBalanceDto[] accounts = accountConcurrencyControl.transfer(req.getFromAccount(), req.getToAccount(), req.getAmount());
+        AccountBalanceDto fromAccount = accounts[0];
+        AccountBalanceDto toAccount = accounts[1];
+
         // checkPassword(fromAccount, req.getPassword());
 
-        if(fromAccount.getBalance() < req.getAmount())
+        if(!fromAccount.isApplied())
             throw new RestApiException(TransactionErrorCode.NO_BALANCE);
 
-        Long fromPrevBalance = fromAccount.getBalance();
-        Long toPrevBalance = toAccount.getBalance();
-
-        fromAccount.updateBalance(fromPrevBalance - req.getAmount());
-        toAccount.updateBalance(toPrevBalance + req.getAmount());
-
         Transaction transaction = Transaction.builder()
                 .amount(req.getAmount())
-                .depositorName(req.getDepositorName() == null ? toAccount.getHolder().getName() : req.getDepositorName())
+                .depositorName(req.getDepositorName() == null ? toAccount.getHolderName() : req.getDepositorName())
                 .fromAccount(req.getFromAccount())
+                .fromBankId(fromAccount.getBankId())
                 .toAccount(req.getToAccount())
+                .toBankId(toAccount.getBankId())
                 .dummy(optionalDummy.orElse(null))
                 .build();
 
         transactionRepository.save(transaction);
-        accountRepository.save(fromAccount);
-        accountRepository.save(toAccount);
+        bankAggregateService.recordTransaction(transaction);
 
-        return TransactionResponseDto.toDto(transaction, fromPrevBalance, fromAccount.getBalance(), toPrevBalance, toAccount.getBalance());
+        return TransactionResponseDto.toDto(transaction, fromAccount.getPrevBalance(), fromAccount.getBalance(), toAccount.getPrevBalance(), toAccount.getBalance());
     }
 
     @Transactional
     public TransactionUpdateResponseDto update(UUID apiKey, UUID transactionId, TransactionUpdateRequestDto req) {
         Transaction transaction = transactionRepository.findById(transactionId).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
+        // 수정 전 금액, 계좌를 누적값에서 빼고 수정 후 다시 더함
+        bankAggregateService.cancelTransaction(transaction);
 
         Long fromPrevBalance = 0L;
         Long fromBalance = 0L;
@@ -172,10 +159,10 @@ public class TransactionService {
             transaction.updateAmount(req.getAmount());
         }
         if (req.getFromAccount() != null) {
-            transaction.updateFromAccount(req.getFromAccount());
+            transaction.updateFromAccount(req.getFromAccount(), accountRepository.getBankIdByAccountId(req.getFromAccount()));
         }
         if (req.getToAccount() != null) {
-            transaction.updateToAccount(req.getToAccount());
+            transaction.updateToAccount(req.getToAccount(), accountRepository.getBankIdByAccountId(req.getToAccount()));
         }
 
         if(req.getFromAccount() == null && req.getToAccount() != null){
@@ -201,6 +188,7 @@ public class TransactionService {
         }
 
         transactionRepository.save(transaction);
+        bankAggregateService.recordTransaction(transaction);
 
         return TransactionUpdateResponseDto.toDto(transaction, fromPrevBalance, fromBalance, toPrevBalance, toBalance);
     }
@@ -208,7 +196,7 @@ public class TransactionService {
     public Long updateDeposit(UUID apiKey, TransactionUpdateRequestDto req) {
         Account account = accountRepository.findById(req.getToAccount()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
 
-        bankAuthorityValidation(apiKey, account.getBankId());
+        bankAuthorityValidator.validate(apiKey, account.getBankId());
 
         if (req.getAmount() != null) {
             //refund(req);
@@ -226,7 +214,7 @@ public class TransactionService {
         if(account.getBalance() < req.getAmount())
             throw new RestApiException(TransactionErrorCode.NO_BALANCE);
 
-        bankAuthorityValidation(apiKey, account.getBankId());
+        bankAuthorityValidator.validate(apiKey, account.getBankId());
 
         //refund(req);
         account.updateBalance(account.getBalance() - req.getAmount());
@@ -240,7 +228,7 @@ public class TransactionService {
         Account fromAccount = accountRepository.findById(req.getFromAccount()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
         Account toAccount = accountRepository.findById(req.getToAccount()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
 
-        bankAuthorityValidation(apiKey, fromAccount.getBankId());
+        bankAuthorityValidator.validate(apiKey, fromAccount.getBankId());
 
         if(fromAccount.getBalance() < req.getAmount())
             throw new RestApiException(TransactionErrorCode.NO_BALANCE);
@@ -256,34 +244,6 @@ public class TransactionService {
         return new Long[] {fromAccount.getBalance(), toAccount.getBalance()};
     }
 
-    @Transactional
-    public Transaction1wonResponseDto oneSend(UUID apiKey, Transaction1wonRequestDto req) {
-        Account toAccount = accountRepository.findById(req.getAccountId()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
-
-        String depositorName = Fourwords.chooseWord();
-
-        Transaction transaction = Transaction.builder()
-                .amount(1L)
-                .depositorName(depositorName)
-                .toAccount(req.getAccountId())
-                .dummy(null)
-                .build();
-
-        toAccount.updateBalance(toAccount.getBalance() + 1);
-
-        transactionRepository.save(transaction);
-        accountRepository.save(toAccount);
-
-        return Transaction1wonResponseDto.toDto(depositorName, transaction.getId());
-    }
-
-    public void oneSendConfirm(Transaction1wonConfirmRequestDto req) {
-        Transaction transaction = transactionRepository.findById(req.getTransactionId()).orElseThrow(() -> new RestApiException(TransactionErrorCode.NO_TRANSACTION));
-
-        if(!transaction.getDepositorName().equals(req.getWord()))
-            throw new RestApiException(TransactionErrorCode.MiSMATCH);
-    }
-
     @Transactional
     public void refund(UUID transactionId, TransactionUpdateRequestDto req) {
         Transaction transaction = transactionRepository.findById(transactionId).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
@@ -291,6 +251,7 @@ public class TransactionService {
         Account toAccount = accountRepository.findById(req.getToAccount()).orElseThrow(() -> new RestApiException(AccountErrorCode.NO_ACCOUNT));
 
         Long preAmount = transaction.getAmount();
+        bankAggregateService.cancelTransaction(transaction);
 
         if(toAccount.getBalance() < preAmount){
             throw new RestApiException(TransactionErrorCode.NO_REFUND);
@@ -303,51 +264,25 @@ public class TransactionService {
             throw new RestApiException(TransactionErrorCode.NO_AMOUNT);
         transaction.updateAmount(req.getAmount());
         transaction.updateDepositorName(req.getDepositorName());
-        transaction.updateFromAccount(req.getFromAccount());
-        transaction.updateFromAccount(req.getToAccount());
+        transaction.updateFromAccount(req.getFromAccount(), fromAccount.getBankId());
+        transaction.updateToAccount(req.getToAccount(), toAccount.getBankId());
 
         transactionRepository.save(transaction);
         accountRepository.save(fromAccount);
         accountRepository.save(toAccount);
+        bankAggregateService.recordTransaction(transaction);
     }
 
     @Transactional
     public void delete(UUID apiKey, UUID transactionId) {
         Transaction transaction = transactionRepository.findById(transactionId).orElseThrow(() -> new RestApiException(TransactionErrorCode.NO_TRANSACTION));
         transaction.deleteSoftly();
+        bankAggregateService.cancelTransaction(transaction);
     }
 
-    @Transactional
-    public void depositInterest(Account account, Long interest) {
-        account.updateBalance(account.getBalance() + interest);
-
-        Transaction transaction = Transaction.builder()
-                .amount(interest)
-                .depositorName("이자 지급")
-                .fromAccount(null)
-                .toAccount(account.getId())
-                .build();
-
-        transactionRepository.save(transaction);
-        accountRepository.save(account);
-    }
-
-    @Transactional
-    public void withdrawAmount(Account account) {
-        if(account.getBalance() < account.getAmount())
-            return;
-
-        account.updateBalance(account.getBalance() - account.getAmount());
-
-        Transaction transaction = Transaction.builder()
-                .amount(account.getAmount())
-                .depositorName("적금")
-                .fromAccount(null)
-                .toAccount(account.getId())
-                .build();
-
-        transactionRepository.save(transaction);
-        accountRepository.save(account);
+    // 권한 확인용, 잔액을 바꾸기(행 잠금) 전에 계좌의 은행만 확인 (AccountOwnerCache)
+    private UUID getBankId(String accountId) {
+        return accountOwnerCache.get(accountId).bankId();
     }
 
     public void checkPassword(Account account, String password){
@@ -359,26 +294,26 @@ public class TransactionService {
         return transactionRepository.searchTransactionCustom(req, pageable);
     }
 
-    public void bankAuthorityValidation(UUID apiKey, UUID bankId) {
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
-        Bank bank = bankRepository.findById(bankId).orElseThrow(() -> new RestApiException(BankErrorCode.NO_BANK));
-        if (!bank.getAdminId().equals(adminId))
-            throw new RestApiException(CommonErrorCode.NO_AUTHORIZATION);
+    // 정렬 키가 (createdAt, id)라서 최신순/과거순만 가능
+    public TransactionCursorPageDto searchByCursor(TransactionSearchRequestDto req, String cursor, int size, boolean withCount) {
+        if (req.getOrderBy() == TransactionOrderBy.AMOUNT_ASC || req.getOrderBy() == TransactionOrderBy.AMOUNT_DESC)
+            throw new RestApiException(TransactionErrorCode.CURSOR_NOT_SUPPORTED_ORDER);
+        return transactionRepository.searchTransactionCursorCustom(req, TransactionSearchCursor.decode(cursor), size, withCount);
     }
 
     public void transactionAuthorityValidation(UUID apiKey, UUID transactionId) {
         Transaction transaction = transactionRepository.findById(transactionId).orElseThrow(() -> new RestApiException(TransactionErrorCode.NO_TRANSACTION));
 
         // apiKey로 소유 bankId 찾아오고, 권한 있는지 확인
-        UUID adminId = apiRepository.getByApiKey(apiKey).getAdminId();
-        List<Bank> bankList =  bankRepository.findByAdminId(adminId);
-        UUID fromBankId = accountRepository.getBankIdByAccountId(transaction.getFromAccount());
-        UUID toBankId = accountRepository.getBankIdByAccountId(transaction.getToAccount());
-
-        for (int i=0; i<bankList.size(); i++){
-            if(bankList.get(i).getId().equals(fromBankId) || bankList.get(i).getId().equals(toBankId)) {
-                return;
-            }
+        List<UUID> bankIds = apiKeyCache.getBankIdsByApiKey(apiKey);
+        // 은행 id가 아직 채워지지 않은 과거 거래만 계좌에서 조회 (TransactionBankIdBackfill)
+        UUID fromBankId = transaction.getFromBankId() != null || transaction.getFromAccount() == null
+                ? transaction.getFromBankId() : accountRepository.getBankIdByAccountId(transaction.getFromAccount());
+        UUID toBankId = transaction.getToBankId() != null || transaction.getToAccount() == null
+                ? transaction.getToBankId() : accountRepository.getBankIdByAccountId(transaction.getToAccount());
+
+        if (bankIds.contains(fromBankId) || bankIds.contains(toBankId)) {
+            return;
         }
         throw new RestApiException(CommonErrorCode.NO_AUTHORIZATION);
     }
@@ -0,0 +1,9 @@
+-- 거래내역 검색: 계좌 조건(from/to 각각) + 기간 조건 + 최신순 정렬
+CREATE INDEX idx_transaction_to_account_created_at ON transaction (to_account, created_at);
+CREATE INDEX idx_transaction_from_account_created_at ON transaction (from_account, created_at);
+
+-- 은행 별 계좌 목록 (거래내역 검색, 대시보드) 최신순
+CREATE INDEX idx_account_bank_id_created_at ON account (bank_id, created_at);
+
+-- 은행 내 이메일 중복 확인, 로그인
+CREATE INDEX idx_member_bank_id_email ON member (bank_id, email);
@@ -0,0 +1,3 @@
+-- 은행 단위 거래내역 검색, 대시보드 (from_bank_id, to_bank_id 컬럼은 ddl-auto가 추가, 기존 행은 TransactionBankIdBackfill이 채움)
+CREATE INDEX idx_transaction_from_bank_id_created_at ON transaction (from_bank_id, created_at);
+CREATE INDEX idx_transaction_to_bank_id_created_at ON transaction (to_bank_id, created_at);
@@ -0,0 +1,3 @@
+-- 회원 정보 수정 시 이메일, 전화번호 중복 확인 (은행 구분 없이 exists 조회)
+CREATE INDEX idx_member_email ON member (email);
+CREATE INDEX idx_member_phone ON member (phone);
@@ -0,0 +1,2 @@
+-- 만기 이자 지급 배치, 날짜와 은행(파티션) 별로 계좌번호 순 청크 조회 (PK가 인덱스 끝에 붙어서 정렬 없이 범위 스캔)
+CREATE INDEX idx_account_end_date_bank_id ON account (end_date, bank_id);
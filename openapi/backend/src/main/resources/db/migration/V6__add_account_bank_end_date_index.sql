@@ -0,0 +1,2 @@
+-- 은행 별 만기일 범위 조회, 만기 순 정렬 (계좌 검색 maturingWithinDays, NEAR_EXPIRATION)
+CREATE INDEX idx_account_bank_id_end_date ON account (bank_id, end_date);
@@ -0,0 +1,82 @@
+package com.joa.openapi.account.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.repository.AccountNumberBlockRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// 서버 두 대(생성기 두 개)에서 여러 스레드가 동시에 받아도 일련번호가 겹치지 않는지 확인
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountNumberGeneratorTest {
+
+	@Autowired
+	private AccountNumberGenerator accountNumberGenerator;
+	@Autowired
+	private AccountNumberBlockRepository accountNumberBlockRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private AccountService accountService;
+
+	@Test
+	void serialsAreUniqueAcrossThreadsAndNodes() throws Exception {
+		// 블록을 작게 해서 적은 수로도 블록을 여러 번 새로 받음
+		assertUnique(generate(4, 2_000, new AccountNumberGenerator(accountNumberBlockRepository, transactionManager, 10)));
+
+		// 은행, 고객 4자리 + 일련번호 9자리 + 검증 1자리
+		String accountId = accountService.createAccountId(UUID.randomUUID(), UUID.randomUUID(), accountNumberGenerator.nextSerial());
+		assertThat(accountId).hasSize(14).containsOnlyDigits();
+	}
+
+	// 서버 설정 크기의 블록으로 2,000,000개 (./gradlew benchmark)
+	@Tag("benchmark")
+	@Test
+	void serialsAreUniqueUnderLoad() throws Exception {
+		assertUnique(generate(8, 250_000, new AccountNumberGenerator(accountNumberBlockRepository, transactionManager, 500)));
+	}
+
+	// 스레드 절반은 이 서버의 생성기, 나머지 절반은 다른 서버의 생성기에서 받음
+	private long[] generate(int threads, int perThread, AccountNumberGenerator otherNode) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<long[]>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			AccountNumberGenerator generator = t % 2 == 0 ? accountNumberGenerator : otherNode;
+			futures.add(executor.submit(() -> {
+				long[] serials = new long[perThread];
+				for (int i = 0; i < perThread; i++) {
+					serials[i] = Long.parseLong(generator.nextSerial());
+				}
+				return serials;
+			}));
+		}
+
+		long[] all = new long[threads * perThread];
+		for (int t = 0; t < threads; t++) {
+			System.arraycopy(futures.get(t).get(), 0, all, t * perThread, perThread);
+		}
+		executor.shutdown();
+		return all;
+	}
+
+	private void assertUnique(long[] serials) {
+		Arrays.sort(serials);
+		for (int i = 1; i < serials.length; i++) {
+			assertThat(serials[i]).isNotEqualTo(serials[i - 1]);
+		}
+		assertThat(serials[0]).isGreaterThanOrEqualTo(AccountNumberGenerator.FIRST_SERIAL);
+		assertThat(serials[serials.length - 1]).isLessThanOrEqualTo(AccountNumberGenerator.LAST_SERIAL);
+	}
+}
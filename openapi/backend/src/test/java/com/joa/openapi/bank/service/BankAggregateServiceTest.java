@@ -0,0 +1,121 @@
+package com.joa.openapi.bank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.dto.DashboardResponseDto;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.member.dto.MemberIdResponseDto;
+import com.joa.openapi.member.dto.MemberJoinRequestDto;
+import com.joa.openapi.member.service.MemberService;
+import com.joa.openapi.transaction.dto.req.TransactionRequestDto;
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.repository.TransactionBulkRepository;
+import com.joa.openapi.transaction.service.TransactionService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BankAggregateServiceTest {
+
+	@Autowired
+	private BankAggregateService bankAggregateService;
+	@Autowired
+	private TransactionService transactionService;
+	@Autowired
+	private MemberService memberService;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private TransactionBulkRepository transactionBulkRepository;
+
+	@Test
+	void incrementalMatchesRebuild() {
+		UUID adminId = UUID.randomUUID();
+		UUID apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		UUID bankId = bankRepository.save(Bank.builder().name("aggregate").adminId(adminId).build()).getId();
+		UUID otherBankId = bankRepository.save(Bank.builder().name("aggregate-other").adminId(adminId).build()).getId();
+		String a1 = account(bankId);
+		String a2 = account(bankId);
+		String other = account(otherBankId);
+
+		// 처음 조회할 때 원본에서 계산
+		assertThat(bankAggregateService.getDashboard(bankId).getTotalTransactionCnt()).isZero();
+
+		transactionService.deposit(apiKey, request(null, a1, 100L));
+		transactionService.send(apiKey, request(a1, a2, 30L));      // 은행 안 이체
+		transactionService.send(apiKey, request(a1, other, 20L));   // 다른 은행으로 이체
+		transactionService.send(apiKey, request(other, a2, 5L));    // 다른 은행에서 이체
+		TransactionResponseDto withdraw = transactionService.withdraw(apiKey, request(a2, null, 10L));
+		transactionService.delete(apiKey, withdraw.getTransactionId());
+		memberService.addMember(apiKey, member(bankId, "a@joa.com"));
+		MemberIdResponseDto removed = memberService.addMember(apiKey, member(bankId, "b@joa.com"));
+		memberService.delete(apiKey, UUID.fromString(removed.getId()));
+
+		// 커밋된 증감은 모아뒀다가 주기적으로 반영
+		bankAggregateService.flush();
+		DashboardResponseDto incremental = bankAggregateService.getDashboard(bankId);
+		assertThat(incremental.getTotalTransactionCnt()).isEqualTo(4);
+		assertThat(incremental.getTotalDepositAmount()).isEqualTo(100 + 30 + 5);
+		assertThat(incremental.getTotalWithdrawAmount()).isEqualTo(30 + 20);
+		assertThat(incremental.getTotalMemberCnt()).isEqualTo(1);
+		assertThat(incremental.getTotalTransactionList()).hasSize(1);
+		assertThat(incremental.getTotalTransactionList().get(0).getDeposit()).isEqualTo(135);
+		assertThat(incremental.getTotalTransactionList().get(0).getWithdraw()).isEqualTo(50);
+
+		bankAggregateService.rebuild(bankId);
+		DashboardResponseDto rebuilt = bankAggregateService.getDashboard(bankId);
+		assertThat(rebuilt).usingRecursiveComparison().isEqualTo(incremental);
+	}
+
+	@Test
+	void rebuildCountsPendingTransactionsOnce() {
+		UUID bankId = bankRepository.save(Bank.builder().name("aggregate-rebuild").adminId(UUID.randomUUID()).build()).getId();
+		assertThat(bankAggregateService.getDashboard(bankId).getTotalTransactionCnt()).isZero();
+
+		// 커밋됐지만 아직 반영 전인 거래(다시 계산할 때 원본에 있음)와 기준 시각 이후에 생성된 거래
+		LocalDateTime now = LocalDateTime.now();
+		TransactionResponseDto committed = deposit(bankId, 100L, now);
+		TransactionResponseDto later = deposit(bankId, 7L, now.plusMinutes(1));
+		transactionBulkRepository.insertAll(List.of(committed, later));
+		bankAggregateService.recordTransactions(List.of(committed, later));
+
+		bankAggregateService.rebuild(bankId);
+		bankAggregateService.flush();
+
+		DashboardResponseDto dashboard = bankAggregateService.getDashboard(bankId);
+		assertThat(dashboard.getTotalTransactionCnt()).isEqualTo(2);
+		assertThat(dashboard.getTotalDepositAmount()).isEqualTo(107);
+	}
+
+	private TransactionResponseDto deposit(UUID bankId, long amount, LocalDateTime createdAt) {
+		return TransactionResponseDto.builder().transactionId(UUID.randomUUID()).amount(amount).depositorName("aggregate")
+				.toAccount("aggregate-" + UUID.randomUUID()).toBankId(bankId).createdAt(createdAt).updatedAt(createdAt).build();
+	}
+
+	private String account(UUID bankId) {
+		return accountRepository.save(Account.builder().id("aggregate-" + UUID.randomUUID()).balance(1_000L).bankId(bankId).build()).getId();
+	}
+
+	private TransactionRequestDto request(String from, String to, long amount) {
+		return TransactionRequestDto.builder().fromAccount(from).toAccount(to).amount(amount).depositorName("aggregate").build();
+	}
+
+	private MemberJoinRequestDto member(UUID bankId, String email) {
+		return MemberJoinRequestDto.builder().bankId(bankId).email(email).name("aggregate").password("pw").phone(UUID.randomUUID().toString()).build();
+	}
+}
@@ -0,0 +1,118 @@
+package com.joa.openapi.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.bank.dto.BankRequestDto;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.bank.service.BankService;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.util.UuidBytes;
+import com.joa.openapi.product.entity.Product;
+import com.joa.openapi.product.repository.ProductRepository;
+import com.joa.openapi.product.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+// 은행, 상품을 다시 읽을 때 DB를 조회하지 않고, 변경/삭제 후에는 바뀐 값을 읽는지 확인
+@SpringBootTest
+@ActiveProfiles("test")
+class EntityCacheTest {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private EntityCacheEndpoint entityCacheEndpoint;
+	@Autowired
+	private BankService bankService;
+	@Autowired
+	private ProductService productService;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private EntityCacheInvalidationListener entityCacheInvalidationListener;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Statistics statistics;
+	private UUID apiKey;
+	private UUID bankId;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		UUID adminId = UUID.randomUUID();
+		apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		bankId = bankRepository.save(Bank.builder().name("cache").adminId(adminId).build()).getId();
+	}
+
+	@Test
+	void readsBankAndProductFromCache() {
+		UUID productId = productRepository.save(Product.builder().name("cache").isDone(false).productsBank(bankRepository.getReferenceById(bankId)).build()).getId();
+		bankRepository.findById(bankId).orElseThrow();
+		productRepository.findById(productId).orElseThrow();
+
+		statistics.clear();
+		for (int i = 0; i < 10; i++) {
+			assertThat(bankRepository.findById(bankId)).isPresent();
+			assertThat(productRepository.findById(productId).orElseThrow().getProductsBank().getId()).isEqualTo(bankId);
+		}
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(20);
+
+		assertThat(entityCacheEndpoint.regions()).containsKeys(Bank.class.getName(), Product.class.getName());
+		assertThat(entityCacheEndpoint.regions().get(Bank.class.getName()).hitCount()).isPositive();
+	}
+
+	@Test
+	void evictsOnUpdateAndDelete() {
+		bankRepository.findById(bankId).orElseThrow();
+
+		bankService.update(BankRequestDto.builder().name("cache-updated").build(), apiKey, bankId);
+		assertThat(bankRepository.findById(bankId).orElseThrow().getName()).isEqualTo("cache-updated");
+
+		// 캐시에서 읽을 때는 is_deleted 조건이 없으므로 삭제 후 제거되지 않으면 삭제한 은행이 보임
+		bankService.delete(apiKey, bankId);
+		assertThat(bankRepository.findById(bankId)).isEmpty();
+	}
+
+	@Test
+	void evictsDeletedProduct() {
+		UUID productId = productRepository.save(Product.builder().name("cache").isDone(false).productsBank(bankRepository.getReferenceById(bankId)).build()).getId();
+		productRepository.findById(productId).orElseThrow();
+
+		productService.end(apiKey, productId);
+		assertThat(productRepository.findById(productId).orElseThrow().getIsDone()).isTrue();
+
+		productService.delete(apiKey, productId);
+		assertThat(productRepository.findById(productId)).isEmpty();
+	}
+
+	@Test
+	void evictsOnMessageFromOtherServer() {
+		bankRepository.findById(bankId).orElseThrow();
+
+		// 다른 서버가 바꾼 값은 이 서버의 캐시에 남아 있다가 무효화 메시지를 받으면 제거
+		jdbcTemplate.update("UPDATE bank SET name = ? WHERE id = ?", "cache-other", UuidBytes.toBytes(bankId));
+		assertThat(bankRepository.findById(bankId).orElseThrow().getName()).isEqualTo("cache");
+
+		byte[] body = ("bank:" + bankId).getBytes(StandardCharsets.UTF_8);
+		entityCacheInvalidationListener.onMessage(new DefaultMessage(EntityCacheInvalidationListener.CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+		assertThat(bankRepository.findById(bankId).orElseThrow().getName()).isEqualTo("cache-other");
+	}
+}
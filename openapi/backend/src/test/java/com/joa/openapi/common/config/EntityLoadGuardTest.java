@@ -0,0 +1,131 @@
+package com.joa.openapi.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.bank.service.BankAggregateService;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.member.dto.MemberUpdateRequestDto;
+import com.joa.openapi.member.entity.Member;
+import com.joa.openapi.member.errorcode.MemberErrorCode;
+import com.joa.openapi.member.repository.MemberRepository;
+import com.joa.openapi.member.service.MemberService;
+import com.joa.openapi.product.entity.Product;
+import com.joa.openapi.product.repository.ProductRepository;
+import com.joa.openapi.product.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// 개수, 존재 여부만 필요한 곳에서 엔티티를 N개 읽지 않는지 Hibernate 통계로 확인 (데이터가 N개여도 읽는 엔티티 수는 그대로여야 함)
+@SpringBootTest
+@ActiveProfiles("test")
+class EntityLoadGuardTest {
+
+	private static final int N = 50;
+	// 검증 과정에서 읽는 상품, 회원, 은행 등
+	private static final long MAX_ENTITY_LOADS = 5;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private ProductService productService;
+	@Autowired
+	private MemberService memberService;
+	@Autowired
+	private BankAggregateService bankAggregateService;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+
+	private Statistics statistics;
+	private UUID apiKey;
+	private Bank bank;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		UUID adminId = UUID.randomUUID();
+		apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		bank = bankRepository.save(Bank.builder().name("guard").adminId(adminId).build());
+	}
+
+	@Test
+	void productDeleteChecksAccountsWithoutLoadingThem() {
+		Product product = productRepository.save(Product.builder().name("guard").productsBank(bank).build());
+		for (int i = 0; i < N; i++) {
+			accountRepository.save(Account.builder().id("guard-" + UUID.randomUUID()).balance(0L).bankId(bank.getId()).product(product).build());
+		}
+
+		statistics.clear();
+		assertThatThrownBy(() -> productService.delete(apiKey, product.getId())).isInstanceOf(RestApiException.class);
+		assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(MAX_ENTITY_LOADS);
+
+		Product empty = productRepository.save(Product.builder().name("guard-empty").productsBank(bank).build());
+		productService.delete(apiKey, empty.getId());
+		assertThat(productRepository.findById(empty.getId())).isEmpty();
+	}
+
+	@Test
+	void memberUpdateChecksDuplicatesWithoutLoadingMembers() {
+		// 바꾸려는 이메일, 전화번호를 이미 N명이 쓰고 있어도 중복 확인에서 그 회원들을 읽지 않아야 함
+		String email = "guard-" + UUID.randomUUID() + "@joa.com";
+		String phone = "guard-" + UUID.randomUUID();
+		for (int i = 0; i < N; i++) {
+			memberRepository.save(Member.builder().name("guard").email(email).phone(phone).bank(bank).build());
+		}
+		UUID memberId = memberRepository.save(Member.builder().name("guard").email("guard-" + UUID.randomUUID() + "@joa.com")
+				.phone("guard-" + UUID.randomUUID()).bank(bank).build()).getId();
+
+		statistics.clear();
+		assertThatThrownBy(() -> memberService.update(apiKey, memberId, updateRequest(email, "")))
+				.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(MemberErrorCode.EMAIL_CONFLICT));
+		assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(MAX_ENTITY_LOADS);
+
+		statistics.clear();
+		assertThatThrownBy(() -> memberService.update(apiKey, memberId, updateRequest("", phone)))
+				.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(MemberErrorCode.PHONE_CONFLICT));
+		assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(MAX_ENTITY_LOADS);
+
+		memberService.update(apiKey, memberId, updateRequest("guard-new-" + UUID.randomUUID() + "@joa.com", "guard-new-" + UUID.randomUUID()));
+	}
+
+	@Test
+	void dashboardRebuildCountsMembersWithoutLoadingThem() {
+		for (int i = 0; i < N; i++) {
+			memberRepository.save(Member.builder().name("guard").email("guard-" + i + "@joa.com").phone("guard-" + UUID.randomUUID()).bank(bank).build());
+		}
+
+		statistics.clear();
+		assertThat(bankAggregateService.rebuild(bank.getId()).memberCount()).isEqualTo(N);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	private MemberUpdateRequestDto updateRequest(String email, String phone) {
+		MemberUpdateRequestDto request = new MemberUpdateRequestDto();
+		request.setName("");
+		request.setPassword("");
+		request.setEmail(email);
+		request.setPhone(phone);
+		return request;
+	}
+}
@@ -0,0 +1,53 @@
+package com.joa.openapi.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+// 컨텍스트가 뜬 시점에 db/migration이 모두 적용되고 인덱스가 의도한 컬럼 순서로 만들어졌는지 확인
+// 검색 SQL이 인덱스를 타는지는 QueryPlanTest
+@SpringBootTest
+@ActiveProfiles("test")
+class MigrationIndexTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private Flyway flyway;
+
+	@Test
+	void migratedBeforeStartup() {
+		assertThat(flyway.info().pending()).isEmpty();
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"transaction | idx_transaction_to_account_created_at | to_account,created_at",
+			"transaction | idx_transaction_from_account_created_at | from_account,created_at",
+			"transaction | idx_transaction_to_bank_id_created_at | to_bank_id,created_at",
+			"transaction | idx_transaction_from_bank_id_created_at | from_bank_id,created_at",
+			"account | idx_account_bank_id_created_at | bank_id,created_at",
+			"member | idx_member_bank_id_email | bank_id,email",
+			"member | idx_member_email | email",
+			"member | idx_member_phone | phone",
+			"account | idx_account_end_date_bank_id | end_date,bank_id",
+			"account | idx_account_bank_id_end_date | bank_id,end_date",
+	})
+	void createsIndex(String table, String index, String columns) {
+		assertThat(String.join(",", indexColumns(table, index))).isEqualTo(columns);
+	}
+
+	private List<String> indexColumns(String table, String index) {
+		return jdbcTemplate.queryForList("SELECT LOWER(column_name) FROM information_schema.index_columns"
+				+ " WHERE LOWER(table_name) = ? AND LOWER(index_name) = ? ORDER BY ordinal_position", String.class, table, index);
+	}
+}
@@ -0,0 +1,127 @@
+package com.joa.openapi.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.transaction.dto.req.TransactionSearchCursor;
+import com.joa.openapi.transaction.dto.req.TransactionSearchRequestDto;
+import com.joa.openapi.transaction.enums.TransactionOrderBy;
+import com.joa.openapi.transaction.repository.TransactionRepository;
+import com.joa.openapi.transaction.service.TransactionBankIdBackfill;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 거래내역 검색(offset, 커서)이 실제로 만드는 SQL을 EXPLAIN해서 은행 별 (은행 id, created_at) 인덱스를 타는지 확인
+ * H2 실행 계획이라 MySQL 옵티마이저와 같지는 않지만, 인덱스로 읽을 수 없는 조건(컬럼이 다른 OR 등)으로 바뀌면 테이블 스캔이 나와서 실패
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.joa.openapi.common.config.QueryPlanTest$SqlCaptor")
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private TransactionRepository transactionRepository;
+	@Autowired
+	private TransactionBankIdBackfill transactionBankIdBackfill;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+
+	private UUID apiKey;
+	private UUID bankId;
+
+	@BeforeEach
+	void setUp() {
+		UUID adminId = UUID.randomUUID();
+		apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		bankId = bankRepository.save(Bank.builder().name("plan").adminId(adminId).build()).getId();
+		bankRepository.save(Bank.builder().name("plan-other").adminId(adminId).build());
+		ReflectionTestUtils.setField(transactionBankIdBackfill, "completed", true);
+	}
+
+	@Test
+	void offsetSearchUsesBankIndexes() {
+		assertUsesBankIndexes(() -> transactionRepository.searchTransactionCustom(request(bankId).build(), PageRequest.of(2, 20)));
+		assertUsesBankIndexes(() -> transactionRepository.searchTransactionCustom(
+				request(bankId).fromDate(LocalDate.now().minusDays(7)).toDate(LocalDate.now()).orderBy(TransactionOrderBy.AMOUNT_DESC).build(),
+				PageRequest.of(0, 20)));
+	}
+
+	@Test
+	void cursorSearchUsesBankIndexes() {
+		TransactionSearchCursor cursor = new TransactionSearchCursor(LocalDateTime.now(), UUID.randomUUID());
+		assertUsesBankIndexes(() -> transactionRepository.searchTransactionCursorCustom(request(bankId).build(), null, 20, true));
+		assertUsesBankIndexes(() -> transactionRepository.searchTransactionCursorCustom(request(bankId).build(), cursor, 20, false));
+		assertUsesBankIndexes(() -> transactionRepository.searchTransactionCursorCustom(
+				request(bankId).orderBy(TransactionOrderBy.OLDEST).build(), cursor, 20, false));
+	}
+
+	@Test
+	void allBanksSearchUsesBankIndexes() {
+		assertUsesBankIndexes(() -> transactionRepository.searchTransactionCursorCustom(request(null).build(), null, 20, false));
+	}
+
+	// 출금 쪽 조회는 from_bank_id, 입금 쪽 조회는 to_bank_id 인덱스
+	private void assertUsesBankIndexes(Runnable search) {
+		List<String> statements = SqlCaptor.capture(search);
+		assertThat(statements).isNotEmpty();
+		for (String sql : statements) {
+			String plan = explain(sql);
+			String where = sql.substring(sql.indexOf(" where "));
+			String index = where.contains("to_bank_id") ? "idx_transaction_to_bank_id_created_at" : "idx_transaction_from_bank_id_created_at";
+			assertThat(plan).as(sql + "\n" + plan).contains(index).doesNotContain("tablescan");
+		}
+	}
+
+	// 바인딩 값 없이 계획만 확인
+	private String explain(String sql) {
+		int parameters = sql.length() - sql.replace("?", "").length();
+		return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, new Object[parameters])).toLowerCase();
+	}
+
+	private TransactionSearchRequestDto.TransactionSearchRequestDtoBuilder request(UUID bankId) {
+		return TransactionSearchRequestDto.builder().apiKey(apiKey).bankId(bankId);
+	}
+
+	// 테스트 스레드에서 실행한 거래내역 조회 SQL 수집 (스케줄 작업 등 다른 스레드의 SQL 제외)
+	public static class SqlCaptor implements StatementInspector {
+
+		private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+		static List<String> capture(Runnable runnable) {
+			List<String> statements = new ArrayList<>();
+			CAPTURED.set(statements);
+			try {
+				runnable.run();
+			} finally {
+				CAPTURED.remove();
+			}
+			return statements;
+		}
+
+		@Override
+		public String inspect(String sql) {
+			List<String> statements = CAPTURED.get();
+			if (statements != null && sql.contains(" from transaction ")) statements.add(sql);
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package com.joa.openapi.common.config;
+
+import com.joa.openapi.OpenapiApplication;
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.repository.ApiRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 풀, 최대 200개)와 가상 스레드(virtual-threads 프로필)에서
+ * 입금, 거래내역 검색의 p99 지연과 동시에 처리 중인 요청 수 비교 (./gradlew benchmark)
+ * 가상 스레드는 JDK 21에서만 켜짐: JAVA_HOME=<JDK 21> ./gradlew benchmark -PjavaVersion=21 --tests '*VirtualThreadLoadBenchmarkTest'
+ * H2 메모리 DB라 네트워크 대기가 없으므로 downstream-millis만큼 기다리는 필터로 MySQL, Redis 왕복을 흉내 냄
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+	private static final int CLIENTS = 400;
+	private static final int REQUESTS_PER_CLIENT = 5;
+	private static final int ACCOUNTS = 100;
+	private static final int POOL_SIZE = 30;
+
+	private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+	@Test
+	void compareThreadingModes() throws Exception {
+		for (long downstreamMillis : new long[]{0, 50}) {
+			run(false, downstreamMillis);
+			run(true, downstreamMillis);
+		}
+	}
+
+	private void run(boolean virtual, long downstreamMillis) throws Exception {
+		String[] profiles = virtual ? new String[]{"test", "virtual-threads"} : new String[]{"test"};
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OpenapiApplication.class, InFlightFilter.class)
+				.profiles(profiles)
+				.properties("server.port=0", "load.downstream-millis=" + downstreamMillis,
+						"spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE)
+				.run()) {
+			String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+			InFlightFilter inFlight = context.getBean(InFlightFilter.class);
+
+			UUID adminId = UUID.randomUUID();
+			UUID apiKey = context.getBean(ApiRepository.class).save(Api.builder().adminId(adminId).build()).getApiKey();
+			UUID bankId = context.getBean(BankRepository.class).save(Bank.builder().name("load").adminId(adminId).build()).getId();
+			AccountRepository accountRepository = context.getBean(AccountRepository.class);
+			for (int i = 0; i < ACCOUNTS; i++) {
+				accountRepository.save(Account.builder().id(accountId(i)).balance(0L).bankId(bankId).build());
+			}
+
+			IntFunction<HttpRequest> deposit = i -> HttpRequest.newBuilder(URI.create(baseUrl + "/v1/transaction/deposit"))
+					.header("apiKey", apiKey.toString())
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString("{\"amount\":1,\"toAccount\":\"" + accountId(i % ACCOUNTS) + "\"}"))
+					.build();
+			IntFunction<HttpRequest> search = i -> HttpRequest.newBuilder(URI.create(baseUrl + "/v1/transaction/search?bankId=" + bankId + "&size=20"))
+					.header("apiKey", apiKey.toString())
+					.GET()
+					.build();
+
+			String mode = "threads=" + (virtual ? "virtual" : "platform") + " downstream=" + downstreamMillis + "ms";
+			load(deposit, inFlight);
+			System.out.printf("[benchmark] %s deposit %s%n", mode, load(deposit, inFlight));
+			load(search, inFlight);
+			System.out.printf("[benchmark] %s search %s%n", mode, load(search, inFlight));
+		}
+	}
+
+	// CLIENTS개의 클라이언트가 동시에 REQUESTS_PER_CLIENT번씩 요청
+	private String load(IntFunction<HttpRequest> request, InFlightFilter inFlight) throws Exception {
+		inFlight.reset();
+		ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+		AtomicInteger errors = new AtomicInteger();
+		List<Future<long[]>> futures = new ArrayList<>();
+		long start = System.nanoTime();
+		for (int c = 0; c < CLIENTS; c++) {
+			int client = c;
+			futures.add(clients.submit(() -> {
+				long[] latencies = new long[REQUESTS_PER_CLIENT];
+				for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+					long sent = System.nanoTime();
+					HttpResponse<Void> response = this.client.send(request.apply(client * REQUESTS_PER_CLIENT + i), HttpResponse.BodyHandlers.discarding());
+					latencies[i] = System.nanoTime() - sent;
+					if (response.statusCode() != 200) errors.incrementAndGet();
+				}
+				return latencies;
+			}));
+		}
+
+		long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+		for (int c = 0; c < CLIENTS; c++) {
+			System.arraycopy(futures.get(c).get(), 0, latencies, c * REQUESTS_PER_CLIENT, REQUESTS_PER_CLIENT);
+		}
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		clients.shutdown();
+
+		Arrays.sort(latencies);
+		return String.format("p50=%.1fms p99=%.1fms max=%.1fms rps=%d maxInFlight=%d errors=%d thread=%s",
+				millis(latencies[latencies.length / 2]), millis(latencies[latencies.length * 99 / 100]), millis(latencies[latencies.length - 1]),
+				(long) (latencies.length / seconds), inFlight.max.get(), errors.get(), inFlight.threadType);
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	private static String accountId(int i) {
+		return String.format("L%013d", i);
+	}
+
+	// 서버에서 동시에 처리 중인 요청 수와 요청을 처리한 스레드 종류 기록, 처리 전에 downstream-millis만큼 대기
+	static class InFlightFilter extends OncePerRequestFilter {
+
+		private final AtomicInteger current = new AtomicInteger();
+		private final AtomicInteger max = new AtomicInteger();
+		private volatile String threadType;
+
+		@Value("${load.downstream-millis}")
+		private long downstreamMillis;
+
+		void reset() {
+			max.set(0);
+		}
+
+		@Override
+		protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+				throws ServletException, IOException {
+			max.accumulateAndGet(current.incrementAndGet(), Math::max);
+			threadType = Thread.currentThread().getClass().getSimpleName();
+			try {
+				if (downstreamMillis > 0) Thread.sleep(downstreamMillis);
+				filterChain.doFilter(request, response);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				current.decrementAndGet();
+			}
+		}
+	}
+}
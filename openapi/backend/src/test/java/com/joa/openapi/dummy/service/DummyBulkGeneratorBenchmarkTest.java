@@ -0,0 +1,80 @@
+package com.joa.openapi.dummy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.dummy.dto.DummyJobResponseDto;
+import com.joa.openapi.dummy.dto.DummyMemberRequestDto;
+import com.joa.openapi.dummy.dto.DummyResponseDto;
+import com.joa.openapi.dummy.enums.DummyStatus;
+import com.joa.openapi.member.repository.MemberRepository;
+import com.joa.openapi.product.entity.Product;
+import com.joa.openapi.product.enums.PaymentType;
+import com.joa.openapi.product.enums.ProductType;
+import com.joa.openapi.product.repository.ProductRepository;
+import com.joa.openapi.transaction.repository.TransactionRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+// 더미 멤버+계좌 대량 생성 처리량 측정 (./gradlew benchmark)
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext // 전체 행 수를 세므로 다른 벤치마크와 DB를 같이 쓰지 않음
+class DummyBulkGeneratorBenchmarkTest {
+
+	private static final int MEMBERS = 50_000;
+
+	@Autowired
+	private DummyService dummyService;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Test
+	void createMembers() throws InterruptedException {
+		UUID adminId = UUID.randomUUID();
+		UUID apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		Bank bank = bankRepository.save(Bank.builder().name("bench").adminId(adminId).build());
+		productRepository.save(Product.builder().name("bench").rate(1.0).productType(ProductType.ORDINARY_DEPOSIT)
+				.paymentType(PaymentType.SIMPLE).isDone(false).productsBank(bank).build());
+
+		long start = System.nanoTime();
+		DummyResponseDto dummy = dummyService.createMember(apiKey, new DummyMemberRequestDto("bench", MEMBERS, bank.getId()));
+		assertThat(dummy.getStatus()).isEqualTo(DummyStatus.QUEUED);
+
+		// 작업 등록 후 바로 반환되므로 진행 상황을 폴링
+		DummyJobResponseDto job = dummyService.searchJob(apiKey, dummy.getDummyId());
+		while (job.getStatus() == DummyStatus.QUEUED || job.getStatus() == DummyStatus.RUNNING) {
+			Thread.sleep(200);
+			job = dummyService.searchJob(apiKey, dummy.getDummyId());
+		}
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		System.out.printf("[benchmark] dummy members=%d elapsed=%.2fs members+accounts/s=%.0f (job %.0f rows/s)%n",
+				MEMBERS, seconds, MEMBERS / seconds, job.getRowsPerSecond());
+
+		assertThat(job.getStatus()).isEqualTo(DummyStatus.COMPLETED);
+		assertThat(job.getGeneratedCount()).isEqualTo(MEMBERS);
+		assertThat(memberRepository.count()).isEqualTo(MEMBERS);
+		assertThat(accountRepository.count()).isEqualTo(MEMBERS);
+		assertThat(transactionRepository.count()).isEqualTo(MEMBERS);
+	}
+}
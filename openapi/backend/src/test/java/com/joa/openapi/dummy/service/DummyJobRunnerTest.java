@@ -0,0 +1,58 @@
+package com.joa.openapi.dummy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.common.util.UuidBytes;
+import com.joa.openapi.dummy.entity.Dummy;
+import com.joa.openapi.dummy.entity.DummyMacro;
+import com.joa.openapi.dummy.enums.DummyStatus;
+import com.joa.openapi.dummy.enums.RepeatTime;
+import com.joa.openapi.dummy.repository.DummyMacroRepository;
+import com.joa.openapi.dummy.repository.DummyRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DummyJobRunnerTest {
+
+	@Autowired
+	private DummyJobRunner dummyJobRunner;
+	@Autowired
+	private DummyRepository dummyRepository;
+	@Autowired
+	private DummyMacroRepository dummyMacroRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void failsAbandonedJobsButNotMacros() {
+		UUID adminId = UUID.randomUUID();
+		Dummy abandoned = dummy(adminId);
+		Dummy macroDummy = dummy(adminId);
+		dummyMacroRepository.save(DummyMacro.builder().adminId(adminId).dummy(macroDummy).term(RepeatTime.DAY).count(1)
+				.users(List.of(UUID.randomUUID())).isPaused(true).runCount(0L).failCount(0L).build());
+
+		// 서버가 종료돼서 heartbeat가 lease보다 오래 없는 작업, 하루에 한 번 도는 매크로 더미도 그동안 갱신되지 않음
+		Timestamp stale = Timestamp.valueOf(LocalDateTime.now().minusHours(1));
+		jdbcTemplate.update("UPDATE dummy SET updated_at = ? WHERE id IN (?, ?)", stale,
+				UuidBytes.toBytes(abandoned.getId()), UuidBytes.toBytes(macroDummy.getId()));
+
+		dummyJobRunner.heartbeat();
+
+		assertThat(dummyRepository.findById(abandoned.getId()).orElseThrow().getStatus()).isEqualTo(DummyStatus.FAILED);
+		assertThat(dummyRepository.findById(macroDummy.getId()).orElseThrow().getStatus()).isEqualTo(DummyStatus.RUNNING);
+	}
+
+	private Dummy dummy(UUID adminId) {
+		return dummyRepository.save(Dummy.builder().name("job-runner").adminId(adminId).transactionCount(1).generatedCount(0)
+				.status(DummyStatus.RUNNING).startedAt(LocalDateTime.now()).build());
+	}
+}
@@ -0,0 +1,170 @@
+package com.joa.openapi.dummy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.util.UuidBytes;
+import com.joa.openapi.dummy.dto.DummyMacroResponseDto;
+import com.joa.openapi.dummy.dto.DummyTransactionRequestDto;
+import com.joa.openapi.dummy.entity.DummyMacro;
+import com.joa.openapi.dummy.enums.DummyStatus;
+import com.joa.openapi.dummy.enums.RepeatTime;
+import com.joa.openapi.dummy.errorcode.DummyErrorCode;
+import com.joa.openapi.dummy.repository.DummyMacroRepository;
+import com.joa.openapi.dummy.repository.DummyRepository;
+import com.joa.openapi.member.entity.Member;
+import com.joa.openapi.member.repository.MemberRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DummyMacroServiceTest {
+
+	@Autowired
+	private DummyMacroService dummyMacroService;
+	@Autowired
+	private DummyMacroScheduler dummyMacroScheduler;
+	@Autowired
+	private DummyMacroRepository dummyMacroRepository;
+	@Autowired
+	private DummyRepository dummyRepository;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UUID adminId;
+	private UUID apiKey;
+
+	@BeforeEach
+	void setUp() {
+		adminId = UUID.randomUUID();
+		apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+	}
+
+	@Test
+	void pauseResumeAndDeleteUpdateSchedule() {
+		DummyMacroResponseDto macro = create(apiKey, 1);
+		UUID macroId = macro.getMacroId();
+		assertThat(scheduled()).containsKey(macroId);
+
+		assertThat(dummyMacroService.pause(apiKey, macroId).getIsPaused()).isTrue();
+		assertThat(scheduled()).doesNotContainKey(macroId);
+
+		assertThat(dummyMacroService.resume(apiKey, macroId).getIsPaused()).isFalse();
+		assertThat(scheduled()).containsKey(macroId);
+
+		// 다른 관리자의 매크로는 변경 불가
+		UUID otherApiKey = apiRepository.save(Api.builder().adminId(UUID.randomUUID()).build()).getApiKey();
+		assertThatThrownBy(() -> dummyMacroService.pause(otherApiKey, macroId)).isInstanceOf(RestApiException.class);
+		assertThat(scheduled()).containsKey(macroId);
+
+		// 매크로만 지우고 더미(거래내역)는 완료 상태로 남김
+		dummyMacroService.delete(apiKey, macroId);
+		assertThat(scheduled()).doesNotContainKey(macroId);
+		assertThat(dummyMacroService.searchAll(apiKey)).isEmpty();
+		assertThat(dummyRepository.findById(macro.getDummyId()).orElseThrow().getStatus()).isEqualTo(DummyStatus.COMPLETED);
+	}
+
+	@Test
+	void limitsMacrosPerAdmin() {
+		Object maxPerAdmin = ReflectionTestUtils.getField(dummyMacroService, "maxPerAdmin");
+		ReflectionTestUtils.setField(dummyMacroService, "maxPerAdmin", 2);
+		try {
+			create(apiKey, 1);
+			DummyMacroResponseDto second = create(apiKey, 1);
+			assertThatThrownBy(() -> create(apiKey, 1))
+					.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(DummyErrorCode.TOO_MANY_MACRO));
+
+			// 관리자 별 제한, 지운 매크로는 세지 않음
+			UUID otherApiKey = apiRepository.save(Api.builder().adminId(UUID.randomUUID()).build()).getApiKey();
+			dummyMacroService.delete(otherApiKey, create(otherApiKey, 1).getMacroId());
+			dummyMacroService.delete(apiKey, second.getMacroId());
+			create(apiKey, 1);
+		} finally {
+			ReflectionTestUtils.setField(dummyMacroService, "maxPerAdmin", maxPerAdmin);
+			dummyMacroService.searchAll(apiKey).forEach(macro -> dummyMacroService.delete(apiKey, macro.getMacroId()));
+		}
+
+		int maxCountPerRun = (int) ReflectionTestUtils.getField(dummyMacroService, "maxCountPerRun");
+		for (int count : new int[]{0, maxCountPerRun + 1}) {
+			assertThatThrownBy(() -> create(apiKey, count))
+					.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(DummyErrorCode.MACRO_COUNT_TOO_LARGE));
+		}
+	}
+
+	@Test
+	void runsOncePerPeriod() {
+		Bank bank = bankRepository.save(Bank.builder().name("macro").adminId(adminId).build());
+		List<UUID> users = List.of(member(bank), member(bank));
+		DummyMacroResponseDto macro = create(apiKey, 5, users);
+		UUID macroId = macro.getMacroId();
+		try {
+			// 여러 서버(또는 밀린 실행)가 같은 주기에 실행해도 claimRun을 얻은 한 번만 생성
+			dummyMacroService.run(macroId);
+			dummyMacroService.run(macroId);
+			DummyMacro ran = dummyMacroRepository.findById(macroId).orElseThrow();
+			assertThat(ran.getRunCount()).isEqualTo(1L);
+			assertThat(ran.getFailCount()).isZero();
+			assertThat(dummyRepository.findById(macro.getDummyId()).orElseThrow().getTransactionCount()).isEqualTo(5);
+
+			// 주기 절반 이상 지나면 다음 회차
+			jdbcTemplate.update("UPDATE dummy_macro SET last_run_at = ? WHERE id = ?",
+					Timestamp.valueOf(LocalDateTime.now().minus(RepeatTime.DAY.getInterval())), UuidBytes.toBytes(macroId));
+			dummyMacroService.run(macroId);
+			assertThat(dummyMacroRepository.findById(macroId).orElseThrow().getRunCount()).isEqualTo(2L);
+
+			// 일시정지한 매크로는 실행권을 얻지 못함
+			dummyMacroService.pause(apiKey, macroId);
+			assertThat(dummyMacroRepository.claimRun(macroId, LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(1))).isZero();
+		} finally {
+			dummyMacroService.delete(apiKey, macroId);
+		}
+	}
+
+	private DummyMacroResponseDto create(UUID apiKey, int count) {
+		return create(apiKey, count, List.of(UUID.randomUUID()));
+	}
+
+	// 하루에 한 번(자정)이라 테스트 중에 스케줄러가 실행하지 않음
+	private DummyMacroResponseDto create(UUID apiKey, int count, List<UUID> users) {
+		UUID dummyId = dummyMacroService.create(apiKey, DummyTransactionRequestDto.builder()
+				.count(count).term(RepeatTime.DAY).users(users).build()).getDummyId();
+		return dummyMacroService.searchAll(apiKey).stream().filter(macro -> macro.getDummyId().equals(dummyId)).findFirst().orElseThrow();
+	}
+
+	private UUID member(Bank bank) {
+		Member member = memberRepository.save(Member.builder().name("macro").bank(bank).build());
+		accountRepository.save(Account.builder().id("macro-" + UUID.randomUUID()).balance(1_000_000L).bankId(bank.getId()).holder(member).build());
+		return member.getId();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<UUID, ?> scheduled() {
+		return (Map<UUID, ?>) ReflectionTestUtils.getField(dummyMacroScheduler, "scheduled");
+	}
+}
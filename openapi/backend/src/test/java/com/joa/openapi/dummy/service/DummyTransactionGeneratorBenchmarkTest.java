@@ -0,0 +1,90 @@
+package com.joa.openapi.dummy.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.dummy.dto.DummyJobResponseDto;
+import com.joa.openapi.dummy.dto.DummyResponseDto;
+import com.joa.openapi.dummy.dto.DummyTransactionRequestDto;
+import com.joa.openapi.dummy.enums.DummyStatus;
+import com.joa.openapi.member.entity.Member;
+import com.joa.openapi.member.repository.MemberRepository;
+import com.joa.openapi.transaction.repository.TransactionRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+// 거래내역 더미 생성 처리량 측정 (./gradlew benchmark), 생성 후 잔액 합계가 거래내역과 맞는지 확인
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext // 전체 행 수를 세므로 다른 벤치마크와 DB를 같이 쓰지 않음
+class DummyTransactionGeneratorBenchmarkTest {
+
+	private static final int MEMBERS = 100;
+	private static final int ACCOUNTS_PER_MEMBER = 2;
+	private static final long INITIAL_BALANCE = 100000L;
+	private static final int TRANSACTIONS = 100_000;
+
+	@Autowired
+	private DummyService dummyService;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private TransactionRepository transactionRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void createTransactions() throws InterruptedException {
+		UUID adminId = UUID.randomUUID();
+		UUID apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		Bank bank = bankRepository.save(Bank.builder().name("bench").adminId(adminId).build());
+
+		List<UUID> users = new ArrayList<>();
+		for (int i = 0; i < MEMBERS; i++) {
+			Member member = memberRepository.save(Member.builder().name("bench" + i).bank(bank).build());
+			users.add(member.getId());
+			for (int j = 0; j < ACCOUNTS_PER_MEMBER; j++) {
+				accountRepository.save(Account.builder().id(i + "-" + j).balance(INITIAL_BALANCE).bankId(bank.getId()).holder(member).build());
+			}
+		}
+
+		long start = System.nanoTime();
+		DummyResponseDto dummy = dummyService.createTransaction(apiKey, new DummyTransactionRequestDto("bench", TRANSACTIONS, null, bank.getId(), users));
+		DummyJobResponseDto job = dummyService.searchJob(apiKey, dummy.getDummyId());
+		while (job.getStatus() == DummyStatus.QUEUED || job.getStatus() == DummyStatus.RUNNING) {
+			Thread.sleep(100);
+			job = dummyService.searchJob(apiKey, dummy.getDummyId());
+		}
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		System.out.printf("[benchmark] dummy transactions=%d elapsed=%.2fs transactions/s=%.0f%n", TRANSACTIONS, seconds, TRANSACTIONS / seconds);
+
+		assertThat(job.getStatus()).isEqualTo(DummyStatus.COMPLETED);
+		assertThat(transactionRepository.count()).isEqualTo(TRANSACTIONS);
+
+		long deposits = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) FROM transaction WHERE from_account IS NULL", Long.class);
+		long withdrawals = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) FROM transaction WHERE to_account IS NULL", Long.class);
+		long total = jdbcTemplate.queryForObject("SELECT SUM(balance) FROM account", Long.class);
+		assertThat(total).isEqualTo(MEMBERS * ACCOUNTS_PER_MEMBER * INITIAL_BALANCE + deposits - withdrawals);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM account WHERE balance < 0", Integer.class)).isZero();
+	}
+}
@@ -0,0 +1,128 @@
+package com.joa.openapi.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.joa.openapi.account.enums.TaxType;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.product.dto.req.ProductRateBulkRequestDto;
+import com.joa.openapi.product.dto.req.ProductRatePointDto;
+import com.joa.openapi.product.dto.req.ProductRateRequestDto;
+import com.joa.openapi.product.dto.res.ProductRateBulkResponseDto;
+import com.joa.openapi.product.dto.res.ProductRateQuoteDto;
+import com.joa.openapi.product.dto.res.ProductRateResponseDto;
+import com.joa.openapi.product.entity.Product;
+import com.joa.openapi.product.enums.PaymentType;
+import com.joa.openapi.product.enums.ProductType;
+import com.joa.openapi.product.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DepositAccountServiceTest {
+
+	@Autowired
+	private DepositAccountService depositAccountService;
+	@Autowired
+	private ProductService productService;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private UUID apiKey;
+	private UUID productId;
+
+	@BeforeEach
+	void setUp() {
+		UUID adminId = UUID.randomUUID();
+		apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		Bank bank = bankRepository.save(Bank.builder().name("quote").adminId(adminId).build());
+		productId = productRepository.save(Product.builder().name("quote").productType(ProductType.FIXED_DEPOSIT)
+				.paymentType(PaymentType.COMPOUND).rate(3.5).isDone(false).productsBank(bank).build()).getId();
+	}
+
+	@Test
+	void bulkQuotesMatchSingleQuotes() {
+		List<ProductRatePointDto> points = grid(10);
+		ProductRateBulkResponseDto bulk = depositAccountService.calculateRates(apiKey, new ProductRateBulkRequestDto(productId, points));
+
+		assertThat(bulk.getQuotes()).hasSize(points.size());
+		for (int i = 0; i < points.size(); i++) {
+			ProductRatePointDto point = points.get(i);
+			ProductRateResponseDto single = depositAccountService.calculateRate(apiKey,
+					new ProductRateRequestDto(point.getAmount(), point.getTerm(), point.getTaxType(), productId));
+			ProductRateQuoteDto quote = bulk.getQuotes().get(i);
+			assertThat(quote.getTerm()).isEqualTo(point.getTerm());
+			assertThat(quote.getTotalAmount()).isEqualTo(single.getTotalAmount());
+			assertThat(quote.getInterest()).isEqualTo(single.getInterest());
+			assertThat(quote.getTaxInterest()).isEqualTo(single.getTaxInterest());
+			assertThat(quote.getCalculatedInterest()).isEqualTo(single.getCalculatedInterest());
+		}
+	}
+
+	@Test
+	void readsProductOnceAndEvictsOnDelete() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		depositAccountService.calculateRates(apiKey, new ProductRateBulkRequestDto(productId, grid(5)));
+
+		statistics.clear();
+		depositAccountService.calculateRates(apiKey, new ProductRateBulkRequestDto(productId, grid(5)));
+		assertThat(statistics.getEntityLoadCount()).isZero();
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+
+		productService.delete(apiKey, productId);
+		assertThatThrownBy(() -> depositAccountService.calculateRates(apiKey, new ProductRateBulkRequestDto(productId, grid(1))))
+				.isInstanceOf(RestApiException.class);
+	}
+
+	// 슬라이더 구간 전체를 한 번에 계산할 때 조건 하나당 비용 (./gradlew benchmark)
+	@Tag("benchmark")
+	@Test
+	void bulkQuoteThroughput() {
+		ProductRateBulkRequestDto request = new ProductRateBulkRequestDto(productId, grid(100));
+		for (int i = 0; i < 20; i++) {
+			depositAccountService.calculateRates(apiKey, request);
+		}
+
+		int rounds = 200;
+		long start = System.nanoTime();
+		for (int i = 0; i < rounds; i++) {
+			depositAccountService.calculateRates(apiKey, request);
+		}
+		double micros = (System.nanoTime() - start) / 1_000.0 / rounds / request.getPoints().size();
+		System.out.printf("[benchmark] bulk quote points=%d per point=%.2fus%n", request.getPoints().size(), micros);
+	}
+
+	// 금액 size개 x 기간 6, 12, 24, 36개월 x 과세/비과세
+	private List<ProductRatePointDto> grid(int size) {
+		List<ProductRatePointDto> points = new ArrayList<>();
+		for (int i = 1; i <= size; i++) {
+			for (int term : new int[]{6, 12, 24, 36}) {
+				for (TaxType taxType : TaxType.values()) {
+					points.add(new ProductRatePointDto(i * 100_000L, term, taxType));
+				}
+			}
+		}
+		return points;
+	}
+}
@@ -0,0 +1,83 @@
+package com.joa.openapi.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.product.enums.PaymentType;
+import com.joa.openapi.product.enums.ProductType;
+import com.joa.openapi.product.service.InterestEngine.GrowthFactor;
+import java.util.Random;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// 만기 이자 계산 처리량을 예전 계좌별 Math.pow 반복문 / InterestEngine 배열 계산으로 비교 (./gradlew benchmark)
+@Tag("benchmark")
+class InterestEngineBenchmarkTest {
+
+	private static final int ACCOUNTS = 1_000_000;
+	private static final int WARMUP = 3;
+	private static final int ROUNDS = 5;
+	private static final double[] RATES = {2.5, 3.0, 3.5, 4.0, 4.5};
+	private static final int[] TERMS = {6, 12, 24, 36};
+
+	private final InterestEngine interestEngine = new InterestEngine();
+
+	@Test
+	void fixedDepositCompoundThroughput() {
+		Random random = new Random(42);
+		long[] principals = new long[ACCOUNTS];
+		double[] rates = new double[ACCOUNTS];
+		int[] terms = new int[ACCOUNTS];
+		for (int i = 0; i < ACCOUNTS; i++) {
+			principals[i] = random.nextLong(10_000L, 10_000_000L);
+			rates[i] = RATES[random.nextInt(RATES.length)];
+			terms[i] = TERMS[random.nextInt(TERMS.length)];
+		}
+
+		long legacy = measure("legacy loop", () -> {
+			long sum = 0;
+			for (int i = 0; i < ACCOUNTS; i++) {
+				sum += legacyFixedDeposit(principals[i], rates[i], terms[i]);
+			}
+			return sum;
+		});
+		long engine = measure("interest engine", () -> {
+			GrowthFactor[] factors = new GrowthFactor[ACCOUNTS];
+			for (int i = 0; i < ACCOUNTS; i++) {
+				factors[i] = interestEngine.factor(ProductType.FIXED_DEPOSIT, PaymentType.COMPOUND, rates[i], terms[i]);
+			}
+			long[] interests = new long[ACCOUNTS];
+			interestEngine.interests(principals, factors, interests);
+			long sum = 0;
+			for (long interest : interests) sum += interest;
+			return sum;
+		});
+
+		// 회차마다 버리므로 예전 계산과 같은 지급액, 예전 double 계산이 정수 경계에서 1원씩 틀리던 회차만 다름 (계좌 1천 개당 1원 이하)
+		assertThat(Math.abs(engine - legacy)).isLessThanOrEqualTo(ACCOUNTS / 1_000);
+	}
+
+	// 변경 전 DepositAccountService.calculateFixedDeposit (월복리)
+	private long legacyFixedDeposit(double monthlyDeposit, double rate, int term) {
+		double monthlyInterestRate = rate / 12 / 100;
+		long interest = 0;
+		for (int i = 0; i < term; i++) {
+			interest += (long) (monthlyDeposit * (Math.pow(1 + monthlyInterestRate, term - i) - 1));
+		}
+		return interest;
+	}
+
+	private long measure(String name, LongSupplier calculation) {
+		long result = 0;
+		for (int i = 0; i < WARMUP; i++) {
+			result = calculation.getAsLong();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++) {
+			result = calculation.getAsLong();
+		}
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0 / ROUNDS;
+		System.out.printf("[benchmark] %s accounts=%d elapsed=%.3fs accounts/s=%.0f%n", name, ACCOUNTS, seconds, ACCOUNTS / seconds);
+		return result;
+	}
+}
@@ -0,0 +1,95 @@
+package com.joa.openapi.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.enums.TaxType;
+import com.joa.openapi.product.enums.PaymentType;
+import com.joa.openapi.product.enums.ProductType;
+import com.joa.openapi.product.service.InterestEngine.GrowthFactor;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class InterestEngineTest {
+
+	private final InterestEngine interestEngine = new InterestEngine();
+
+	@Test
+	void simpleInterestIsExactOnRoundNumbers() {
+		// 1,200,000 * 3% 12개월 = 36,000 (double로 계산하면 35,999.999...가 되는 값)
+		GrowthFactor termDeposit = interestEngine.factor(ProductType.TERM_DEPOSIT, PaymentType.SIMPLE, 3.0, 12);
+		assertThat(interestEngine.interest(1_200_000L, termDeposit)).isEqualTo(36_000L);
+
+		// 3.1%도 0.031로 정확히, 월 납입 100,000 * 3.1%/12 * (1 + ... + 12) = 20,150
+		assertThat(interestEngine.interest(1_000L, interestEngine.factor(ProductType.TERM_DEPOSIT, PaymentType.SIMPLE, 3.1, 12))).isEqualTo(31L);
+		GrowthFactor fixedDeposit = interestEngine.factor(ProductType.FIXED_DEPOSIT, PaymentType.SIMPLE, 3.1, 12);
+		assertThat(interestEngine.interest(100_000L, fixedDeposit)).isEqualTo(20_150L);
+	}
+
+	@Test
+	void compoundInterestMatchesBigDecimal() {
+		Random random = new Random(42);
+		for (int i = 0; i < 10_000; i++) {
+			long principal = random.nextLong(1_000_000_000_000L);
+			double rate = random.nextInt(1, 1_000) / 100.0;
+			int term = random.nextInt(1, 61);
+			GrowthFactor factor = interestEngine.factor(ProductType.TERM_DEPOSIT, PaymentType.COMPOUND, rate, term);
+
+			BigDecimal monthly = BigDecimal.valueOf(rate).divide(BigDecimal.valueOf(1200), 40, RoundingMode.HALF_EVEN);
+			long expected = BigDecimal.valueOf(principal).multiply(BigDecimal.ONE.add(monthly).pow(term).subtract(BigDecimal.ONE))
+					.setScale(0, RoundingMode.FLOOR).longValueExact();
+			assertThat(interestEngine.interest(principal, factor)).as("%d %s %d", principal, rate, term).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void fixedDepositCompoundRoundsPerInstallment() {
+		// 변경 전 DepositAccountService.calculateFixedDeposit (월복리)와 같은 지급액, 회차마다 원 단위 버림
+		long monthly = 333_333L;
+		double rate = 4.5;
+		int term = 24;
+		double monthlyRate = rate / 12 / 100;
+		long perInstallment = 0;
+		for (int i = 0; i < term; i++) {
+			perInstallment += (long) (monthly * (Math.pow(1 + monthlyRate, term - i) - 1));
+		}
+
+		long interest = interestEngine.interest(monthly, interestEngine.factor(ProductType.FIXED_DEPOSIT, PaymentType.COMPOUND, rate, term));
+		assertThat(interest).isEqualTo(perInstallment).isEqualTo(385_997L);
+
+		Random random = new Random(42);
+		for (int n = 0; n < 1_000; n++) {
+			long principal = random.nextLong(10_000L, 10_000_000L);
+			double r = random.nextInt(1, 1_000) / 100.0;
+			int t = random.nextInt(1, 61);
+			BigDecimal growth = BigDecimal.ONE.add(BigDecimal.valueOf(r).divide(BigDecimal.valueOf(1200), 40, RoundingMode.HALF_EVEN));
+			long expected = 0;
+			for (int month = 1; month <= t; month++) {
+				expected += BigDecimal.valueOf(principal).multiply(growth.pow(month).subtract(BigDecimal.ONE))
+						.setScale(0, RoundingMode.FLOOR).longValueExact();
+			}
+			assertThat(interestEngine.interest(principal, interestEngine.factor(ProductType.FIXED_DEPOSIT, PaymentType.COMPOUND, r, t)))
+					.as("%d %s %d", principal, r, t).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void arraysMatchScalar() {
+		long[] principals = {0L, 1L, 1_200_000L, 987_654_321L};
+		GrowthFactor[] factors = {
+				interestEngine.factor(ProductType.TERM_DEPOSIT, PaymentType.SIMPLE, 3.0, 12),
+				interestEngine.factor(ProductType.ORDINARY_DEPOSIT, PaymentType.SIMPLE, 3.0, 0),
+				interestEngine.factor(ProductType.TERM_DEPOSIT, PaymentType.SIMPLE, 3.0, 12),
+				interestEngine.factor(ProductType.FIXED_DEPOSIT, PaymentType.COMPOUND, 2.7, 36)};
+		long[] out = new long[principals.length];
+		interestEngine.interests(principals, factors, out);
+
+		for (int i = 0; i < principals.length; i++) {
+			assertThat(out[i]).isEqualTo(interestEngine.interest(principals[i], factors[i]));
+		}
+		assertThat(out[1]).isZero();
+		assertThat(interestEngine.tax(36_000L, TaxType.TAX)).isEqualTo(5_544L);
+		assertThat(interestEngine.tax(36_000L, TaxType.NO_TAX)).isZero();
+	}
+}
@@ -0,0 +1,164 @@
+package com.joa.openapi.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.enums.TaxType;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.product.entity.Product;
+import com.joa.openapi.product.enums.InterestRunStatus;
+import com.joa.openapi.product.enums.PaymentType;
+import com.joa.openapi.product.enums.ProductType;
+import com.joa.openapi.product.repository.InterestRunRepository;
+import com.joa.openapi.product.repository.InterestRunRepository.Progress;
+import com.joa.openapi.product.repository.InterestRunRepository.Run;
+import com.joa.openapi.product.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class InterestPaymentJobTest {
+
+	// 원금 120만원, 연 3% 단리 12개월, 비과세
+	private static final long AMOUNT = 1_200_000L;
+	private static final long PAYMENT = AMOUNT + 36_000L;
+
+	@Autowired
+	private InterestPaymentJob interestPaymentJob;
+	@Autowired
+	private InterestRunRepository interestRunRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(interestPaymentJob, "chunkSize", 10);
+	}
+
+	@Test
+	void paysEveryBankInChunksOnce() {
+		LocalDate date = LocalDate.now().plusYears(1);
+		UUID bankId = bank();
+		UUID otherBankId = bank();
+		List<String> accounts = accounts(bankId, 25, date);
+		List<String> otherAccounts = accounts(otherBankId, 5, date);
+		String notMatured = accounts(bankId, 1, date.plusDays(1)).get(0);
+
+		assertThat(interestPaymentJob.run(date)).isEqualTo(30);
+
+		assertThat(balances(accounts)).containsOnly(PAYMENT);
+		assertThat(balances(otherAccounts)).containsOnly(PAYMENT);
+		assertThat(balances(List.of(notMatured))).containsOnly(0L);
+		Run run = interestRunRepository.find(date, bankId).orElseThrow();
+		assertThat(run.status()).isEqualTo(InterestRunStatus.COMPLETED);
+		assertThat(run.processedCount()).isEqualTo(25);
+		assertThat(run.paidAmount()).isEqualTo(25 * PAYMENT);
+		assertThat(run.lastAccountId()).isEqualTo(accounts.get(24));
+
+		// 같은 날짜를 다시 실행해도 두 번 지급하지 않음
+		assertThat(interestPaymentJob.run(date)).isZero();
+		assertThat(balances(accounts)).containsOnly(PAYMENT);
+	}
+
+	@Test
+	void resumesFromCheckpoint() {
+		LocalDate date = LocalDate.now().plusYears(2);
+		UUID bankId = bank();
+		List<String> accounts = accounts(bankId, 12, date);
+
+		// 첫 청크 중 5개까지 커밋하고 서버가 죽어서 lease가 끝난 상태
+		UUID runId = UUID.randomUUID();
+		LocalDateTime startedAt = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.MILLIS);
+		interestRunRepository.create(runId, date, bankId, startedAt);
+		interestRunRepository.checkpoint(runId, startedAt, null, new Progress(accounts.get(4), 5, 0, 0), startedAt);
+
+		assertThat(interestPaymentJob.resume()).isEqualTo(7);
+
+		assertThat(balances(accounts.subList(0, 5))).containsOnly(0L);
+		assertThat(balances(accounts.subList(5, 12))).containsOnly(PAYMENT);
+		Run run = interestRunRepository.find(date, bankId).orElseThrow();
+		assertThat(run.status()).isEqualTo(InterestRunStatus.COMPLETED);
+		assertThat(run.processedCount()).isEqualTo(12);
+		assertThat(interestPaymentJob.run(date)).isZero();
+	}
+
+	@Test
+	void doesNotReclaimRunWithLiveLease() {
+		LocalDate date = LocalDate.now().plusYears(4);
+		UUID bankId = bank();
+		List<String> accounts = accounts(bankId, 3, date);
+
+		// 다른 서버에서 실행 중, heartbeat가 방금 갱신됨
+		UUID runId = UUID.randomUUID();
+		LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+		interestRunRepository.create(runId, date, bankId, startedAt);
+
+		interestPaymentJob.resume();
+
+		assertThat(balances(accounts)).containsOnly(0L);
+		assertThat(interestRunRepository.find(date, bankId).orElseThrow().status()).isEqualTo(InterestRunStatus.RUNNING);
+		// lease를 다시 잡은 실행이 있으면 예전 실행은 종료하지 못함
+		assertThat(interestRunRepository.restart(runId, startedAt.plusSeconds(1), startedAt.plusSeconds(2))).isTrue();
+		assertThat(interestRunRepository.finish(runId, startedAt, InterestRunStatus.FAILED, null, "stale", startedAt.plusSeconds(3))).isFalse();
+		assertThat(interestRunRepository.find(date, bankId).orElseThrow().status()).isEqualTo(InterestRunStatus.RUNNING);
+	}
+
+	@Test
+	void readsEachChunkWithOneQuery() {
+		LocalDate date = LocalDate.now().plusYears(3);
+		UUID bankId = bank();
+		accounts(bankId, 25, date);
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		assertThat(interestPaymentJob.run(date)).isEqualTo(25);
+
+		// 청크 3개 + 빈 청크 1개, 계좌, 상품 엔티티는 읽지 않음 (쓰기는 JDBC)
+		assertThat(statistics.getQueryExecutionCount()).isEqualTo(4);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	private UUID bank() {
+		return bankRepository.save(Bank.builder().name("interest").adminId(UUID.randomUUID()).build()).getId();
+	}
+
+	// 계좌번호 순서 = 생성 순서
+	private List<String> accounts(UUID bankId, int count, LocalDate endDate) {
+		Bank bank = bankRepository.findById(bankId).orElseThrow();
+		Product product = productRepository.save(Product.builder().name("interest").productType(ProductType.TERM_DEPOSIT)
+				.paymentType(PaymentType.SIMPLE).rate(3.0).productsBank(bank).build());
+		String prefix = "interest-" + UUID.randomUUID() + "-";
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			ids.add(accountRepository.save(Account.builder().id(prefix + String.format("%03d", i)).balance(0L).amount(AMOUNT).term(12)
+					.taxType(TaxType.NO_TAX).bankId(bankId).product(product).endDate(endDate).build()).getId());
+		}
+		return ids;
+	}
+
+	private List<Long> balances(List<String> accountIds) {
+		return accountRepository.findAllById(accountIds).stream().map(Account::getBalance).toList();
+	}
+}
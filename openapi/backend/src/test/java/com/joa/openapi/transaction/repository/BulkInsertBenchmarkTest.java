@@ -0,0 +1,94 @@
+package com.joa.openapi.transaction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.entity.Transaction;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 거래내역 INSERT 처리량을 batch 없음 / Hibernate batch / JDBC batch로 비교 (./gradlew benchmark)
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext // 전체 행 수를 세므로 다른 벤치마크와 DB를 같이 쓰지 않음
+class BulkInsertBenchmarkTest {
+
+	private static final int ROWS = 20_000;
+
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private TransactionRepository transactionRepository;
+	@Autowired
+	private TransactionBulkRepository transactionBulkRepository;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+	private int batchSize;
+
+	@Test
+	void insertThroughput() {
+		measure("hibernate, no batch", () -> insertWithHibernate(1));
+		measure("hibernate, batch_size=" + batchSize, () -> insertWithHibernate(batchSize));
+		measure("jdbc batch", this::insertWithJdbc);
+
+		assertThat(transactionRepository.count()).isEqualTo(3L * ROWS);
+	}
+
+	private void insertWithHibernate(int jdbcBatchSize) {
+		transactionTemplate.executeWithoutResult(status -> {
+			entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+			for (int i = 0; i < ROWS; i++) {
+				entityManager.persist(Transaction.builder().amount((long) i).depositorName("benchmark").toAccount("to").build());
+				if ((i + 1) % batchSize == 0) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+			}
+		});
+	}
+
+	private void insertWithJdbc() {
+		LocalDateTime now = LocalDateTime.now();
+		transactionTemplate.executeWithoutResult(status -> {
+			List<TransactionResponseDto> chunk = new ArrayList<>(batchSize);
+			for (int i = 0; i < ROWS; i++) {
+				chunk.add(TransactionResponseDto.builder()
+						.transactionId(UUID.randomUUID())
+						.amount((long) i)
+						.depositorName("benchmark")
+						.toAccount("to")
+						.createdAt(now)
+						.updatedAt(now)
+						.build());
+				if (chunk.size() == batchSize) {
+					transactionBulkRepository.insertAll(chunk);
+					chunk.clear();
+				}
+			}
+			if (!chunk.isEmpty())
+				transactionBulkRepository.insertAll(chunk);
+		});
+	}
+
+	private void measure(String name, Runnable insert) {
+		long start = System.nanoTime();
+		insert.run();
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		System.out.printf("[benchmark] %s rows=%d elapsed=%.2fs rows/s=%.0f%n", name, ROWS, seconds, ROWS / seconds);
+	}
+}
@@ -0,0 +1,91 @@
+package com.joa.openapi.transaction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.member.entity.Member;
+import com.joa.openapi.member.repository.MemberRepository;
+import com.joa.openapi.transaction.entity.Transaction;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// bulk 프로필의 JDBC batch 설정이 실제로 적용되는지 PreparedStatement 수로 확인
+@SpringBootTest
+@ActiveProfiles("test")
+class JdbcBatchInsertTest {
+
+	private static final int ROWS = 200;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private TransactionRepository transactionRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private BankRepository bankRepository;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+	}
+
+	@Test
+	void transactionInsertsAreBatched() {
+		List<Transaction> transactions = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++)
+			transactions.add(Transaction.builder().amount((long) i).depositorName("batch").toAccount("to").build());
+
+		statistics.clear();
+		transactionTemplate.executeWithoutResult(status -> transactionRepository.saveAll(transactions));
+
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void interleavedMemberAndAccountInsertsAreOrderedIntoBatches() {
+		Bank bank = bankRepository.save(Bank.builder().name("batch").build());
+
+		statistics.clear();
+		transactionTemplate.executeWithoutResult(status -> {
+			for (int i = 0; i < ROWS; i++) {
+				Member member = memberRepository.save(Member.builder().name("batch").bank(bank).build());
+				accountRepository.save(Account.builder().id(String.format("B%012d", i)).balance(0L).bankId(bank.getId()).holder(member).build());
+			}
+		});
+
+		// order_inserts가 없으면 member, account INSERT가 번갈아 나와서 2 * ROWS개의 문장이 생김
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(2L * ROWS);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+		statistics.clear();
+		transactionTemplate.executeWithoutResult(status ->
+				accountRepository.findAll().stream()
+						.filter(account -> bank.getId().equals(account.getBankId()))
+						.forEach(account -> account.updateBalance(account.getBalance() + 1)));
+
+		// 조회 1번 + @Version 컬럼이 있는 UPDATE batch 1번
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(ROWS);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,177 @@
+package com.joa.openapi.transaction.repository;
+
+import static com.joa.openapi.account.entity.QAccount.account;
+import static com.joa.openapi.transaction.entity.QTransaction.transaction;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.util.UuidBytes;
+import com.joa.openapi.transaction.dto.req.TransactionSearchRequestDto;
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.enums.TransactionOrderBy;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.PersistenceException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 은행 필터를 계좌번호 IN 목록(이전 방식) / 거래의 은행 id로 비교, 계좌 수가 늘어도 SQL 길이가 일정한지 확인 (./gradlew benchmark)
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.joa.openapi.transaction.repository.TransactionBankFilterBenchmarkTest$MaxSqlLength")
+@ActiveProfiles("test")
+@DirtiesContext // SQL 길이를 재는 StatementInspector를 붙인 전용 컨텍스트
+class TransactionBankFilterBenchmarkTest {
+
+	private static final int[] ACCOUNTS = {1_000, 10_000, 100_000};
+	private static final int TRANSACTIONS = 20_000;
+	private static final int PAGE_SIZE = 20;
+	private static final int REPEAT = 5;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+	@Autowired
+	private TransactionBulkRepository transactionBulkRepository;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private JPAQueryFactory jpaQueryFactory;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	public static class MaxSqlLength implements StatementInspector {
+
+		static final AtomicInteger MAX = new AtomicInteger();
+
+		@Override
+		public String inspect(String sql) {
+			MAX.accumulateAndGet(sql.length(), Math::max);
+			return sql;
+		}
+	}
+
+	@Test
+	void sqlSizeIndependentOfAccountCount() {
+		Map<Integer, Integer> bankIdSqlLength = new LinkedHashMap<>();
+
+		for (int accounts : ACCOUNTS) {
+			TransactionSearchRequestDto req = prepare(accounts);
+
+			long[] oldTotal = {-1L};
+			Measured inList = measureOrNull(() -> {
+				// 이전 방식: 은행의 계좌번호를 모두 읽어서 IN 목록으로 펼침
+				List<String> accountIds = jpaQueryFactory.select(account.id).from(account)
+						.where(account.bankId.eq(req.getBankId())).orderBy(account.createdAt.desc()).fetch();
+				BooleanExpression inAccounts = transaction.fromAccount.in(accountIds).or(transaction.toAccount.in(accountIds));
+				oldTotal[0] = jpaQueryFactory.select(transaction.count()).from(transaction).where(inAccounts).fetchOne();
+				return jpaQueryFactory.selectFrom(transaction).where(inAccounts)
+						.orderBy(transaction.createdAt.desc()).offset(0).limit(PAGE_SIZE).fetch().size();
+			});
+
+			long[] newTotal = new long[1];
+			Measured bankId = measure(() -> {
+				var page = transactionRepository.searchTransactionCustom(req, PageRequest.of(0, PAGE_SIZE));
+				newTotal[0] = page.getTotalElements();
+				return page.getContent().size();
+			});
+
+			System.out.printf("[benchmark] bank filter accounts=%d transactions=%d | in-list %s | bank id sql=%d chars %.1fms%n",
+					accounts, TRANSACTIONS,
+					inList == null ? "failed (too many parameters)" : String.format("sql=%d chars %.1fms", inList.sqlLength(), inList.millis()),
+					bankId.sqlLength(), bankId.millis());
+
+			assertThat(newTotal[0]).isEqualTo(TRANSACTIONS);
+			if (inList != null) {
+				assertThat(oldTotal[0]).isEqualTo(TRANSACTIONS);
+			}
+			bankIdSqlLength.put(accounts, bankId.sqlLength());
+		}
+
+		assertThat(bankIdSqlLength.values()).containsOnly(bankIdSqlLength.get(ACCOUNTS[0]));
+	}
+
+	// 관리자, 은행, 계좌 accounts개를 만들고 계좌 사이 이체 거래내역 TRANSACTIONS개
+	private TransactionSearchRequestDto prepare(int accounts) {
+		UUID adminId = UUID.randomUUID();
+		UUID apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		Bank bank = bankRepository.save(Bank.builder().name("bank-filter").adminId(adminId).build());
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		List<String> accountIds = new ArrayList<>(accounts);
+		List<Object[]> rows = new ArrayList<>(accounts);
+		for (int i = 0; i < accounts; i++) {
+			String accountId = bank.getId() + "-" + i;
+			accountIds.add(accountId);
+			rows.add(new Object[]{accountId, 0L, UuidBytes.toBytes(bank.getId()), 0L, now, now, false});
+		}
+		transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+				"INSERT INTO account (id, balance, bank_id, version, created_at, updated_at, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?)", rows));
+
+		Random random = new Random(accounts);
+		LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+		List<TransactionResponseDto> transactions = new ArrayList<>(TRANSACTIONS);
+		for (int i = 0; i < TRANSACTIONS; i++) {
+			transactions.add(TransactionResponseDto.builder()
+					.transactionId(UUID.randomUUID())
+					.amount(1L)
+					.depositorName("bank-filter")
+					.fromAccount(accountIds.get(random.nextInt(accounts)))
+					.fromBankId(bank.getId())
+					.toAccount(accountIds.get(random.nextInt(accounts)))
+					.toBankId(bank.getId())
+					.createdAt(base.plusSeconds(i))
+					.updatedAt(base.plusSeconds(i))
+					.build());
+		}
+		transactionTemplate.executeWithoutResult(status -> transactionBulkRepository.insertAll(transactions));
+
+		return TransactionSearchRequestDto.builder().apiKey(apiKey).bankId(bank.getId()).orderBy(TransactionOrderBy.LATEST).build();
+	}
+
+	private record Measured(int sqlLength, double millis) {}
+
+	// 계좌번호가 DB 파라미터 한도(H2 100000개, MySQL 65535개)를 넘으면 IN 목록 쿼리는 실패
+	private Measured measureOrNull(Supplier<Integer> page) {
+		try {
+			return measure(page);
+		} catch (PersistenceException e) {
+			return null;
+		}
+	}
+
+	// 워밍업 1번 후 평균 (ms), 그동안 실행된 가장 긴 SQL 길이
+	private Measured measure(Supplier<Integer> page) {
+		page.get();
+		MaxSqlLength.MAX.set(0);
+		long start = System.nanoTime();
+		for (int i = 0; i < REPEAT; i++) {
+			assertThat(page.get()).isEqualTo(PAGE_SIZE);
+		}
+		return new Measured(MaxSqlLength.MAX.get(), (System.nanoTime() - start) / 1_000_000.0 / REPEAT);
+	}
+}
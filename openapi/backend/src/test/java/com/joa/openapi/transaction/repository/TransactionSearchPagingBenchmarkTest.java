@@ -0,0 +1,141 @@
+package com.joa.openapi.transaction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.transaction.dto.req.TransactionSearchCursor;
+import com.joa.openapi.transaction.dto.req.TransactionSearchRequestDto;
+import com.joa.openapi.transaction.dto.res.TransactionCursorPageDto;
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.dto.res.TransactionSearchResponseDto;
+import com.joa.openapi.transaction.enums.TransactionOrderBy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 거래내역 검색 페이지 비용을 offset / 커서로 비교 (./gradlew benchmark), 커서로 끝까지 넘기면 모든 행을 한 번씩만 읽는지 확인
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext // 거래내역 20만 행을 넣으므로 다른 벤치마크와 DB를 같이 쓰지 않음
+class TransactionSearchPagingBenchmarkTest {
+
+	private static final int ROWS = 200_000;
+	private static final int PAGE_SIZE = 20;
+	private static final int CHUNK = 5_000;
+	private static final int REPEAT = 5;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+	@Autowired
+	private TransactionBulkRepository transactionBulkRepository;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void deepPages() {
+		LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+		TransactionSearchRequestDto req = prepare(ROWS, i -> base.plusSeconds(i));
+
+		// 최신순 마지막 페이지 직전 행 = 과거순 PAGE_SIZE번째 행
+		TransactionSearchResponseDto deep = transactionRepository.searchTransactionCursorCustom(oldest(req), null, PAGE_SIZE, false)
+				.getContent().get(PAGE_SIZE - 1);
+		TransactionSearchCursor deepCursor = new TransactionSearchCursor(base.plusSeconds(PAGE_SIZE - 1), deep.getTransactionId());
+
+		double offsetFirst = measure(() -> transactionRepository.searchTransactionCustom(req, PageRequest.of(0, PAGE_SIZE)).getContent());
+		double offsetLast = measure(() -> transactionRepository.searchTransactionCustom(req, PageRequest.of(ROWS / PAGE_SIZE - 1, PAGE_SIZE)).getContent());
+		double cursorFirst = measure(() -> transactionRepository.searchTransactionCursorCustom(req, null, PAGE_SIZE, false).getContent());
+		double cursorLast = measure(() -> transactionRepository.searchTransactionCursorCustom(req, deepCursor, PAGE_SIZE, false).getContent());
+
+		System.out.printf("[benchmark] search rows=%d page=%d offset first=%.1fms last=%.1fms | cursor first=%.1fms last=%.1fms%n",
+				ROWS, PAGE_SIZE, offsetFirst, offsetLast, cursorFirst, cursorLast);
+
+		TransactionCursorPageDto last = transactionRepository.searchTransactionCursorCustom(req, deepCursor, PAGE_SIZE, true);
+		assertThat(last.getContent()).hasSize(PAGE_SIZE - 1);
+		assertThat(last.isHasNext()).isFalse();
+		assertThat(last.getTotalElements()).isEqualTo(ROWS);
+	}
+
+	@Test
+	void cursorVisitsEveryRowOnce() {
+		// createdAt이 같은 행이 여러 개여도 id로 순서가 정해져서 빠지거나 겹치지 않아야 함
+		LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+		int rows = 1_003;
+		TransactionSearchRequestDto req = prepare(rows, i -> base.plusSeconds(i / 7));
+
+		for (TransactionSearchRequestDto ordered : List.of(req, oldest(req))) {
+			Set<UUID> seen = new HashSet<>();
+			String cursor = null;
+			do {
+				TransactionCursorPageDto page = transactionRepository.searchTransactionCursorCustom(ordered, TransactionSearchCursor.decode(cursor), 50, false);
+				page.getContent().forEach(row -> assertThat(seen.add(row.getTransactionId())).isTrue());
+				cursor = page.getNextCursor();
+			} while (cursor != null);
+			assertThat(seen).hasSize(rows);
+		}
+	}
+
+	// 관리자, 은행, 계좌 하나를 만들고 그 계좌로 입금 거래내역 rows개
+	private TransactionSearchRequestDto prepare(int rows, IntFunction<LocalDateTime> createdAt) {
+		UUID adminId = UUID.randomUUID();
+		UUID apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		Bank bank = bankRepository.save(Bank.builder().name("paging").adminId(adminId).build());
+		String accountId = "paging-" + UUID.randomUUID();
+		accountRepository.save(Account.builder().id(accountId).balance(0L).bankId(bank.getId()).build());
+
+		for (int start = 0; start < rows; start += CHUNK) {
+			List<TransactionResponseDto> chunk = new ArrayList<>(CHUNK);
+			for (int i = start; i < Math.min(start + CHUNK, rows); i++) {
+				chunk.add(TransactionResponseDto.builder()
+						.transactionId(UUID.randomUUID())
+						.amount((long) i)
+						.depositorName("paging")
+						.toAccount(accountId)
+						.toBankId(bank.getId())
+						.createdAt(createdAt.apply(i))
+						.updatedAt(createdAt.apply(i))
+						.build());
+			}
+			transactionTemplate.executeWithoutResult(status -> transactionBulkRepository.insertAll(chunk));
+		}
+		return TransactionSearchRequestDto.builder().apiKey(apiKey).bankId(bank.getId()).orderBy(TransactionOrderBy.LATEST).build();
+	}
+
+	private TransactionSearchRequestDto oldest(TransactionSearchRequestDto req) {
+		return TransactionSearchRequestDto.builder().apiKey(req.getApiKey()).bankId(req.getBankId()).orderBy(TransactionOrderBy.OLDEST).build();
+	}
+
+	// 워밍업 1번 후 평균 (ms)
+	private double measure(Supplier<List<TransactionSearchResponseDto>> page) {
+		page.get();
+		long start = System.nanoTime();
+		for (int i = 0; i < REPEAT; i++) {
+			assertThat(page.get()).isNotEmpty();
+		}
+		return (System.nanoTime() - start) / 1_000_000.0 / REPEAT;
+	}
+}
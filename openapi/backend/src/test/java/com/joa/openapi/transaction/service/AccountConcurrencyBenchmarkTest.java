@@ -0,0 +1,107 @@
+package com.joa.openapi.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.member.entity.Member;
+import com.joa.openapi.member.repository.MemberRepository;
+import com.joa.openapi.transaction.dto.req.TransactionRequestDto;
+import com.joa.openapi.transaction.enums.ConcurrencyMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 소수의 계좌에 이체를 몰아서 모드별 처리량과 잔액 보존 여부 측정 (./gradlew benchmark)
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountConcurrencyBenchmarkTest {
+
+	private static final int ACCOUNTS = 4;
+	private static final int THREADS = 16;
+	private static final int TRANSFERS = 2000;
+	private static final long INITIAL_BALANCE = 1_000_000L;
+
+	@Autowired
+	private TransactionService transactionService;
+	@Autowired
+	private AccountConcurrencyControl accountConcurrencyControl;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@ParameterizedTest
+	@EnumSource(ConcurrencyMode.class)
+	void sendUnderContention(ConcurrencyMode mode) throws InterruptedException {
+		ReflectionTestUtils.setField(accountConcurrencyControl, "mode", mode);
+
+		UUID adminId = UUID.randomUUID();
+		UUID apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		Bank bank = bankRepository.save(Bank.builder().name("bench").adminId(adminId).build());
+		Member member = memberRepository.save(Member.builder().name("bench").bank(bank).build());
+
+		List<String> accountIds = new ArrayList<>();
+		for (int i = 0; i < ACCOUNTS; i++) {
+			String id = mode.name().charAt(0) + String.format("%012d", i);
+			accountRepository.save(Account.builder().id(id).balance(INITIAL_BALANCE).bankId(bank.getId()).holder(member).build());
+			accountIds.add(id);
+		}
+
+		AtomicInteger success = new AtomicInteger();
+		AtomicInteger conflict = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		long start = System.nanoTime();
+		for (int i = 0; i < TRANSFERS; i++) {
+			executor.submit(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				int from = random.nextInt(ACCOUNTS);
+				int to = (from + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+				TransactionRequestDto req = TransactionRequestDto.builder()
+						.amount(1L)
+						.depositorName("bench")
+						.fromAccount(accountIds.get(from))
+						.toAccount(accountIds.get(to))
+						.build();
+				try {
+					accountConcurrencyControl.execute(() -> transactionService.send(apiKey, req));
+					success.incrementAndGet();
+				} catch (RestApiException e) {
+					conflict.incrementAndGet();
+				}
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+		long total = accountRepository.findAllById(accountIds).stream().mapToLong(Account::getBalance).sum();
+		System.out.printf("[benchmark] mode=%s threads=%d accounts=%d transfers=%d success=%d conflict=%d elapsed=%.2fs tps=%.1f%n",
+				mode, THREADS, ACCOUNTS, TRANSFERS, success.get(), conflict.get(), seconds, success.get() / seconds);
+
+		assertThat(total).isEqualTo(INITIAL_BALANCE * ACCOUNTS);
+		assertThat(success.get() + conflict.get()).isEqualTo(TRANSFERS);
+	}
+}
@@ -0,0 +1,106 @@
+package com.joa.openapi.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.member.entity.Member;
+import com.joa.openapi.member.repository.MemberRepository;
+import com.joa.openapi.transaction.dto.req.TransactionRequestDto;
+import com.joa.openapi.transaction.enums.ConcurrencyMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 모드별로 적은 수의 동시 이체 후 잔액 합계가 그대로이고 음수 잔액이 없는지 확인 (처리량은 AccountConcurrencyBenchmarkTest)
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountConcurrencyTest {
+
+	private static final int ACCOUNTS = 3;
+	private static final int THREADS = 4;
+	private static final int TRANSFERS = 60;
+	// 이체 몇 번이면 바닥나도록 작게, 잔액 부족 거절도 함께 확인
+	private static final long INITIAL_BALANCE = 5L;
+	private static final long AMOUNT = 2L;
+
+	@Autowired
+	private TransactionService transactionService;
+	@Autowired
+	private AccountConcurrencyControl accountConcurrencyControl;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@ParameterizedTest
+	@EnumSource(ConcurrencyMode.class)
+	void concurrentSendsKeepTotalBalance(ConcurrencyMode mode) throws InterruptedException {
+		Object previous = ReflectionTestUtils.getField(accountConcurrencyControl, "mode");
+		ReflectionTestUtils.setField(accountConcurrencyControl, "mode", mode);
+		try {
+			UUID adminId = UUID.randomUUID();
+			UUID apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+			Bank bank = bankRepository.save(Bank.builder().name("concurrency").adminId(adminId).build());
+			Member member = memberRepository.save(Member.builder().name("concurrency").bank(bank).build());
+
+			List<String> accountIds = new ArrayList<>();
+			for (int i = 0; i < ACCOUNTS; i++) {
+				String id = "C" + mode.name().charAt(0) + String.format("%011d", i);
+				accountRepository.save(Account.builder().id(id).balance(INITIAL_BALANCE).bankId(bank.getId()).holder(member).build());
+				accountIds.add(id);
+			}
+
+			AtomicInteger success = new AtomicInteger();
+			AtomicInteger rejected = new AtomicInteger();
+			ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+			for (int i = 0; i < TRANSFERS; i++) {
+				int from = i % ACCOUNTS;
+				int to = (i + 1 + i / ACCOUNTS % (ACCOUNTS - 1)) % ACCOUNTS;
+				TransactionRequestDto req = TransactionRequestDto.builder()
+						.amount(AMOUNT)
+						.depositorName("concurrency")
+						.fromAccount(accountIds.get(from))
+						.toAccount(accountIds.get(to))
+						.build();
+				executor.submit(() -> {
+					try {
+						accountConcurrencyControl.execute(() -> transactionService.send(apiKey, req));
+						success.incrementAndGet();
+					} catch (RestApiException e) {
+						rejected.incrementAndGet();
+					}
+				});
+			}
+			executor.shutdown();
+			assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+			List<Account> accounts = accountRepository.findAllById(accountIds);
+			assertThat(accounts).hasSize(ACCOUNTS).allSatisfy(account -> assertThat(account.getBalance()).isNotNegative());
+			assertThat(accounts.stream().mapToLong(Account::getBalance).sum()).isEqualTo(INITIAL_BALANCE * ACCOUNTS);
+			assertThat(success.get() + rejected.get()).isEqualTo(TRANSFERS);
+			assertThat(success.get()).isPositive();
+		} finally {
+			ReflectionTestUtils.setField(accountConcurrencyControl, "mode", previous);
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.joa.openapi.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.transaction.dto.req.Transaction1wonConfirmRequestDto;
+import com.joa.openapi.transaction.dto.req.Transaction1wonRequestDto;
+import com.joa.openapi.transaction.dto.res.Transaction1wonResponseDto;
+import com.joa.openapi.transaction.entity.Transaction;
+import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
+import com.joa.openapi.transaction.repository.TransactionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Optional;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OneWonVerificationServiceTest {
+
+	@Autowired
+	private OneWonVerificationService oneWonVerificationService;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private TransactionRepository transactionRepository;
+	@Autowired
+	private OneWonChallengeStore oneWonChallengeStore;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Value("${transaction.one-won.max-attempts}")
+	private int maxAttempts;
+
+	private String accountId;
+
+	@BeforeEach
+	void setUp() {
+		accountId = "one-won-" + UUID.randomUUID();
+		accountRepository.save(Account.builder().id(accountId).balance(0L).bankId(UUID.randomUUID()).build());
+	}
+
+	@Test
+	void depositsOneWonInBackgroundAndConfirmsOnce() throws InterruptedException {
+		Transaction1wonResponseDto sent = oneWonVerificationService.send(UUID.randomUUID(), new Transaction1wonRequestDto(accountId));
+
+		Transaction transaction = awaitTransaction(sent.getTransactionId());
+		assertThat(transaction.getAmount()).isEqualTo(1L);
+		assertThat(transaction.getDepositorName()).isEqualTo(sent.getWord());
+		assertThat(accountRepository.findById(accountId).orElseThrow().getBalance()).isEqualTo(1L);
+
+		// 확인은 DB를 조회하지 않음
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		assertConfirmFails(sent.getTransactionId(), "오답", TransactionErrorCode.MiSMATCH);
+		oneWonVerificationService.confirm(new Transaction1wonConfirmRequestDto(sent.getWord(), sent.getTransactionId()));
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+
+		// 한 번 확인한 인증은 다시 쓸 수 없음
+		assertConfirmFails(sent.getTransactionId(), sent.getWord(), TransactionErrorCode.ONE_WON_EXPIRED);
+	}
+
+	@Test
+	void locksAfterMaxAttempts() {
+		Transaction1wonResponseDto sent = oneWonVerificationService.send(UUID.randomUUID(), new Transaction1wonRequestDto(accountId));
+
+		for (int i = 1; i < maxAttempts; i++) {
+			assertConfirmFails(sent.getTransactionId(), "오답", TransactionErrorCode.MiSMATCH);
+		}
+		assertConfirmFails(sent.getTransactionId(), "오답", TransactionErrorCode.ONE_WON_TOO_MANY_ATTEMPTS);
+		assertConfirmFails(sent.getTransactionId(), sent.getWord(), TransactionErrorCode.ONE_WON_EXPIRED);
+	}
+
+	// 보관소에 바로 넣은 인증을 확인하는 데 걸리는 시간 (./gradlew benchmark)
+	@Tag("benchmark")
+	@Test
+	void confirmLatency() {
+		int rounds = 100_000;
+		UUID[] ids = new UUID[rounds];
+		for (int i = 0; i < rounds; i++) {
+			ids[i] = UUID.randomUUID();
+			oneWonChallengeStore.save(ids[i], "단어" + (i % 10));
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < rounds; i++) {
+			oneWonVerificationService.confirm(new Transaction1wonConfirmRequestDto("단어" + (i % 10), ids[i]));
+		}
+		double micros = (System.nanoTime() - start) / 1_000.0 / rounds;
+		System.out.printf("[benchmark] one-won confirm store=%s per confirm=%.2fus%n", oneWonChallengeStore.getClass().getSimpleName(), micros);
+	}
+
+	private void assertConfirmFails(UUID transactionId, String word, TransactionErrorCode errorCode) {
+		assertThatThrownBy(() -> oneWonVerificationService.confirm(new Transaction1wonConfirmRequestDto(word, transactionId)))
+				.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(errorCode));
+	}
+
+	private Transaction awaitTransaction(UUID transactionId) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			Optional<Transaction> transaction = transactionRepository.findById(transactionId);
+			if (transaction.isPresent()) return transaction.get();
+			Thread.sleep(50);
+		}
+		throw new AssertionError("1원 입금이 반영되지 않음 " + transactionId);
+	}
+}
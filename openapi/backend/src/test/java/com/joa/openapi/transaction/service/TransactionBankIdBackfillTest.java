@@ -0,0 +1,123 @@
+package com.joa.openapi.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.util.UuidBytes;
+import com.joa.openapi.transaction.dto.req.TransactionSearchRequestDto;
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.dto.res.TransactionSearchResponseDto;
+import com.joa.openapi.transaction.entity.Transaction;
+import com.joa.openapi.transaction.repository.TransactionBulkRepository;
+import com.joa.openapi.transaction.repository.TransactionRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionBankIdBackfillTest {
+
+	@Autowired
+	private TransactionBankIdBackfill transactionBankIdBackfill;
+	@Autowired
+	private TransactionBulkRepository transactionBulkRepository;
+	@Autowired
+	private TransactionRepository transactionRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+
+	@Test
+	void fillsBankIdsInChunks() {
+		UUID fromBankId = UUID.randomUUID();
+		UUID toBankId = UUID.randomUUID();
+		String from = "backfill-" + UUID.randomUUID();
+		String to = "backfill-" + UUID.randomUUID();
+		accountRepository.save(Account.builder().id(from).balance(0L).bankId(fromBankId).build());
+		accountRepository.save(Account.builder().id(to).balance(0L).bankId(toBankId).build());
+
+		// 은행 id 없이 쌓인 과거 거래: 이체, 입금, 없는 계좌로의 입금
+		LocalDateTime now = LocalDateTime.now();
+		List<TransactionResponseDto> rows = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			rows.add(row(from, to, now));
+		}
+		rows.add(row(null, to, now));
+		rows.add(row(null, "backfill-missing", now));
+		transactionTemplate.executeWithoutResult(status -> transactionBulkRepository.insertAll(rows));
+
+		ReflectionTestUtils.setField(transactionBankIdBackfill, "chunkSize", 3);
+		ReflectionTestUtils.setField(transactionBankIdBackfill, "pauseMillis", 0L);
+		long scanned = transactionBankIdBackfill.run();
+		assertThat(scanned).isGreaterThanOrEqualTo(rows.size());
+
+		List<Transaction> transactions = transactionRepository.findAllById(rows.stream().map(TransactionResponseDto::getTransactionId).toList());
+		assertThat(transactions).hasSize(rows.size());
+		for (Transaction transaction : transactions) {
+			assertThat(transaction.getFromBankId()).isEqualTo(transaction.getFromAccount() == null ? null : fromBankId);
+			assertThat(transaction.getToBankId()).isEqualTo(to.equals(transaction.getToAccount()) ? toBankId : null);
+		}
+
+		// 다시 돌리면 계좌가 없어서 못 채운 거래만 다시 읽음 (같은 DB를 쓰는 다른 테스트의 거래도 포함되므로 처음보다 적은지만 확인)
+		assertThat(transactionBankIdBackfill.run()).isLessThan(scanned);
+	}
+
+	@Test
+	void searchFallsBackToAccountsUntilBackfilled() {
+		UUID adminId = UUID.randomUUID();
+		UUID apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		UUID bankId = bankRepository.save(Bank.builder().name("backfill").adminId(adminId).build()).getId();
+		String to = "backfill-" + UUID.randomUUID();
+		accountRepository.save(Account.builder().id(to).balance(0L).bankId(bankId).build());
+		TransactionResponseDto old = row(null, to, LocalDateTime.now());
+		transactionTemplate.executeWithoutResult(status -> transactionBulkRepository.insertAll(List.of(old)));
+		TransactionSearchRequestDto req = TransactionSearchRequestDto.builder().apiKey(apiKey).bankId(bankId).build();
+
+		boolean completed = transactionBankIdBackfill.isCompleted();
+		try {
+			// 채우기 전에는 계좌의 은행으로 찾음
+			ReflectionTestUtils.setField(transactionBankIdBackfill, "completed", false);
+			assertThat(transactionRepository.searchTransactionCustom(req, PageRequest.of(0, 10)).getContent())
+					.extracting(TransactionSearchResponseDto::getTransactionId).containsExactly(old.getTransactionId());
+
+			// 채운 뒤에는 거래의 은행 id로만 찾음
+			transactionTemplate.executeWithoutResult(status -> transactionBulkRepository.fillBankIds(List.of(UuidBytes.toBytes(old.getTransactionId()))));
+			ReflectionTestUtils.setField(transactionBankIdBackfill, "completed", true);
+			assertThat(transactionRepository.searchTransactionCustom(req, PageRequest.of(0, 10)).getContent())
+					.extracting(TransactionSearchResponseDto::getTransactionId).containsExactly(old.getTransactionId());
+		} finally {
+			ReflectionTestUtils.setField(transactionBankIdBackfill, "completed", completed);
+		}
+	}
+
+	private TransactionResponseDto row(String from, String to, LocalDateTime now) {
+		return TransactionResponseDto.builder()
+				.transactionId(UUID.randomUUID())
+				.amount(1L)
+				.depositorName("backfill")
+				.fromAccount(from)
+				.toAccount(to)
+				.createdAt(now)
+				.updatedAt(now)
+				.build();
+	}
+}
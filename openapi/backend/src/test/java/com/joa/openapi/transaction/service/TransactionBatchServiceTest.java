@@ -0,0 +1,155 @@
+package com.joa.openapi.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.errorcode.CommonErrorCode;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.transaction.dto.req.TransactionBatchRequestDto;
+import com.joa.openapi.transaction.dto.req.TransactionRequestDto;
+import com.joa.openapi.transaction.dto.res.TransactionBatchItemResponseDto;
+import com.joa.openapi.transaction.dto.res.TransactionBatchResponseDto;
+import com.joa.openapi.transaction.enums.TransactionBatchMode;
+import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionBatchServiceTest {
+
+	@Autowired
+	private TransactionBatchService transactionBatchService;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UUID apiKey;
+	private UUID bankId;
+
+	@BeforeEach
+	void setUp() {
+		UUID adminId = UUID.randomUUID();
+		apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		bankId = bankRepository.save(Bank.builder().name("batch").adminId(adminId).build()).getId();
+	}
+
+	@Test
+	void atomicBatchCancelsEveryItemWhenOneFails() {
+		String from = account(bankId, 1_000L);
+		String to = account(bankId, 0L);
+
+		TransactionBatchResponseDto res = batch(TransactionBatchMode.ATOMIC,
+				send(from, to, 100L),
+				send(from, to, 5_000L), // 잔액 부족
+				deposit(to, 10L));
+
+		assertThat(res.getSucceeded()).isZero();
+		assertThat(res.getResults()).extracting(TransactionBatchItemResponseDto::getErrorCode).containsExactly(
+				TransactionErrorCode.BATCH_CANCELLED.name(), TransactionErrorCode.NO_BALANCE.name(), TransactionErrorCode.BATCH_CANCELLED.name());
+		assertThat(balance(from)).isEqualTo(1_000L);
+		assertThat(balance(to)).isZero();
+		assertThat(transactionCount(from, to)).isZero();
+	}
+
+	@Test
+	void bestEffortBatchAppliesSucceededItems() {
+		String from = account(bankId, 1_000L);
+		String to = account(bankId, 0L);
+
+		TransactionBatchResponseDto res = batch(TransactionBatchMode.BEST_EFFORT,
+				send(from, to, 100L),
+				send(from, to, 5_000L), // 잔액 부족
+				deposit(to, 10L));
+
+		assertThat(res.getResults()).extracting(TransactionBatchItemResponseDto::getSuccess).containsExactly(true, false, true);
+		assertThat(res.getResults().get(1).getErrorCode()).isEqualTo(TransactionErrorCode.NO_BALANCE.name());
+		assertThat(balance(from)).isEqualTo(900L);
+		assertThat(balance(to)).isEqualTo(110L);
+		assertThat(transactionCount(from, to)).isEqualTo(2);
+	}
+
+	@Test
+	void overdraftIsCheckedAgainstRunningBalance() {
+		String from = account(bankId, 1_000L);
+		String to = account(bankId, 0L);
+
+		// 한 건씩은 잔액 안이지만 세 번째에서 앞의 출금까지 합치면 부족, 입금된 금액은 바로 다음 출금에 사용 가능
+		TransactionBatchResponseDto res = batch(TransactionBatchMode.BEST_EFFORT,
+				withdraw(from, 600L),
+				send(from, to, 300L),
+				withdraw(from, 200L),
+				send(to, from, 300L),
+				withdraw(from, 200L));
+
+		assertThat(res.getResults()).extracting(TransactionBatchItemResponseDto::getSuccess).containsExactly(true, true, false, true, true);
+		List<TransactionBatchItemResponseDto> results = res.getResults();
+		assertThat(results.get(1).getTransaction().getFromPrevBalance()).isEqualTo(400L);
+		assertThat(results.get(1).getTransaction().getFromBalance()).isEqualTo(100L);
+		assertThat(results.get(4).getTransaction().getFromPrevBalance()).isEqualTo(400L);
+		assertThat(balance(from)).isEqualTo(200L);
+		assertThat(balance(to)).isZero();
+	}
+
+	@Test
+	void itemOfOtherAdminsBankIsRejected() {
+		UUID otherBankId = bankRepository.save(Bank.builder().name("batch-other").adminId(UUID.randomUUID()).build()).getId();
+		String own = account(bankId, 1_000L);
+		String other = account(otherBankId, 1_000L);
+
+		// 출금 계좌의 은행 권한, 입금만 있으면 입금 계좌의 은행 권한
+		TransactionBatchResponseDto res = batch(TransactionBatchMode.BEST_EFFORT,
+				send(other, own, 100L),
+				deposit(other, 100L),
+				send(own, other, 100L));
+
+		assertThat(res.getResults()).extracting(TransactionBatchItemResponseDto::getErrorCode).containsExactly(
+				CommonErrorCode.NO_AUTHORIZATION.name(), CommonErrorCode.NO_AUTHORIZATION.name(), null);
+		assertThat(balance(own)).isEqualTo(900L);
+		assertThat(balance(other)).isEqualTo(1_100L);
+	}
+
+	private TransactionBatchResponseDto batch(TransactionBatchMode mode, TransactionRequestDto... items) {
+		return transactionBatchService.batch(apiKey, TransactionBatchRequestDto.builder().mode(mode).transactions(List.of(items)).build());
+	}
+
+	private TransactionRequestDto send(String from, String to, long amount) {
+		return TransactionRequestDto.builder().fromAccount(from).toAccount(to).amount(amount).build();
+	}
+
+	private TransactionRequestDto deposit(String to, long amount) {
+		return TransactionRequestDto.builder().toAccount(to).amount(amount).build();
+	}
+
+	private TransactionRequestDto withdraw(String from, long amount) {
+		return TransactionRequestDto.builder().fromAccount(from).amount(amount).build();
+	}
+
+	private String account(UUID bankId, long balance) {
+		return accountRepository.save(Account.builder().id("batch-" + UUID.randomUUID()).balance(balance).bankId(bankId).build()).getId();
+	}
+
+	private long balance(String accountId) {
+		return accountRepository.findById(accountId).orElseThrow().getBalance();
+	}
+
+	private int transactionCount(String from, String to) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction WHERE from_account IN (?, ?) OR to_account IN (?, ?)",
+				Integer.class, from, to, from, to);
+	}
+}
@@ -0,0 +1,144 @@
+package com.joa.openapi.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.exception.RestApiException;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.transaction.dto.req.TransactionSearchRequestDto;
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.enums.TransactionExportFormat;
+import com.joa.openapi.transaction.errorcode.TransactionErrorCode;
+import com.joa.openapi.transaction.repository.TransactionBulkRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionExportServiceTest {
+
+	private static final int ROWS = 25;
+
+	@Autowired
+	private TransactionExportService transactionExportService;
+	@Autowired
+	private TransactionBulkRepository transactionBulkRepository;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private UUID apiKey;
+	private UUID bankId;
+
+	@BeforeEach
+	void setUp() {
+		UUID adminId = UUID.randomUUID();
+		apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		bankId = bankRepository.save(Bank.builder().name("export").adminId(adminId).build()).getId();
+
+		LocalDateTime now = LocalDateTime.now();
+		List<TransactionResponseDto> rows = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			rows.add(TransactionResponseDto.builder()
+					.transactionId(UUID.randomUUID())
+					.amount((long) i)
+					.depositorName(i == 0 ? "김,\"조아\"" : "export")
+					.toAccount("export-" + i)
+					.toBankId(bankId)
+					.createdAt(now.minusSeconds(i))
+					.updatedAt(now)
+					.build());
+		}
+		transactionTemplate.executeWithoutResult(status -> transactionBulkRepository.insertAll(rows));
+
+		// 영속성 컨텍스트를 여러 번 비우도록 작게
+		ReflectionTestUtils.setField(AopTestUtils.<Object>getTargetObject(transactionExportService), "fetchSize", 10);
+	}
+
+	@Test
+	void exportsEveryRowAsNdjson() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertThat(transactionExportService.export(request(bankId), TransactionExportFormat.NDJSON, out)).isEqualTo(ROWS);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(lines).hasSize(ROWS);
+		Set<String> ids = new HashSet<>();
+		for (String line : lines) {
+			JsonNode row = objectMapper.readTree(line);
+			assertThat(row.get("toBankId").asText()).isEqualTo(bankId.toString());
+			ids.add(row.get("transactionId").asText());
+		}
+		assertThat(ids).hasSize(ROWS);
+	}
+
+	@Test
+	void exportsCsvWithEscaping() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		transactionExportService.export(request(bankId), TransactionExportFormat.CSV, out);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(lines).hasSize(ROWS + 1);
+		assertThat(lines[0]).startsWith("\uFEFFtransactionId,amount,depositorName");
+		// 최신순이라 첫 행이 i == 0
+		assertThat(lines[1]).contains(",0,\"김,\"\"조아\"\"\",");
+	}
+
+	@Test
+	void exportsNothingForOtherAdminsBank() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertThat(transactionExportService.export(request(UUID.randomUUID()), TransactionExportFormat.NDJSON, out)).isZero();
+		assertThat(out.size()).isZero();
+	}
+
+	@Test
+	void rejectsExportsOverLimit() {
+		int maxConcurrent = 0;
+		try {
+			while (maxConcurrent < 100) {
+				transactionExportService.acquire();
+				maxConcurrent++;
+			}
+		} catch (RestApiException e) {
+			assertThat(e.getErrorCode()).isEqualTo(TransactionErrorCode.EXPORT_BUSY);
+		} finally {
+			for (int i = 0; i < maxConcurrent; i++) transactionExportService.release();
+		}
+		assertThat(maxConcurrent).isEqualTo(4);
+	}
+
+	@Test
+	void parsesFormatParameter() {
+		assertThat(TransactionExportFormat.from(null)).isEqualTo(TransactionExportFormat.NDJSON);
+		assertThat(TransactionExportFormat.from("csv")).isEqualTo(TransactionExportFormat.CSV);
+		assertThatThrownBy(() -> TransactionExportFormat.from("xlsx"))
+				.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(TransactionErrorCode.INVALID_EXPORT_FORMAT));
+	}
+
+	private TransactionSearchRequestDto request(UUID bankId) {
+		return TransactionSearchRequestDto.builder().apiKey(apiKey).bankId(bankId).build();
+	}
+}
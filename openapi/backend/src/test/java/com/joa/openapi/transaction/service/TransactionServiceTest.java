@@ -0,0 +1,168 @@
+package com.joa.openapi.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.joa.openapi.account.entity.Account;
+import com.joa.openapi.account.repository.AccountRepository;
+import com.joa.openapi.bank.entity.Bank;
+import com.joa.openapi.bank.repository.BankRepository;
+import com.joa.openapi.common.entity.Api;
+import com.joa.openapi.common.repository.ApiRepository;
+import com.joa.openapi.common.util.UuidBytes;
+import com.joa.openapi.transaction.dto.req.TransactionRequestDto;
+import com.joa.openapi.transaction.dto.req.TransactionSearchRequestDto;
+import com.joa.openapi.transaction.dto.req.TransactionUpdateRequestDto;
+import com.joa.openapi.transaction.dto.res.TransactionCursorPageDto;
+import com.joa.openapi.transaction.dto.res.TransactionResponseDto;
+import com.joa.openapi.transaction.dto.res.TransactionSearchResponseDto;
+import com.joa.openapi.transaction.entity.Transaction;
+import com.joa.openapi.transaction.enums.ConcurrencyMode;
+import com.joa.openapi.transaction.repository.TransactionBulkRepository;
+import com.joa.openapi.transaction.repository.TransactionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionServiceTest {
+
+	@Autowired
+	private TransactionService transactionService;
+	@Autowired
+	private TransactionRepository transactionRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private ApiRepository apiRepository;
+	@Autowired
+	private BankRepository bankRepository;
+	@Autowired
+	private TransactionBulkRepository transactionBulkRepository;
+	@Autowired
+	private TransactionBankIdBackfill transactionBankIdBackfill;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private AccountConcurrencyControl accountConcurrencyControl;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void refundKeepsBankIdsOfBothAccounts() {
+		UUID adminId = UUID.randomUUID();
+		UUID apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		UUID fromBankId = bankRepository.save(Bank.builder().name("refund-from").adminId(adminId).build()).getId();
+		UUID toBankId = bankRepository.save(Bank.builder().name("refund-to").adminId(adminId).build()).getId();
+		String from = account(fromBankId);
+		String to = account(toBankId);
+
+		TransactionResponseDto sent = transactionService.send(apiKey,
+				TransactionRequestDto.builder().fromAccount(from).toAccount(to).amount(100L).depositorName("refund").build());
+		transactionService.refund(sent.getTransactionId(),
+				TransactionUpdateRequestDto.builder().fromAccount(from).toAccount(to).amount(40L).depositorName("refund").build());
+
+		Transaction refunded = transactionRepository.findById(sent.getTransactionId()).orElseThrow();
+		assertThat(refunded.getFromAccount()).isEqualTo(from);
+		assertThat(refunded.getFromBankId()).isEqualTo(fromBankId);
+		assertThat(refunded.getToAccount()).isEqualTo(to);
+		assertThat(refunded.getToBankId()).isEqualTo(toBankId);
+	}
+
+	@Test
+	void atomicDepositUpdatesWithoutReadingAccount() {
+		UUID adminId = UUID.randomUUID();
+		UUID apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		String to = account(bankRepository.save(Bank.builder().name("atomic").adminId(adminId).build()).getId());
+		ConcurrencyMode mode = accountConcurrencyControl.getMode();
+		ReflectionTestUtils.setField(accountConcurrencyControl, "mode", ConcurrencyMode.ATOMIC);
+		try {
+			transactionService.deposit(apiKey, TransactionRequestDto.builder().toAccount(to).amount(1L).build());
+
+			// 계좌의 은행(권한 확인)은 캐시, 잔액은 조건부 UPDATE 후 기본 키로 잔액만 조회, 거래 INSERT
+			Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+			statistics.clear();
+			TransactionResponseDto deposit = transactionService.deposit(apiKey, TransactionRequestDto.builder().toAccount(to).amount(10L).build());
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+			assertThat(deposit.getToPrevBalance()).isEqualTo(1_001L);
+			assertThat(deposit.getToBalance()).isEqualTo(1_011L);
+		} finally {
+			ReflectionTestUtils.setField(accountConcurrencyControl, "mode", mode);
+		}
+	}
+
+	@Test
+	void searchMergesWithdrawalsAndDepositsOfBank() {
+		UUID adminId = UUID.randomUUID();
+		UUID apiKey = apiRepository.save(Api.builder().adminId(adminId).build()).getApiKey();
+		UUID bankId = bankRepository.save(Bank.builder().name("search").adminId(adminId).build()).getId();
+		UUID otherBankId = UUID.randomUUID();
+
+		// 출금, 입금, 은행 안 이체(한 번만), 다른 은행끼리의 이체(제외), 같은 시각에 생성된 거래는 id 순
+		LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusHours(1);
+		List<TransactionResponseDto> rows = List.of(
+				row(bankId, otherBankId, base.plusSeconds(1)),
+				row(otherBankId, bankId, base.plusSeconds(2)),
+				row(bankId, bankId, base.plusSeconds(3)),
+				row(null, bankId, base.plusSeconds(3)),
+				row(bankId, null, base.plusSeconds(4)),
+				row(otherBankId, bankId, base.plusSeconds(5)),
+				row(otherBankId, otherBankId, base.plusSeconds(6)));
+		transactionTemplate.executeWithoutResult(status -> transactionBulkRepository.insertAll(rows));
+		List<UUID> expected = rows.stream()
+				.filter(row -> bankId.equals(row.getFromBankId()) || bankId.equals(row.getToBankId()))
+				.sorted(Comparator.comparing(TransactionResponseDto::getCreatedAt)
+						.thenComparing(row -> UuidBytes.toBytes(row.getTransactionId()), Arrays::compareUnsigned)
+						.reversed())
+				.map(TransactionResponseDto::getTransactionId)
+				.toList();
+
+		// 은행 id 채우기가 끝나면 출금 쪽, 입금 쪽을 나눠 읽어서 합침
+		boolean completed = transactionBankIdBackfill.isCompleted();
+		ReflectionTestUtils.setField(transactionBankIdBackfill, "completed", true);
+		try {
+			TransactionSearchRequestDto req = TransactionSearchRequestDto.builder().apiKey(apiKey).bankId(bankId).build();
+			List<UUID> walked = new ArrayList<>();
+			String cursor = null;
+			do {
+				TransactionCursorPageDto page = transactionService.searchByCursor(req, cursor, 2, cursor == null);
+				if (cursor == null) assertThat(page.getTotalElements()).isEqualTo(expected.size());
+				page.getContent().forEach(transaction -> walked.add(transaction.getTransactionId()));
+				cursor = page.getNextCursor();
+			} while (cursor != null);
+			assertThat(walked).containsExactlyElementsOf(expected);
+
+			Page<TransactionSearchResponseDto> second = transactionService.search(req, PageRequest.of(1, 2));
+			assertThat(second.getTotalElements()).isEqualTo(expected.size());
+			assertThat(second.getContent()).extracting(TransactionSearchResponseDto::getTransactionId).containsExactlyElementsOf(expected.subList(2, 4));
+		} finally {
+			ReflectionTestUtils.setField(transactionBankIdBackfill, "completed", completed);
+		}
+	}
+
+	private TransactionResponseDto row(UUID fromBankId, UUID toBankId, LocalDateTime createdAt) {
+		return TransactionResponseDto.builder().transactionId(UUID.randomUUID()).amount(1L).depositorName("search")
+				.fromAccount(fromBankId == null ? null : "search-" + UUID.randomUUID()).fromBankId(fromBankId)
+				.toAccount(toBankId == null ? null : "search-" + UUID.randomUUID()).toBankId(toBankId)
+				.createdAt(createdAt).updatedAt(createdAt).build();
+	}
+
+	private String account(UUID bankId) {
+		return accountRepository.save(Account.builder().id("refund-" + UUID.randomUUID()).balance(1_000L).bankId(bankId).build()).getId();
+	}
+}